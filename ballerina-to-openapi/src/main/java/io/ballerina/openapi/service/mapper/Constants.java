@@ -57,6 +57,7 @@ public final class Constants {
     public static final String OPTIONS = "OPTIONS";
     public static final String HEAD = "HEAD";
     public static final String OPENAPI_SUFFIX = "_openapi";
+    public static final String SHARED_COMPONENTS_FILE_NAME = "components";
     public static final String SERVER = "server";
     public static final String PORT = "port";
     public static final String HTTP_REQUEST = "http:Request";
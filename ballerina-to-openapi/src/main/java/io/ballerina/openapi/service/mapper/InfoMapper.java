@@ -36,7 +36,7 @@ import io.ballerina.openapi.service.mapper.diagnostic.ExceptionDiagnostic;
 import io.ballerina.openapi.service.mapper.diagnostic.OpenAPIMapperDiagnostic;
 import io.ballerina.openapi.service.mapper.model.OASResult;
 import io.ballerina.openapi.service.mapper.model.OpenAPIInfo;
-import io.ballerina.openapi.service.mapper.utils.MapperCommonUtils;
+import io.ballerina.openapi.service.mapper.utils.OpenAPIContractCache;
 import io.ballerina.tools.diagnostics.Location;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
@@ -312,7 +312,13 @@ public final class InfoMapper {
             }
         }
         if (relativePath != null && Files.exists(relativePath)) {
-            oasResult = MapperCommonUtils.parseOpenAPIFile(relativePath.toString());
+            // The parsed contract is shared with the other services referring to the same contract, hence it is
+            // updated in a copy. A contract without paths is completed by mapping the service in the copy.
+            oasResult = OpenAPIContractCache.getParsedContract(relativePath);
+            if (oasResult.getOpenAPI().isPresent()) {
+                oasResult = new OASResult(OpenAPIContractCache.copyOf(oasResult.getOpenAPI().get()),
+                        oasResult.getDiagnostics());
+            }
             if (oasResult.getOpenAPI().isPresent()) {
                 openAPI = oasResult.getOpenAPI().get();
             }
@@ -19,7 +19,7 @@ package io.ballerina.openapi.service.mapper;
 
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.ServiceDeclarationSymbol;
-import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.ListenerDeclarationNode;
@@ -42,6 +42,7 @@ import io.ballerina.openapi.service.mapper.response.ResponseMapper;
 import io.ballerina.openapi.service.mapper.response.ResponseMapperWithInterceptors;
 import io.ballerina.openapi.service.mapper.type.TypeMapper;
 import io.ballerina.openapi.service.mapper.type.TypeMapperImpl;
+import io.ballerina.openapi.service.mapper.utils.HttpSubtypeOracle;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 
@@ -52,9 +53,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 
-import static io.ballerina.openapi.service.mapper.Constants.BALLERINA;
-import static io.ballerina.openapi.service.mapper.Constants.EMPTY;
-import static io.ballerina.openapi.service.mapper.Constants.HTTP;
 import static io.ballerina.openapi.service.mapper.Constants.HTTP_SERVICE_CONFIG;
 import static io.ballerina.openapi.service.mapper.Constants.INTERCEPTABLE_SERVICE;
 import static io.ballerina.openapi.service.mapper.Constants.TREAT_NILABLE_AS_OPTIONAL;
@@ -85,7 +83,9 @@ public class ServiceMapperFactory {
         this.interceptorPipeline = getInterceptorPipeline(serviceDefinition, additionalData);
 
         this.typeMapper = new TypeMapperImpl(getComponents(openAPI), additionalData);
-        this.constraintMapper = new ConstraintMapperImpl(openAPI, moduleMemberVisitor, diagnostics);
+        this.constraintMapper = new ConstraintMapperImpl(openAPI, moduleMemberVisitor, diagnostics,
+                semanticModel.symbol(serviceDefinition).flatMap(Symbol::getModule)
+                        .map(module -> module.id().moduleName()).orElse(null));
         this.hateoasMapper = new HateoasMapperImpl();
     }
 
@@ -159,13 +159,8 @@ public class ServiceMapperFactory {
         semanticModel.symbol(serviceDefinition).ifPresent(symbol -> {
             if (symbol instanceof ServiceDeclarationSymbol serviceSymbol) {
                 serviceSymbol.typeDescriptor().ifPresent(serviceType ->
-                    semanticModel.types().getTypeByName(BALLERINA, HTTP, EMPTY, INTERCEPTABLE_SERVICE).ifPresent(
-                        typeSymbol -> {
-                            if (typeSymbol instanceof TypeDefinitionSymbol interceptableServiceType) {
-                                isInterceptable[0] = serviceType.subtypeOf(interceptableServiceType.typeDescriptor());
-                            }
-                        }
-                    ));
+                    isInterceptable[0] = HttpSubtypeOracle.getInstance(semanticModel)
+                            .isSubTypeOfHttpType(serviceType, INTERCEPTABLE_SERVICE));
             }
         });
         return isInterceptable[0];
@@ -36,22 +36,37 @@ import io.ballerina.openapi.service.mapper.hateoas.HateoasMapper;
 import io.ballerina.openapi.service.mapper.model.ModuleMemberVisitor;
 import io.ballerina.openapi.service.mapper.model.OASGenerationMetaInfo;
 import io.ballerina.openapi.service.mapper.model.OASResult;
+import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import static io.ballerina.openapi.service.mapper.Constants.HYPHEN;
+import static io.ballerina.openapi.service.mapper.Constants.JSON_EXTENSION;
+import static io.ballerina.openapi.service.mapper.Constants.OPENAPI_SUFFIX;
+import static io.ballerina.openapi.service.mapper.Constants.SHARED_COMPONENTS_FILE_NAME;
+import static io.ballerina.openapi.service.mapper.Constants.UNDERSCORE;
+import static io.ballerina.openapi.service.mapper.Constants.YAML_EXTENSION;
 import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.containErrors;
 import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.getOpenApiFileName;
 import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.isHttpService;
+import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.normalizeTitle;
 
 /**
  * The ServiceToOpenAPIConverterUtils provide API for convert ballerina service into openAPI specification.
@@ -60,6 +75,13 @@ import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.isHttp
  */
 public final class ServiceToOpenAPIMapper {
 
+    // Module members of the packages of which the services are mapped, keyed by the package instance only. The key
+    // does not hold a package version: a package is immutable, and a modified package or a new version of a package
+    // is a new package instance, which is a new key. The packages which are no longer referred are released with
+    // their module members.
+    private static final Map<Package, ModuleMemberVisitor> PACKAGE_MEMBERS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
     private ServiceToOpenAPIMapper() {
     }
 
@@ -77,6 +99,26 @@ public final class ServiceToOpenAPIMapper {
                                                          SemanticModel semanticModel,
                                                          String serviceName, Boolean needJson,
                                                          Path inputPath) {
+        return generateOAS3Definition(project, syntaxTree, semanticModel, serviceName, needJson, inputPath, false);
+    }
+
+    /**
+     * This method will generate openapi definition Map lists with ballerina code. The services are mapped one after
+     * the other, since the semantic model and the type builder of the compiler are not thread-safe. In the parallel
+     * mode, the mapped definitions are serialized in parallel, which does not use the semantic model.
+     *
+     * @param syntaxTree    - Syntax tree the related to ballerina service
+     * @param semanticModel - Semantic model related to ballerina module
+     * @param serviceName   - Service name that need to generate the openAPI specification
+     * @param needJson      - Flag for enabling the generated file format with json or YAML
+     * @param inputPath     - Input file path for resolve the annotation details
+     * @param parallel      - Flag for serializing the definitions in parallel
+     * @return - {@link java.util.Map} with openAPI definitions for service nodes
+     */
+    public static List<OASResult> generateOAS3Definition(Project project, SyntaxTree syntaxTree,
+                                                         SemanticModel semanticModel,
+                                                         String serviceName, Boolean needJson,
+                                                         Path inputPath, boolean parallel) {
         Map<String, ServiceDeclarationNode> servicesToGenerate = new HashMap<>();
         List<String> availableService = new ArrayList<>();
         List<OpenAPIMapperDiagnostic> diagnostics = new ArrayList<>();
@@ -94,6 +136,7 @@ public final class ServiceToOpenAPIMapper {
                 diagnostics.add(error);
             }
             // Generating openapi specification for selected services
+            List<OASGenerationMetaInfo> servicesMetaInfo = new ArrayList<>();
             for (Map.Entry<String, ServiceDeclarationNode> serviceNode : servicesToGenerate.entrySet()) {
                 String openApiName = getOpenApiFileName(syntaxTree.filePath(), serviceNode.getKey(), needJson);
                 OASGenerationMetaInfo.OASGenerationMetaInfoBuilder builder =
@@ -103,11 +146,115 @@ public final class ServiceToOpenAPIMapper {
                         .setOpenApiFileName(openApiName)
                         .setBallerinaFilePath(inputPath)
                         .setProject(project);
-                OASGenerationMetaInfo oasGenerationMetaInfo = builder.build();
-                OASResult oasDefinition = generateOAS(oasGenerationMetaInfo);
-                oasDefinition.setServiceName(openApiName);
-                outputs.add(oasDefinition);
+                servicesMetaInfo.add(builder.build());
+            }
+            servicesMetaInfo.forEach(serviceMetaInfo -> outputs.add(generateNamedOAS(serviceMetaInfo)));
+            if (parallel) {
+                serializeInParallel(outputs, needJson);
+            }
+        }
+        if (!diagnostics.isEmpty()) {
+            OASResult exceptions = new OASResult(null, diagnostics);
+            outputs.add(exceptions);
+        }
+        return outputs;
+    }
+
+    /**
+     * This method will generate the openapi definitions of all the http services of the given package, which is
+     * compiled once for all the services. The services are mapped one after the other.
+     *
+     * @param project     - Project of the package
+     * @param serviceName - Service name that need to generate the openAPI specification
+     * @param needJson    - Flag for enabling the generated file format with json or YAML
+     * @return - openAPI definitions of the services
+     */
+    public static List<OASResult> generateOAS3DefinitionsForPackage(Project project, String serviceName,
+                                                                    Boolean needJson) {
+        return generateOAS3DefinitionsForPackage(project, serviceName, needJson, false);
+    }
+
+    /**
+     * This method will generate the openapi definitions of all the http services of the given package, which is
+     * compiled once for all the services. The services are mapped one after the other, since the semantic models of
+     * the package share the type builder of the compiler, which is not thread-safe. In the parallel mode, the mapped
+     * definitions are serialized in parallel. The definitions are ordered by the module, the document and the
+     * position of the service in the document. A definition is named after the base path of the service, or the
+     * document when the base path is `/`, prefixed with the module name for the modules other than the default
+     * module. A name taken by an earlier service is suffixed with an index, ex: `hello_openapi.yaml`,
+     * `hello_1_openapi.yaml`, hence the names are the same for every run.
+     *
+     * @param project     - Project of the package
+     * @param serviceName - Service name that need to generate the openAPI specification
+     * @param needJson    - Flag for enabling the generated file format with json or YAML
+     * @param parallel    - Flag for serializing the definitions in parallel
+     * @return - openAPI definitions of the services
+     */
+    public static List<OASResult> generateOAS3DefinitionsForPackage(Project project, String serviceName,
+                                                                    Boolean needJson, boolean parallel) {
+        Package currentPackage = project.currentPackage();
+        PackageCompilation compilation = currentPackage.getCompilation();
+        List<String> availableService = new ArrayList<>();
+        List<OpenAPIMapperDiagnostic> diagnostics = new ArrayList<>();
+        List<OASResult> outputs = new ArrayList<>();
+        Set<String> fileNames = new HashSet<>();
+        List<Module> modules = currentPackage.moduleIds().stream().map(currentPackage::module)
+                .sorted(Comparator.comparing((Module module) -> !module.isDefaultModule())
+                        .thenComparing(module -> module.moduleName().toString()))
+                .toList();
+        for (Module module : modules) {
+            SemanticModel semanticModel = compilation.getSemanticModel(module.moduleId());
+            if (containErrors(semanticModel.diagnostics())) {
+                ExceptionDiagnostic error = new ExceptionDiagnostic(DiagnosticMessages.OAS_CONVERTOR_106);
+                diagnostics.add(error);
+                break;
+            }
+            List<Document> documents = module.documentIds().stream().map(module::document)
+                    .sorted(Comparator.comparing(Document::name)).toList();
+            List<OASGenerationMetaInfo> servicesMetaInfo = new ArrayList<>();
+            for (Document document : documents) {
+                ModulePartNode modulePartNode = document.syntaxTree().rootNode();
+                for (Node node : modulePartNode.members()) {
+                    if (!node.kind().equals(SyntaxKind.SERVICE_DECLARATION)) {
+                        continue;
+                    }
+                    ServiceDeclarationNode serviceNode = (ServiceDeclarationNode) node;
+                    Optional<Symbol> serviceSymbol = semanticModel.symbol(serviceNode);
+                    if (!isHttpService(serviceNode, semanticModel) || serviceSymbol.isEmpty() ||
+                            !(serviceSymbol.get() instanceof ServiceDeclarationSymbol)) {
+                        continue;
+                    }
+                    String service = ServersMapper.getServiceBasePath(serviceNode);
+                    if (serviceName != null) {
+                        availableService.add(service);
+                        if (!serviceName.equals(service)) {
+                            continue;
+                        }
+                    }
+                    String openApiName = getOpenApiFileName(document.name(), service, needJson);
+                    if (!module.isDefaultModule()) {
+                        openApiName = module.moduleName().moduleNamePart() + UNDERSCORE + openApiName;
+                    }
+                    OASGenerationMetaInfo.OASGenerationMetaInfoBuilder builder =
+                            new OASGenerationMetaInfo.OASGenerationMetaInfoBuilder();
+                    builder.setServiceDeclarationNode(serviceNode)
+                            .setSemanticModel(semanticModel)
+                            .setOpenApiFileName(getUniqueFileName(openApiName, needJson, fileNames))
+                            .setBallerinaFilePath(project.documentPath(document.documentId()).orElse(null))
+                            .setProject(project);
+                    servicesMetaInfo.add(builder.build());
+                }
             }
+            servicesMetaInfo.forEach(serviceMetaInfo -> outputs.add(generateNamedOAS(serviceMetaInfo)));
+        }
+        if (parallel) {
+            serializeInParallel(outputs, needJson);
+        }
+        // If there are no services found for a given mapper name.
+        if (serviceName != null && diagnostics.isEmpty() && outputs.isEmpty()) {
+            ExceptionDiagnostic error = new ExceptionDiagnostic(DiagnosticMessages.OAS_CONVERTOR_107, serviceName,
+                    availableService.toString());
+            diagnostics.add(error);
         }
         if (!diagnostics.isEmpty()) {
             OASResult exceptions = new OASResult(null, diagnostics);
@@ -116,6 +263,67 @@ public final class ServiceToOpenAPIMapper {
         return outputs;
     }
 
+    /**
+     * This method will generate the openapi definitions of all the http services of the given package as
+     * {@link #generateOAS3DefinitionsForPackage(Project, String, Boolean, boolean)}, and move the schemas shared by the
+     * definitions into a components definition named `components.yaml`, or `components.json`. The definitions of the
+     * services refer to the shared schemas with external references, ex: `components.yaml#/components/schemas/Pet`.
+     *
+     * @param project     - Project of the package
+     * @param serviceName - Service name that need to generate the openAPI specification
+     * @param needJson    - Flag for enabling the generated file format with json or YAML
+     * @param parallel    - Flag for serializing the definitions in parallel
+     * @return - components definition followed by the openAPI definitions of the services
+     */
+    public static List<OASResult> generateOAS3DefinitionsWithSharedComponents(Project project, String serviceName,
+                                                                              Boolean needJson, boolean parallel) {
+        // The definitions are serialized after the shared schemas are moved out of them
+        List<OASResult> definitions = generateOAS3DefinitionsForPackage(project, serviceName, needJson, false);
+        Package currentPackage = project.currentPackage();
+        Info info = new Info().title(normalizeTitle(currentPackage.packageName().value()))
+                .version(currentPackage.packageVersion().toString());
+        List<OASResult> sharedDefinitions = SharedComponentsMapper.share(definitions, SHARED_COMPONENTS_FILE_NAME +
+                (needJson ? JSON_EXTENSION : YAML_EXTENSION), info);
+        if (parallel) {
+            serializeInParallel(sharedDefinitions, needJson);
+        }
+        return sharedDefinitions;
+    }
+
+    /**
+     * Serializes the given definitions in parallel in the format to be written, so that the definitions are written
+     * without serializing them again. The serialization reads only the mapped definitions.
+     */
+    private static void serializeInParallel(List<OASResult> definitions, Boolean needJson) {
+        definitions.parallelStream().filter(definition -> definition.getOpenAPI().isPresent()).forEach(definition -> {
+            if (Boolean.TRUE.equals(needJson)) {
+                definition.getJson();
+            } else {
+                definition.getYaml();
+            }
+        });
+    }
+
+    private static OASResult generateNamedOAS(OASGenerationMetaInfo oasGenerationMetaInfo) {
+        OASResult oasDefinition = generateOAS(oasGenerationMetaInfo);
+        oasDefinition.setServiceName(oasGenerationMetaInfo.getOpenApiFileName());
+        return oasDefinition;
+    }
+
+    /**
+     * Suffixes the given file name with the lowest index which makes it unique among the given file names. The names
+     * are compared ignoring the case, as the files may be written to a case-insensitive file system.
+     */
+    private static String getUniqueFileName(String fileName, Boolean needJson, Set<String> fileNames) {
+        String suffix = OPENAPI_SUFFIX + (needJson ? JSON_EXTENSION : YAML_EXTENSION);
+        String name = fileName.substring(0, fileName.length() - suffix.length());
+        String uniqueName = fileName;
+        for (int index = 1; !fileNames.add(uniqueName.toLowerCase(Locale.ENGLISH)); index++) {
+            uniqueName = name + UNDERSCORE + index + suffix;
+        }
+        return uniqueName;
+    }
+
     /**
      * Filter all the end points and service nodes.
      */
@@ -219,17 +427,24 @@ public final class ServiceToOpenAPIMapper {
     }
 
     /**
-     * Travers every syntax tree and collect all the listener nodes.
+     * Travers every syntax tree and collect all the listener nodes. The syntax trees of a package are traversed once
+     * for all the services mapped from the package. A modified package is a new package instance, so it is traversed
+     * again.
      *
      * @param project - current project
      */
     public static ModuleMemberVisitor extractNodesFromProject(Project project) {
+        return PACKAGE_MEMBERS.computeIfAbsent(project.currentPackage(), ServiceToOpenAPIMapper::visitModuleMembers);
+    }
+
+    private static ModuleMemberVisitor visitModuleMembers(Package currentPackage) {
         ModuleMemberVisitor balNodeVisitor = new ModuleMemberVisitor();
-        project.currentPackage().moduleIds().forEach(moduleId -> {
-            Module module = project.currentPackage().module(moduleId);
+        currentPackage.moduleIds().forEach(moduleId -> {
+            Module module = currentPackage.module(moduleId);
+            String moduleName = module.moduleName().toString();
             module.documentIds().forEach(documentId -> {
                 SyntaxTree syntaxTreeDoc = module.document(documentId).syntaxTree();
-                syntaxTreeDoc.rootNode().accept(balNodeVisitor);
+                balNodeVisitor.visitModuleMembers(syntaxTreeDoc.rootNode(), moduleName);
             });
         });
         return balNodeVisitor;
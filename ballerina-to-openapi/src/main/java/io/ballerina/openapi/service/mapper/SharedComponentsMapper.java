@@ -0,0 +1,190 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.openapi.service.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.ballerina.openapi.service.mapper.model.OASResult;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * This {@link SharedComponentsMapper} moves the schemas shared by the OpenAPI definitions of the services of a package
+ * into a single components definition, and refers to them from the definitions of the services with external
+ * references, ex: `components.yaml#/components/schemas/Pet`. A schema is shared when at least two definitions have a
+ * schema with its name, every definition which has a schema with its name has the same schema, and the schemas it
+ * refers to are shared as well. The other schemas are kept in the definitions of the services.
+ *
+ * @since 1.9.0
+ */
+public final class SharedComponentsMapper {
+
+    private static final String REF = "$ref";
+    private static final String COMPONENTS = "components";
+    private static final String SCHEMAS = "schemas";
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+
+    private SharedComponentsMapper() {
+    }
+
+    /**
+     * Returns the definitions of the services referring to the shared schemas, preceded by the components definition
+     * with the shared schemas, which is named with the given file name. The definitions are returned as they are when
+     * there are no shared schemas.
+     *
+     * @param definitions        definitions of the services
+     * @param componentsFileName file name of the components definition
+     * @param info               info section of the components definition
+     * @return components definition followed by the definitions of the services
+     */
+    public static List<OASResult> share(List<OASResult> definitions, String componentsFileName, Info info) {
+        Map<OASResult, ObjectNode> definitionTrees = new IdentityHashMap<>();
+        for (OASResult definition : definitions) {
+            Optional<OpenAPI> openAPI = definition.getOpenAPI();
+            // The definitions of the OpenAPI 3.1 contracts are not converted to the 3.0 models
+            if (openAPI.isPresent() && openAPI.get().getSpecVersion() != SpecVersion.V31) {
+                definitionTrees.put(definition, Json.mapper().valueToTree(openAPI.get()));
+            }
+        }
+        Map<String, JsonNode> sharedSchemas = getSharedSchemas(definitionTrees.values());
+        if (sharedSchemas.isEmpty()) {
+            return definitions;
+        }
+
+        List<OASResult> outputs = new ArrayList<>();
+        Components components = new Components();
+        try {
+            for (Map.Entry<String, JsonNode> schema : sharedSchemas.entrySet()) {
+                components.addSchemas(schema.getKey(), Json.mapper().treeToValue(schema.getValue(), Schema.class));
+            }
+        } catch (JsonProcessingException e) {
+            // The definitions keep their schemas when the components definition can not be created
+            return definitions;
+        }
+        OASResult componentsDefinition = new OASResult(new OpenAPI().info(info).paths(new Paths())
+                .components(components), new ArrayList<>());
+        componentsDefinition.setServiceName(componentsFileName);
+        outputs.add(componentsDefinition);
+        for (OASResult definition : definitions) {
+            ObjectNode tree = definitionTrees.get(definition);
+            if (Objects.isNull(tree)) {
+                outputs.add(definition);
+                continue;
+            }
+            outputs.add(referSharedSchemas(definition, tree, sharedSchemas.keySet(), componentsFileName));
+        }
+        return outputs;
+    }
+
+    /**
+     * Returns the schemas which are in at least two definitions and are the same in every definition which has them,
+     * and refer only to the schemas which are shared as well.
+     */
+    private static Map<String, JsonNode> getSharedSchemas(Iterable<ObjectNode> definitionTrees) {
+        Map<String, JsonNode> sharedSchemas = new TreeMap<>();
+        Set<String> differentSchemas = new HashSet<>();
+        Map<String, Integer> definitionCounts = new HashMap<>();
+        for (ObjectNode tree : definitionTrees) {
+            Iterator<Map.Entry<String, JsonNode>> schemas = tree.path(COMPONENTS).path(SCHEMAS).fields();
+            while (schemas.hasNext()) {
+                Map.Entry<String, JsonNode> schema = schemas.next();
+                definitionCounts.merge(schema.getKey(), 1, Integer::sum);
+                if (differentSchemas.contains(schema.getKey())) {
+                    continue;
+                }
+                JsonNode sharedSchema = sharedSchemas.putIfAbsent(schema.getKey(), schema.getValue());
+                if (Objects.nonNull(sharedSchema) && !sharedSchema.equals(schema.getValue())) {
+                    sharedSchemas.remove(schema.getKey());
+                    differentSchemas.add(schema.getKey());
+                }
+            }
+        }
+        // A schema of a single definition is kept in that definition
+        sharedSchemas.keySet().removeIf(schemaName -> definitionCounts.get(schemaName) < 2);
+        boolean removed = true;
+        while (removed) {
+            removed = sharedSchemas.entrySet().removeIf(schema -> getSchemaRefs(schema.getValue()).stream()
+                    .anyMatch(schemaName -> !sharedSchemas.containsKey(schemaName)));
+        }
+        return sharedSchemas;
+    }
+
+    private static Set<String> getSchemaRefs(JsonNode node) {
+        Set<String> schemaNames = new HashSet<>();
+        node.findValues(REF).forEach(ref -> {
+            if (ref.isTextual() && ref.textValue().startsWith(SCHEMA_REF_PREFIX)) {
+                schemaNames.add(ref.textValue().substring(SCHEMA_REF_PREFIX.length()));
+            }
+        });
+        return schemaNames;
+    }
+
+    private static OASResult referSharedSchemas(OASResult definition, ObjectNode tree, Set<String> sharedSchemas,
+                                                String componentsFileName) {
+        JsonNode components = tree.path(COMPONENTS);
+        if (components.path(SCHEMAS) instanceof ObjectNode schemas) {
+            schemas.remove(sharedSchemas);
+            if (schemas.isEmpty()) {
+                ((ObjectNode) components).remove(SCHEMAS);
+            }
+            if (components.isEmpty()) {
+                tree.remove(COMPONENTS);
+            }
+        }
+        updateSchemaRefs(tree, sharedSchemas, componentsFileName);
+        try {
+            OASResult sharedDefinition = new OASResult(Json.mapper().treeToValue(tree, OpenAPI.class),
+                    definition.getDiagnostics());
+            sharedDefinition.setServiceName(definition.getServiceName());
+            return sharedDefinition;
+        } catch (JsonProcessingException e) {
+            // The definition keeps its schemas, as the shared schemas are the same as its schemas
+            return definition;
+        }
+    }
+
+    private static void updateSchemaRefs(JsonNode node, Set<String> sharedSchemas, String componentsFileName) {
+        if (node instanceof ObjectNode objectNode) {
+            JsonNode ref = objectNode.get(REF);
+            if (Objects.nonNull(ref) && ref.isTextual() && ref.textValue().startsWith(SCHEMA_REF_PREFIX) &&
+                    sharedSchemas.contains(ref.textValue().substring(SCHEMA_REF_PREFIX.length()))) {
+                objectNode.set(REF, new TextNode(componentsFileName + ref.textValue()));
+            }
+        }
+        node.elements().forEachRemaining(element -> updateSchemaRefs(element, sharedSchemas, componentsFileName));
+    }
+}
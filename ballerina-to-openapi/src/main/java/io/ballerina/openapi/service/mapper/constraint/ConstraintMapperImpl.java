@@ -80,12 +80,27 @@ public class ConstraintMapperImpl implements ConstraintMapper {
     private final OpenAPI openAPI;
     private final ModuleMemberVisitor moduleMemberVisitor;
     private final List<OpenAPIMapperDiagnostic> diagnostics;
+    private final String moduleName;
 
     public ConstraintMapperImpl(OpenAPI openAPI, ModuleMemberVisitor moduleMemberVisitor,
                                 List<OpenAPIMapperDiagnostic> diagnostics) {
+        this(openAPI, moduleMemberVisitor, diagnostics, null);
+    }
+
+    /**
+     * Creates a constraint mapper which finds the type definitions of the schemas in the given module first.
+     *
+     * @param openAPI             OpenAPI definition of the service
+     * @param moduleMemberVisitor module members of the package
+     * @param diagnostics         diagnostics of the mapping
+     * @param moduleName          name of the module of the service, ex: `snowpeak.representations`
+     */
+    public ConstraintMapperImpl(OpenAPI openAPI, ModuleMemberVisitor moduleMemberVisitor,
+                                List<OpenAPIMapperDiagnostic> diagnostics, String moduleName) {
         this.openAPI = openAPI;
         this.moduleMemberVisitor = moduleMemberVisitor;
         this.diagnostics = diagnostics;
+        this.moduleName = moduleName;
     }
 
     public void setConstraints() {
@@ -95,8 +110,7 @@ public class ConstraintMapperImpl implements ConstraintMapper {
         }
         Map<String, Schema> schemas = components.getSchemas();
         for (Map.Entry<String, Schema> schemaEntry : schemas.entrySet()) {
-            Optional<TypeDefinitionNode> typeDefNodeOpt = moduleMemberVisitor.getTypeDefinitionNode(
-                    schemaEntry.getKey());
+            Optional<TypeDefinitionNode> typeDefNodeOpt = getTypeDefinitionNode(schemaEntry.getKey());
             if (typeDefNodeOpt.isEmpty()) {
                 continue;
             }
@@ -115,6 +129,17 @@ public class ConstraintMapperImpl implements ConstraintMapper {
         }
     }
 
+    /**
+     * Returns the type definition of the schema in the module of the service, or in any module of the package when
+     * the type is not defined in the module of the service.
+     */
+    private Optional<TypeDefinitionNode> getTypeDefinitionNode(String typeName) {
+        Optional<TypeDefinitionNode> typeDefinitionNode = Objects.isNull(moduleName) ? Optional.empty() :
+                moduleMemberVisitor.getTypeDefinitionNode(moduleName, typeName);
+        return typeDefinitionNode.isPresent() ? typeDefinitionNode :
+                moduleMemberVisitor.getTypeDefinitionNode(typeName);
+    }
+
     /**
      * This util is used to set the constraint values for relevant schema field.
      */
@@ -20,8 +20,6 @@ package io.ballerina.openapi.service.mapper.interceptor;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.ClassSymbol;
 import io.ballerina.compiler.api.symbols.ResourceMethodSymbol;
-import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
 import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
 import io.ballerina.compiler.api.symbols.TypeSymbol;
 import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
@@ -33,9 +31,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
-import static io.ballerina.openapi.service.mapper.Constants.BALLERINA;
-import static io.ballerina.openapi.service.mapper.Constants.EMPTY;
-import static io.ballerina.openapi.service.mapper.Constants.HTTP;
 import static io.ballerina.openapi.service.mapper.Constants.NEXT_SERVICE;
 
 /**
@@ -61,9 +56,10 @@ public abstract class Interceptor extends Service {
                           ModuleMemberVisitor moduleMemberVisitor) throws InterceptorMapperException {
         super(semanticModel);
         String name = typeSymbol.getName().orElse("");
-        if (typeSymbol.getName().isPresent() &&
-                moduleMemberVisitor.getInterceptorServiceClassNode(name).isPresent()) {
-            this.serviceClassNode = moduleMemberVisitor.getInterceptorServiceClassNode(name).get();
+        Optional<ClassDefinitionNode> classDefinitionNode = typeSymbol.getName().isPresent() ?
+                getServiceClassNode(typeSymbol, name, moduleMemberVisitor) : Optional.empty();
+        if (classDefinitionNode.isPresent()) {
+            this.serviceClassNode = classDefinitionNode.get();
         } else {
             throw new InterceptorMapperException("no class definition found for the interceptor: " + name +
                     " within the package. Make sure that the interceptor return type is defined with the specific" +
@@ -82,6 +78,18 @@ public abstract class Interceptor extends Service {
 
     protected abstract void extractInterceptorDetails(SemanticModel semanticModel);
 
+    /**
+     * Returns the class definition of the interceptor in the module of the interceptor type, or in any module of the
+     * package when the module is not known.
+     */
+    private static Optional<ClassDefinitionNode> getServiceClassNode(TypeReferenceTypeSymbol typeSymbol, String name,
+                                                                     ModuleMemberVisitor moduleMemberVisitor) {
+        Optional<ClassDefinitionNode> classDefinitionNode = typeSymbol.getModule()
+                .flatMap(module -> moduleMemberVisitor.getInterceptorServiceClassNode(module.id().moduleName(), name));
+        return classDefinitionNode.isPresent() ? classDefinitionNode :
+                moduleMemberVisitor.getInterceptorServiceClassNode(name);
+    }
+
     public abstract boolean isInvokable(TargetResource targetResource);
 
     protected void setReturnType(TypeSymbol returnType) {
@@ -102,25 +110,17 @@ public abstract class Interceptor extends Service {
     }
 
     private boolean isSubTypeOfDefaultInterceptorReturnType(TypeSymbol typeSymbol, SemanticModel semanticModel) {
-        Optional<Symbol> optNextServiceType = semanticModel.types().getTypeByName(BALLERINA, HTTP,
-                EMPTY, NEXT_SERVICE);
-        if (optNextServiceType.isEmpty() ||
-                !(optNextServiceType.get() instanceof TypeDefinitionSymbol nextServiceType)) {
+        Optional<TypeSymbol> nextServiceType = httpSubtypeOracle.getHttpType(NEXT_SERVICE);
+        if (nextServiceType.isEmpty()) {
             return false;
         }
         UnionTypeSymbol defaultInterceptorReturnType = semanticModel.types().builder().UNION_TYPE.withMemberTypes(
-                nextServiceType.typeDescriptor(), semanticModel.types().NIL).build();
+                nextServiceType.get(), semanticModel.types().NIL).build();
         return defaultInterceptorReturnType.subtypeOf(typeSymbol);
     }
 
     private boolean isSubTypeOfHttpNextServiceType(TypeSymbol typeSymbol, SemanticModel semanticModel) {
-        Optional<Symbol> optNextServiceType = semanticModel.types().getTypeByName(BALLERINA, HTTP,
-                EMPTY, NEXT_SERVICE);
-        if (optNextServiceType.isEmpty() ||
-                !(optNextServiceType.get() instanceof TypeDefinitionSymbol nextServiceType)) {
-            return false;
-        }
-        return typeSymbol.subtypeOf(nextServiceType.typeDescriptor());
+        return httpSubtypeOracle.isSubTypeOfHttpType(typeSymbol, NEXT_SERVICE);
     }
 
     private TypeSymbol getEffectiveReturnType(TypeSymbol typeSymbol, SemanticModel semanticModel) {
@@ -22,7 +22,6 @@ import io.ballerina.compiler.api.symbols.ResourceMethodSymbol;
 import io.ballerina.compiler.api.symbols.ServiceDeclarationSymbol;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.api.symbols.TupleTypeSymbol;
-import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
 import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
 import io.ballerina.compiler.api.symbols.TypeSymbol;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
@@ -31,15 +30,13 @@ import io.ballerina.openapi.service.mapper.diagnostic.ExceptionDiagnostic;
 import io.ballerina.openapi.service.mapper.interceptor.Interceptor.InterceptorType;
 import io.ballerina.openapi.service.mapper.model.AdditionalData;
 import io.ballerina.openapi.service.mapper.model.ModuleMemberVisitor;
+import io.ballerina.openapi.service.mapper.utils.HttpSubtypeOracle;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
-import static io.ballerina.openapi.service.mapper.Constants.BALLERINA;
-import static io.ballerina.openapi.service.mapper.Constants.EMPTY;
-import static io.ballerina.openapi.service.mapper.Constants.HTTP;
 import static io.ballerina.openapi.service.mapper.Constants.INTERCEPTOR;
 
 /**
@@ -89,6 +86,7 @@ public class InterceptorPipeline {
                                                        AdditionalData additionalData) {
         SemanticModel semanticModel = additionalData.semanticModel();
         ModuleMemberVisitor moduleMemberVisitor = additionalData.moduleMemberVisitor();
+        HttpSubtypeOracle httpSubtypeOracle = HttpSubtypeOracle.getInstance(semanticModel);
         Optional<Symbol> optServiceSymbol = semanticModel.symbol(serviceDefinition);
         if (optServiceSymbol.isEmpty() ||
                 !(optServiceSymbol.get() instanceof ServiceDeclarationSymbol serviceSymbol)) {
@@ -104,12 +102,13 @@ public class InterceptorPipeline {
         TypeSymbol interceptorReturn = optInterceptorReturn.get();
         try {
             if (interceptorReturn instanceof TypeReferenceTypeSymbol interceptorType &&
-                    isSubTypeOf(interceptorReturn, INTERCEPTOR, semanticModel)) {
-                Interceptor.InterceptorType type = getInterceptorType(interceptorType, semanticModel);
+                    httpSubtypeOracle.isSubTypeOfHttpType(interceptorReturn, INTERCEPTOR)) {
+                Interceptor.InterceptorType type = getInterceptorType(interceptorType, httpSubtypeOracle);
                 Interceptor interceptor = getInterceptor(interceptorType, type, semanticModel, moduleMemberVisitor);
                 return List.of(interceptor);
             } else if (interceptorReturn instanceof TupleTypeSymbol interceptorTupleType) {
-                return getInterceptorListFromReturnType(interceptorTupleType, semanticModel, moduleMemberVisitor);
+                return getInterceptorListFromReturnType(interceptorTupleType, semanticModel, httpSubtypeOracle,
+                        moduleMemberVisitor);
             }
         } catch (InterceptorMapperException e) {
             addWarningDiagnostic(additionalData, e.getMessage());
@@ -142,12 +141,13 @@ public class InterceptorPipeline {
 
     private static List<Interceptor> getInterceptorListFromReturnType(TupleTypeSymbol interceptorTupleType,
                                                                       SemanticModel semanticModel,
+                                                                      HttpSubtypeOracle httpSubtypeOracle,
                                                                       ModuleMemberVisitor moduleMemberVisitor)
             throws InterceptorMapperException {
         List<Interceptor> interceptors = new ArrayList<>();
         for (TypeSymbol typeDescriptor : interceptorTupleType.memberTypeDescriptors()) {
             if (typeDescriptor instanceof TypeReferenceTypeSymbol interceptorType) {
-                InterceptorType type = getInterceptorType(interceptorType, semanticModel);
+                InterceptorType type = getInterceptorType(interceptorType, httpSubtypeOracle);
                 Interceptor interceptor = getInterceptor(interceptorType, type, semanticModel,
                         moduleMemberVisitor);
                 interceptors.add(interceptor);
@@ -156,26 +156,19 @@ public class InterceptorPipeline {
         return interceptors;
     }
 
-    private static InterceptorType getInterceptorType(TypeSymbol interceptorType, SemanticModel semanticModel) {
-        if (isSubTypeOf(interceptorType, "RequestInterceptor", semanticModel)) {
+    private static InterceptorType getInterceptorType(TypeSymbol interceptorType,
+                                                      HttpSubtypeOracle httpSubtypeOracle) {
+        if (httpSubtypeOracle.isSubTypeOfHttpType(interceptorType, "RequestInterceptor")) {
             return InterceptorType.REQUEST;
-        } else if (isSubTypeOf(interceptorType, "RequestErrorInterceptor", semanticModel)) {
+        } else if (httpSubtypeOracle.isSubTypeOfHttpType(interceptorType, "RequestErrorInterceptor")) {
             return InterceptorType.REQUEST_ERROR;
-        } else if (isSubTypeOf(interceptorType, "ResponseInterceptor", semanticModel)) {
+        } else if (httpSubtypeOracle.isSubTypeOfHttpType(interceptorType, "ResponseInterceptor")) {
             return InterceptorType.RESPONSE;
         } else { // ResponseErrorInterceptor
             return InterceptorType.RESPONSE_ERROR;
         }
     }
 
-    private static boolean isSubTypeOf(TypeSymbol typeSymbol, String typeName, SemanticModel semanticModel) {
-        Optional<Symbol> optType = semanticModel.types().getTypeByName(BALLERINA, HTTP, EMPTY, typeName);
-        if (optType.isEmpty() || !(optType.get() instanceof TypeDefinitionSymbol typeDef)) {
-            return false;
-        }
-        return typeSymbol.subtypeOf(typeDef.typeDescriptor());
-    }
-
     public InfoFromInterceptors getEffectiveReturnType(ResourceMethodSymbol targetResource, boolean hasDataBinding) {
         return getReturnTypes(targetResource, hasDataBinding);
     }
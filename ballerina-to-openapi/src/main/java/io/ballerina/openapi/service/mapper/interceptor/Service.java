@@ -22,6 +22,7 @@ import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
 import io.ballerina.compiler.api.symbols.TypeSymbol;
 import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
 import io.ballerina.openapi.service.mapper.response.utils.StatusCodeResponseUtils;
+import io.ballerina.openapi.service.mapper.utils.HttpSubtypeOracle;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -36,9 +37,11 @@ public abstract class Service {
     private final List<TypeSymbol> errorReturnType = new ArrayList<>();
     private final List<TypeSymbol> nonErrorReturnType = new ArrayList<>();
     protected final SemanticModel semanticModel;
+    protected final HttpSubtypeOracle httpSubtypeOracle;
 
     protected Service(SemanticModel semanticModel) {
         this.semanticModel = semanticModel;
+        this.httpSubtypeOracle = HttpSubtypeOracle.getInstance(semanticModel);
     }
 
     protected void extractErrorAndNonErrorReturnTypes(TypeSymbol effectiveReturnType) {
@@ -58,7 +61,7 @@ public abstract class Service {
     private void destructUnionType(TypeSymbol typeSymbol, List<TypeSymbol> memberTypes) {
         if (typeSymbol.subtypeOf(semanticModel.types().ERROR) ||
                 typeSymbol.subtypeOf(semanticModel.types().ANYDATA) ||
-                StatusCodeResponseUtils.isSubTypeOfHttpStatusCodeResponse(typeSymbol, semanticModel)) {
+                StatusCodeResponseUtils.isSubTypeOfHttpStatusCodeResponse(typeSymbol, httpSubtypeOracle)) {
             memberTypes.add(typeSymbol);
         } else if (typeSymbol instanceof UnionTypeSymbol) {
             ((UnionTypeSymbol) typeSymbol).userSpecifiedMemberTypes().forEach(
@@ -18,29 +18,54 @@
 package io.ballerina.openapi.service.mapper.model;
 
 import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ConstantDeclarationNode;
+import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ListenerDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.NodeVisitor;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.service.mapper.utils.MapperCommonUtils;
 
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 /**
- * Visitor to get the TypeDefinitionNode and ListenerDeclarationNodes.
+ * Visitor to get the TypeDefinitionNode, ListenerDeclarationNodes, ConstantDeclarationNodes and EnumDeclarationNodes.
+ * The type definitions and the class definitions are indexed by their unescaped names, and by their names qualified
+ * with the module names when the module is given, ex: `snowpeak.representations:Location`. The first definition
+ * visited wins when the names are the same.
  *
  * @since 1.6.0
  */
 public class ModuleMemberVisitor extends NodeVisitor {
 
-    Set<TypeDefinitionNode> typeDefinitionNodes = new LinkedHashSet<>();
+    private static final String MODULE_SEPARATOR = ":";
+
+    Map<String, TypeDefinitionNode> typeDefinitionNodes = new HashMap<>();
     Set<ListenerDeclarationNode> listenerDeclarationNodes = new LinkedHashSet<>();
-    Set<ClassDefinitionNode> interceptorServiceClassNodes = new LinkedHashSet<>();
+    Map<String, ClassDefinitionNode> interceptorServiceClassNodes = new HashMap<>();
+    Set<ConstantDeclarationNode> constantDeclarationNodes = new LinkedHashSet<>();
+    Set<EnumDeclarationNode> enumDeclarationNodes = new LinkedHashSet<>();
+    private String moduleName;
+
+    /**
+     * Visit the members of a document of the given module.
+     *
+     * @param modulePartNode root node of the document
+     * @param moduleName     name of the module, ex: `snowpeak.representations`
+     */
+    public void visitModuleMembers(ModulePartNode modulePartNode, String moduleName) {
+        this.moduleName = moduleName;
+        modulePartNode.accept(this);
+        this.moduleName = null;
+    }
 
     @Override
     public void visit(TypeDefinitionNode typeDefinitionNode) {
-        typeDefinitionNodes.add(typeDefinitionNode);
+        addToIndex(typeDefinitionNodes, typeDefinitionNode.typeName().text(), typeDefinitionNode);
     }
 
     @Override
@@ -50,28 +75,66 @@ public class ModuleMemberVisitor extends NodeVisitor {
 
     @Override
     public void visit(ClassDefinitionNode classDefinitionNode) {
-        interceptorServiceClassNodes.add(classDefinitionNode);
+        addToIndex(interceptorServiceClassNodes, classDefinitionNode.className().text(), classDefinitionNode);
+    }
+
+    @Override
+    public void visit(ConstantDeclarationNode constantDeclarationNode) {
+        constantDeclarationNodes.add(constantDeclarationNode);
+    }
+
+    @Override
+    public void visit(EnumDeclarationNode enumDeclarationNode) {
+        enumDeclarationNodes.add(enumDeclarationNode);
     }
 
     public Set<ListenerDeclarationNode> getListenerDeclarationNodes() {
         return listenerDeclarationNodes;
     }
 
+    public Set<ConstantDeclarationNode> getConstantDeclarationNodes() {
+        return constantDeclarationNodes;
+    }
+
+    public Set<EnumDeclarationNode> getEnumDeclarationNodes() {
+        return enumDeclarationNodes;
+    }
+
     public Optional<TypeDefinitionNode> getTypeDefinitionNode(String typeName) {
-        for (TypeDefinitionNode typeDefinitionNode : typeDefinitionNodes) {
-            if (MapperCommonUtils.unescapeIdentifier(typeDefinitionNode.typeName().text()).equals(typeName)) {
-                return Optional.of(typeDefinitionNode);
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(typeDefinitionNodes.get(typeName));
+    }
+
+    /**
+     * Returns the type definition of the given name in the given module.
+     *
+     * @param moduleName name of the module, ex: `snowpeak.representations`
+     * @param typeName   unescaped name of the type
+     * @return {@link TypeDefinitionNode} when the type is defined in the module
+     */
+    public Optional<TypeDefinitionNode> getTypeDefinitionNode(String moduleName, String typeName) {
+        return Optional.ofNullable(typeDefinitionNodes.get(moduleName + MODULE_SEPARATOR + typeName));
     }
 
     public Optional<ClassDefinitionNode> getInterceptorServiceClassNode(String typeName) {
-        for (ClassDefinitionNode classDefinitionNode : interceptorServiceClassNodes) {
-            if (MapperCommonUtils.unescapeIdentifier(classDefinitionNode.className().text()).equals(typeName)) {
-                return Optional.of(classDefinitionNode);
-            }
+        return Optional.ofNullable(interceptorServiceClassNodes.get(typeName));
+    }
+
+    /**
+     * Returns the class definition of the given name in the given module.
+     *
+     * @param moduleName name of the module, ex: `snowpeak.representations`
+     * @param typeName   unescaped name of the class
+     * @return {@link ClassDefinitionNode} when the class is defined in the module
+     */
+    public Optional<ClassDefinitionNode> getInterceptorServiceClassNode(String moduleName, String typeName) {
+        return Optional.ofNullable(interceptorServiceClassNodes.get(moduleName + MODULE_SEPARATOR + typeName));
+    }
+
+    private <T> void addToIndex(Map<String, T> index, String name, T node) {
+        String unescapedName = MapperCommonUtils.unescapeIdentifier(name);
+        index.putIfAbsent(unescapedName, node);
+        if (moduleName != null) {
+            index.putIfAbsent(moduleName + MODULE_SEPARATOR + unescapedName, node);
         }
-        return Optional.empty();
     }
 }
@@ -17,16 +17,24 @@
  */
 package io.ballerina.openapi.service.mapper.model;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.ballerina.openapi.service.mapper.diagnostic.OpenAPIMapperDiagnostic;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
 /**
- * This {@link OASResult} is used to contain OpenAPI definition in string format and error list.
+ * This {@link OASResult} is used to contain OpenAPI definition in string format and error list. The YAML and JSON
+ * formats of the definition are serialized once, and serialized again only after the definition is set again. Hence
+ * the definition must not be updated after it is serialized. An updated definition must be set again with
+ * {@link #setOpenAPI(OpenAPI)}, so that the serialized formats are dropped.
  *
  * @since 1.0.0
  */
@@ -34,6 +42,16 @@ public class OASResult {
     private OpenAPI openAPI;
     private String serviceName; // added base path for key to definition
     private final List<OpenAPIMapperDiagnostic> diagnostics;
+    private String yaml;
+    private String json;
+
+    /**
+     * Formats of the serialized OpenAPI definition.
+     */
+    public enum Format {
+        YAML,
+        JSON
+    }
 
     /**
      * This constructor is used to store the details that Map of {@code OpenAPI} objects and diagnostic list.
@@ -47,6 +65,12 @@ public class OASResult {
         return diagnostics;
     }
 
+    /**
+     * Returns the OpenAPI definition. The definition must not be updated after it is serialized, unless it is set
+     * again with {@link #setOpenAPI(OpenAPI)}, as the serialized formats are not dropped by the updates.
+     *
+     * @return OpenAPI definition, or empty when the definition is not generated
+     */
     public Optional<OpenAPI> getOpenAPI() {
         return Optional.ofNullable(openAPI);
     }
@@ -55,19 +79,48 @@ public class OASResult {
         return this.serviceName;
     }
 
-    public Optional<String> getYaml() {
-        return Optional.ofNullable(Yaml.pretty(this.openAPI));
+    public synchronized Optional<String> getYaml() {
+        if (this.yaml == null) {
+            this.yaml = Yaml.pretty(this.openAPI);
+        }
+        return Optional.ofNullable(this.yaml);
+    }
+
+    public synchronized Optional<String> getJson() {
+        if (this.json == null) {
+            this.json = Json.pretty(this.openAPI);
+        }
+        return Optional.ofNullable(this.json);
     }
 
-    public Optional<String> getJson() {
-        return Optional.ofNullable(Json.pretty(this.openAPI));
+    /**
+     * Writes the OpenAPI definition in the given format to the given stream. The definition is serialized directly to
+     * the stream, unless it is already serialized in the given format. The stream is not closed.
+     *
+     * @param outputStream stream to write the definition
+     * @param format       format of the definition
+     * @throws IOException if the definition can not be written to the stream
+     */
+    public void writeTo(OutputStream outputStream, Format format) throws IOException {
+        String content;
+        synchronized (this) {
+            content = format == Format.JSON ? this.json : this.yaml;
+        }
+        if (content != null) {
+            outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        ObjectWriter writer = format == Format.JSON ? Json.pretty() : Yaml.pretty();
+        writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(outputStream, this.openAPI);
     }
 
     public void setServiceName(String serviceName) {
         this.serviceName = serviceName;
     }
 
-    public void setOpenAPI(OpenAPI openAPI) {
+    public synchronized void setOpenAPI(OpenAPI openAPI) {
         this.openAPI = openAPI;
+        this.yaml = null;
+        this.json = null;
     }
 }
@@ -150,10 +150,7 @@ public class HeaderParameterMapper extends AbstractParameterMapper {
         if (isRequired && (!treatNilableAsOptional || !UnionTypeMapper.hasNilableType(type))) {
             headerParameter.setRequired(true);
         }
-        Schema typeSchema = typeMapper.getTypeSchema(type);
-        if (Objects.nonNull(defaultValue)) {
-            TypeMapper.setDefaultValue(typeSchema, defaultValue);
-        }
+        Schema typeSchema = typeMapper.getTypeSchemaWithDefaultValue(type, defaultValue);
         headerParameter.setSchema(typeSchema);
         headerParameter.setDescription(description);
         return headerParameter;
@@ -84,10 +84,7 @@ public class QueryParameterMapper extends AbstractParameterMapper {
         if (isRequired && (!treatNilableAsOptional || !UnionTypeMapper.hasNilableType(type))) {
             queryParameter.setRequired(true);
         }
-        Schema typeSchema = typeMapper.getTypeSchema(type);
-        if (Objects.nonNull(defaultValue)) {
-            TypeMapper.setDefaultValue(typeSchema, defaultValue);
-        }
+        Schema typeSchema = typeMapper.getTypeSchemaWithDefaultValue(type, defaultValue);
         if (AbstractParameterMapper.hasObjectType(semanticModel, type)) {
             Content content = new Content();
             content.put("application/json", new MediaType().schema(typeSchema));
@@ -18,7 +18,6 @@
 package io.ballerina.openapi.service.mapper.response;
 
 import io.ballerina.compiler.api.SemanticModel;
-import io.ballerina.compiler.api.symbols.ClassSymbol;
 import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
 import io.ballerina.compiler.api.symbols.ResourceMethodSymbol;
 import io.ballerina.compiler.api.symbols.Symbol;
@@ -40,6 +39,7 @@ import io.ballerina.openapi.service.mapper.response.utils.CacheHeaderUtils;
 import io.ballerina.openapi.service.mapper.response.utils.StatusCodeErrorUtils;
 import io.ballerina.openapi.service.mapper.response.utils.StatusCodeResponseUtils;
 import io.ballerina.openapi.service.mapper.type.TypeMapper;
+import io.ballerina.openapi.service.mapper.utils.HttpSubtypeOracle;
 import io.ballerina.openapi.service.mapper.utils.MediaTypeUtils;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.ComposedSchema;
@@ -56,10 +56,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
-import static io.ballerina.openapi.service.mapper.Constants.BALLERINA;
 import static io.ballerina.openapi.service.mapper.Constants.DEFAULT;
-import static io.ballerina.openapi.service.mapper.Constants.EMPTY;
-import static io.ballerina.openapi.service.mapper.Constants.HTTP;
 import static io.ballerina.openapi.service.mapper.Constants.HTTP_200;
 import static io.ballerina.openapi.service.mapper.Constants.HTTP_201;
 import static io.ballerina.openapi.service.mapper.Constants.HTTP_202;
@@ -84,6 +81,7 @@ import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.extrac
 public class DefaultResponseMapper implements ResponseMapper {
     private final TypeMapper typeMapper;
     protected final SemanticModel semanticModel;
+    private final HttpSubtypeOracle httpSubtypeOracle;
     private List<String> allowedMediaTypes = new ArrayList<>();
     private final Map<String, Header> cacheHeaders = new HashMap<>();
     private final Map<String, Map<String, Header>> headersMap = new HashMap<>();
@@ -97,6 +95,7 @@ public class DefaultResponseMapper implements ResponseMapper {
         this.typeMapper = serviceMapperFactory.getTypeMapper();
         this.mediaTypeSubTypePrefix = MediaTypeUtils.extractCustomMediaType(resourceNode).orElse("");
         this.semanticModel = additionalData.semanticModel();
+        this.httpSubtypeOracle = HttpSubtypeOracle.getInstance(semanticModel);
         this.operationInventory = operationInventory;
         this.resourceNode = resourceNode;
     }
@@ -190,7 +189,7 @@ public class DefaultResponseMapper implements ResponseMapper {
                 TypeSymbol typeSymbol = entry.getValue();
                 if (isSubTypeOfNil(typeSymbol, semanticModel)) {
                     addResponseMappingForNil();
-                } else if (isSubTypeOfHttpResponse(typeSymbol, semanticModel)) {
+                } else if (isSubTypeOfHttpResponse(typeSymbol, httpSubtypeOracle)) {
                     addResponseMappingForHttpResponse();
                 } else {
                     String mediaType = entry.getKey();
@@ -270,7 +269,7 @@ public class DefaultResponseMapper implements ResponseMapper {
 
     private static void updateContentWithSameMediaType(MediaType mediaTypeObj, MediaType existingMediaType) {
         if (existingMediaType.getSchema() instanceof ComposedSchema existingSchema) {
-            updateContentOnComposedSchema(mediaTypeObj, existingSchema);
+            updateContentOnComposedSchema(mediaTypeObj, existingMediaType, existingSchema);
         } else {
             updateContentWithComposedSchema(mediaTypeObj, existingMediaType);
         }
@@ -278,10 +277,7 @@ public class DefaultResponseMapper implements ResponseMapper {
 
     private static void updateContentWithComposedSchema(MediaType mediaTypeObj, MediaType existingMediaType) {
         if (mediaTypeObj.getSchema() instanceof ComposedSchema mediaTypeSchema) {
-            if (!mediaTypeSchema.getOneOf().contains(existingMediaType.getSchema())) {
-                mediaTypeSchema.getOneOf().add(existingMediaType.getSchema());
-            }
-            existingMediaType.setSchema(mediaTypeSchema);
+            existingMediaType.setSchema(getOneOfSchema(mediaTypeSchema, List.of(existingMediaType.getSchema())));
         } else {
             Schema updatedSchema = new ComposedSchema().oneOf(List.of(existingMediaType.getSchema(),
                     mediaTypeObj.getSchema()));
@@ -289,20 +285,30 @@ public class DefaultResponseMapper implements ResponseMapper {
         }
     }
 
-    private static void updateContentOnComposedSchema(MediaType mediaTypeObj, ComposedSchema existingSchema) {
-        List<Schema> oneOf = existingSchema.getOneOf();
+    private static void updateContentOnComposedSchema(MediaType mediaTypeObj, MediaType existingMediaType,
+                                                      ComposedSchema existingSchema) {
         if (mediaTypeObj.getSchema() instanceof ComposedSchema mediaTypeSchema) {
-            List<Schema> mediaTypeOneOf = mediaTypeSchema.getOneOf();
-            for (Schema schema : mediaTypeOneOf) {
-                if (!oneOf.contains(schema)) {
-                    oneOf.add(schema);
-                }
+            existingMediaType.setSchema(getOneOfSchema(existingSchema, mediaTypeSchema.getOneOf()));
+        } else {
+            existingMediaType.setSchema(getOneOfSchema(existingSchema, List.of(mediaTypeObj.getSchema())));
+        }
+    }
+
+    /**
+     * Returns a schema with the `oneOf` schemas of the given composed schema followed by the given schemas which are
+     * not in it. The given composed schema is not updated, as the schemas given by the type mapper are shared by the
+     * operations which refer to the same type.
+     */
+    private static ComposedSchema getOneOfSchema(ComposedSchema composedSchema, List<Schema> schemas) {
+        List<Schema> oneOf = new ArrayList<>(composedSchema.getOneOf());
+        for (Schema schema : schemas) {
+            if (!oneOf.contains(schema)) {
+                oneOf.add(schema);
             }
-            existingSchema.setOneOf(oneOf);
-        } else if (!oneOf.contains(mediaTypeObj.getSchema())) {
-            oneOf.add(mediaTypeObj.getSchema());
-            existingSchema.setOneOf(oneOf);
         }
+        ComposedSchema oneOfSchema = new ComposedSchema().oneOf(oneOf);
+        oneOfSchema.setNullable(composedSchema.getNullable());
+        return oneOfSchema;
     }
 
     private void addResponseMappingForNil() {
@@ -338,13 +344,13 @@ public class DefaultResponseMapper implements ResponseMapper {
     private void addResponseMappingForSimpleType(TypeSymbol returnType, String defaultStatusCode) {
         if (isSubTypeOfNil(returnType, semanticModel)) {
             addResponseMappingForNil();
-        } else if (isSubTypeOfHttpResponse(returnType, semanticModel)) {
+        } else if (isSubTypeOfHttpResponse(returnType, httpSubtypeOracle)) {
             addResponseMappingForHttpResponse();
-        } else if (isSubTypeOfHttpStatusCodeResponse(returnType, semanticModel)) {
+        } else if (isSubTypeOfHttpStatusCodeResponse(returnType, httpSubtypeOracle)) {
             ResponseInfo responseInfo = StatusCodeResponseUtils.extractResponseInfo(returnType, defaultStatusCode,
                     typeMapper, semanticModel);
             updateApiResponseWithResponseInfo(responseInfo);
-        } else if (isSubTypeOfHttpStatusCodeError(returnType, semanticModel)) {
+        } else if (isSubTypeOfHttpStatusCodeError(returnType, httpSubtypeOracle)) {
             ResponseInfo responseInfo = StatusCodeErrorUtils.extractResponseInfo(returnType, typeMapper, semanticModel);
             updateApiResponseWithResponseInfo(responseInfo);
         } else {
@@ -450,10 +456,10 @@ public class DefaultResponseMapper implements ResponseMapper {
                 extractBasicMembers(unionMemberTypeOpt.get(), code, responses);
                 continue;
             }
-            if (isSubTypeOfHttpStatusCodeResponse(directMemberType, semanticModel)) {
+            if (isSubTypeOfHttpStatusCodeResponse(directMemberType, httpSubtypeOracle)) {
                 responseInfo = StatusCodeResponseUtils.extractResponseInfo(directMemberType, code,
                         typeMapper, semanticModel);
-            } else if (isSubTypeOfHttpStatusCodeError(directMemberType, semanticModel)) {
+            } else if (isSubTypeOfHttpStatusCodeError(directMemberType, httpSubtypeOracle)) {
                 responseInfo = StatusCodeErrorUtils.extractResponseInfo(directMemberType, typeMapper, semanticModel);
             }
             if (Objects.nonNull(responseInfo)) {
@@ -500,13 +506,7 @@ public class DefaultResponseMapper implements ResponseMapper {
         return typeSymbol.subtypeOf(semanticModel.types().ERROR);
     }
     
-    public static boolean isSubTypeOfHttpResponse(TypeSymbol returnType, SemanticModel semanticModel) {
-        Optional<Symbol> optionalRecordSymbol = semanticModel.types().getTypeByName(BALLERINA, HTTP,
-                EMPTY, RESPONSE);
-        if (optionalRecordSymbol.isPresent() &&
-                optionalRecordSymbol.get() instanceof ClassSymbol classSymbol) {
-            return returnType.subtypeOf(classSymbol);
-        }
-        return false;
+    public static boolean isSubTypeOfHttpResponse(TypeSymbol returnType, HttpSubtypeOracle httpSubtypeOracle) {
+        return httpSubtypeOracle.isSubTypeOfHttpType(returnType, RESPONSE);
     }
 }
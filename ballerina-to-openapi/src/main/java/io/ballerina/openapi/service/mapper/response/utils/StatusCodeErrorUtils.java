@@ -24,6 +24,7 @@ import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
 import io.ballerina.compiler.api.symbols.TypeSymbol;
 import io.ballerina.openapi.service.mapper.response.model.ResponseInfo;
 import io.ballerina.openapi.service.mapper.type.TypeMapper;
+import io.ballerina.openapi.service.mapper.utils.HttpSubtypeOracle;
 import io.swagger.v3.oas.models.headers.Header;
 
 import java.util.HashMap;
@@ -45,13 +46,13 @@ public final class StatusCodeErrorUtils extends StatusCodeTypeUtils {
     private StatusCodeErrorUtils() {
     }
 
-    public static boolean isSubTypeOfHttpStatusCodeError(TypeSymbol typeSymbol, SemanticModel semanticModel) {
-        return isSubTypeOfBallerinaModuleType("StatusCodeError", "http.httpscerr", typeSymbol, semanticModel);
+    public static boolean isSubTypeOfHttpStatusCodeError(TypeSymbol typeSymbol, HttpSubtypeOracle httpSubtypeOracle) {
+        return isSubTypeOfBallerinaModuleType("StatusCodeError", "http.httpscerr", typeSymbol, httpSubtypeOracle);
     }
 
     public static ResponseInfo extractResponseInfo(TypeSymbol statusCodeErrorType, TypeMapper typeMapper,
                                                    SemanticModel semanticModel) {
-        String statusCode = getResponseCode(statusCodeErrorType, semanticModel);
+        String statusCode = getResponseCode(statusCodeErrorType, HttpSubtypeOracle.getInstance(semanticModel));
         Optional<RecordTypeSymbol> errorDetailRecordType = getErrorDetailTypeSymbol(statusCodeErrorType, typeMapper);
         if (errorDetailRecordType.isEmpty()) {
             return new ResponseInfo(statusCode, semanticModel.types().ANYDATA, new HashMap<>());
@@ -70,9 +71,9 @@ public final class StatusCodeErrorUtils extends StatusCodeTypeUtils {
         return getRecordTypeSymbol(errorTypeSymbol.detailTypeDescriptor(), typeMapper);
     }
 
-    private static String getResponseCode(TypeSymbol typeSymbol, SemanticModel semanticModel) {
+    private static String getResponseCode(TypeSymbol typeSymbol, HttpSubtypeOracle httpSubtypeOracle) {
         for (Map.Entry<String, String> entry : HTTP_STATUS_CODE_ERRORS.entrySet()) {
-            if (isSubTypeOfBallerinaModuleType(entry.getKey(), "http.httpscerr", typeSymbol, semanticModel)) {
+            if (isSubTypeOfBallerinaModuleType(entry.getKey(), "http.httpscerr", typeSymbol, httpSubtypeOracle)) {
                 return entry.getValue();
             }
         }
@@ -22,6 +22,7 @@ import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
 import io.ballerina.compiler.api.symbols.TypeSymbol;
 import io.ballerina.openapi.service.mapper.response.model.ResponseInfo;
 import io.ballerina.openapi.service.mapper.type.TypeMapper;
+import io.ballerina.openapi.service.mapper.utils.HttpSubtypeOracle;
 import io.swagger.v3.oas.models.headers.Header;
 
 import java.util.Map;
@@ -42,14 +43,16 @@ public final class StatusCodeResponseUtils extends StatusCodeTypeUtils {
     private StatusCodeResponseUtils() {
     }
 
-    public static boolean isSubTypeOfHttpStatusCodeResponse(TypeSymbol typeSymbol, SemanticModel semanticModel) {
-        return isSubTypeOfBallerinaModuleType(STATUS_CODE_RESPONSE, HTTP, typeSymbol, semanticModel);
+    public static boolean isSubTypeOfHttpStatusCodeResponse(TypeSymbol typeSymbol,
+                                                            HttpSubtypeOracle httpSubtypeOracle) {
+        return isSubTypeOfBallerinaModuleType(STATUS_CODE_RESPONSE, HTTP, typeSymbol, httpSubtypeOracle);
     }
 
     public static ResponseInfo extractResponseInfo(TypeSymbol statusCodeResponseType, String defaultStatusCode,
                                                    TypeMapper typeMapper, SemanticModel semanticModel) {
         Optional<RecordTypeSymbol> statusCodeRecordType = getRecordTypeSymbol(statusCodeResponseType, typeMapper);
-        String statusCode = getResponseCode(statusCodeResponseType, defaultStatusCode, semanticModel);
+        String statusCode = getResponseCode(statusCodeResponseType, defaultStatusCode,
+                HttpSubtypeOracle.getInstance(semanticModel));
         if (statusCodeRecordType.isEmpty()) {
             return new ResponseInfo(statusCode, semanticModel.types().ANYDATA, Map.of());
         }
@@ -58,9 +61,10 @@ public final class StatusCodeResponseUtils extends StatusCodeTypeUtils {
         return new ResponseInfo(statusCode, bodyType, headers);
     }
 
-    private static String getResponseCode(TypeSymbol typeSymbol, String defaultCode, SemanticModel semanticModel) {
+    private static String getResponseCode(TypeSymbol typeSymbol, String defaultCode,
+                                          HttpSubtypeOracle httpSubtypeOracle) {
         for (Map.Entry<String, String> entry : HTTP_CODES.entrySet()) {
-            if (isSubTypeOfBallerinaModuleType(entry.getKey(), HTTP, typeSymbol, semanticModel)) {
+            if (isSubTypeOfBallerinaModuleType(entry.getKey(), HTTP, typeSymbol, httpSubtypeOracle)) {
                 return entry.getValue();
             }
         }
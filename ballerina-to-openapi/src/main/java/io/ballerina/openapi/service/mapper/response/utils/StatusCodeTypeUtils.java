@@ -20,12 +20,11 @@ package io.ballerina.openapi.service.mapper.response.utils;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.RecordFieldSymbol;
 import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
-import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
 import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
 import io.ballerina.compiler.api.symbols.TypeSymbol;
 import io.ballerina.openapi.service.mapper.response.model.HeaderRecordInfo;
 import io.ballerina.openapi.service.mapper.type.TypeMapper;
+import io.ballerina.openapi.service.mapper.utils.HttpSubtypeOracle;
 import io.ballerina.openapi.service.mapper.utils.MapperCommonUtils;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.Schema;
@@ -46,14 +45,8 @@ import java.util.Set;
 public abstract class StatusCodeTypeUtils {
 
      static boolean isSubTypeOfBallerinaModuleType(String type, String moduleName, TypeSymbol typeSymbol,
-                                                   SemanticModel semanticModel) {
-        Optional<Symbol> optionalRecordSymbol = semanticModel.types().getTypeByName("ballerina", moduleName,
-                "", type);
-        if (optionalRecordSymbol.isPresent() &&
-                optionalRecordSymbol.get() instanceof TypeDefinitionSymbol recordSymbol) {
-            return typeSymbol.subtypeOf(recordSymbol.typeDescriptor());
-        }
-        return false;
+                                                   HttpSubtypeOracle httpSubtypeOracle) {
+        return httpSubtypeOracle.isSubTypeOf(typeSymbol, moduleName, type);
     }
 
     static Optional<RecordTypeSymbol> getRecordTypeSymbol(TypeSymbol typeSymbol, TypeMapper typeMapper) {
@@ -18,10 +18,10 @@
 package io.ballerina.openapi.service.mapper.type;
 
 import io.ballerina.compiler.api.symbols.ErrorTypeSymbol;
-import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
 import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
 import io.ballerina.openapi.service.mapper.model.AdditionalData;
+import io.ballerina.openapi.service.mapper.utils.HttpSubtypeOracle;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
@@ -30,10 +30,7 @@ import io.swagger.v3.oas.models.media.StringSchema;
 import java.util.Objects;
 import java.util.Optional;
 
-import static io.ballerina.openapi.service.mapper.Constants.BALLERINA;
-import static io.ballerina.openapi.service.mapper.Constants.EMPTY;
 import static io.ballerina.openapi.service.mapper.Constants.ERROR_PAYLOAD;
-import static io.ballerina.openapi.service.mapper.Constants.HTTP;
 
 /**
  * This {@link ErrorTypeMapper} class represents the error type mapper.
@@ -54,10 +51,10 @@ public class ErrorTypeMapper extends AbstractTypeMapper {
     }
 
     public static Schema getSchema(ErrorTypeSymbol typeSymbol, Components components, AdditionalData additionalData) {
-        Optional<Symbol> optErrorPayload = additionalData.semanticModel().types().getTypeByName(BALLERINA, HTTP,
-                EMPTY, ERROR_PAYLOAD);
-        if (optErrorPayload.isPresent() && optErrorPayload.get() instanceof TypeDefinitionSymbol errorPayload) {
-            Schema schema = TypeMapperImpl.getTypeSchema(errorPayload.typeDescriptor(), components, additionalData);
+        Optional<TypeSymbol> errorPayload = HttpSubtypeOracle.getInstance(additionalData.semanticModel())
+                .getHttpType(ERROR_PAYLOAD);
+        if (errorPayload.isPresent()) {
+            Schema schema = TypeMapperImpl.getTypeSchema(errorPayload.get(), components, additionalData);
             if (Objects.nonNull(schema)) {
                 components.addSchemas(ERROR_PAYLOAD, schema);
                 return new ObjectSchema().$ref(ERROR_PAYLOAD);
@@ -146,8 +146,9 @@ public class RecordTypeMapper extends AbstractTypeMapper {
                 recordFieldSchema = recordFieldSchema.description(recordFieldDescription);
             }
             if (recordFieldSymbol.hasDefaultValue()) {
-                Optional<Object> recordFieldDefaultValueOpt = getRecordFieldDefaultValue(recordName, recordFieldName,
-                        additionalData.moduleMemberVisitor());
+                Optional<Object> recordFieldDefaultValueOpt = getRecordFieldDefaultValue(
+                        recordFieldSymbol.getModule().map(module -> module.id().moduleName()).orElse(null),
+                        recordName, recordFieldName, additionalData.moduleMemberVisitor());
                 if (recordFieldDefaultValueOpt.isPresent()) {
                     TypeMapper.setDefaultValue(recordFieldSchema, recordFieldDefaultValueOpt.get());
                 } else {
@@ -163,7 +164,26 @@ public class RecordTypeMapper extends AbstractTypeMapper {
 
     public static Optional<Object> getRecordFieldDefaultValue(String recordName, String fieldName,
                                                     ModuleMemberVisitor moduleMemberVisitor) {
-        Optional<TypeDefinitionNode> recordDefNodeOpt = moduleMemberVisitor.getTypeDefinitionNode(recordName);
+        return getRecordFieldDefaultValue(null, recordName, fieldName, moduleMemberVisitor);
+    }
+
+    /**
+     * Returns the default value of the record field, which is found in the record definition of the given module, or
+     * in any module of the package when the module is not known.
+     *
+     * @param moduleName          name of the module of the record, ex: `snowpeak.representations`
+     * @param recordName          name of the record
+     * @param fieldName           name of the record field
+     * @param moduleMemberVisitor module members of the package
+     * @return default value of the record field
+     */
+    public static Optional<Object> getRecordFieldDefaultValue(String moduleName, String recordName, String fieldName,
+                                                              ModuleMemberVisitor moduleMemberVisitor) {
+        Optional<TypeDefinitionNode> recordDefNodeOpt = Objects.isNull(moduleName) ? Optional.empty() :
+                moduleMemberVisitor.getTypeDefinitionNode(moduleName, recordName);
+        if (recordDefNodeOpt.isEmpty()) {
+            recordDefNodeOpt = moduleMemberVisitor.getTypeDefinitionNode(recordName);
+        }
         if (recordDefNodeOpt.isPresent() &&
                 recordDefNodeOpt.get().typeDescriptor() instanceof RecordTypeDescriptorNode recordDefNode) {
             return getRecordFieldDefaultValue(fieldName, recordDefNode);
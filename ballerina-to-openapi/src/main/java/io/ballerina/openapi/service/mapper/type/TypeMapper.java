@@ -35,6 +35,17 @@ public interface TypeMapper {
 
     Schema getTypeSchema(TypeSymbol typeSymbol);
 
+    /**
+     * Returns the schema of the given type with the given default value. The schema is mapped for the caller when the
+     * default value is given, as the default value is set on it, and the schemas given by
+     * {@link #getTypeSchema(TypeSymbol)} must not be updated.
+     *
+     * @param typeSymbol   type symbol
+     * @param defaultValue default value of the type, or null when it has no default value
+     * @return schema of the type
+     */
+    Schema getTypeSchemaWithDefaultValue(TypeSymbol typeSymbol, Object defaultValue);
+
     Map<String, Schema> getSchemaForRecordFields(Map<String, RecordFieldSymbol> recordFieldMap,
                                                  Set<String> requiredFields, String recordName,
                                                  boolean treatNilableAsOptional);
@@ -32,7 +32,9 @@ import io.ballerina.openapi.service.mapper.model.AdditionalData;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.media.Schema;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import static io.ballerina.openapi.service.mapper.utils.MapperCommonUtils.getTypeName;
@@ -47,14 +49,49 @@ public class TypeMapperImpl implements TypeMapper {
 
     private final Components components;
     private final AdditionalData componentMapperData;
+    // Schemas of the types mapped for the service. The types which are referred by many resources, such as large
+    // union types, are mapped once. The schemas are shared by the operations which refer to the types, hence they
+    // must not be updated after they are mapped.
+    private final Map<String, Schema> typeSchemas;
 
     public TypeMapperImpl(Components components, AdditionalData componentMapperData) {
         this.components = components;
         this.componentMapperData = componentMapperData;
+        this.typeSchemas = new HashMap<>();
     }
 
+    /**
+     * Returns the schema of the given type. The schema is mapped once for the types with the same signature, and the
+     * same schema is returned for every reference, hence the returned schema must not be updated. The schema is
+     * mapped again when the previous mapping reported diagnostics, so that the diagnostics are reported for every
+     * reference.
+     *
+     * @param typeSymbol type symbol
+     * @return schema of the type
+     */
     public Schema getTypeSchema(TypeSymbol typeSymbol) {
-        return getTypeSchema(typeSymbol, components, componentMapperData, false);
+        String signature = typeSymbol.signature();
+        Schema cachedSchema = typeSchemas.get(signature);
+        if (Objects.nonNull(cachedSchema)) {
+            return cachedSchema;
+        }
+        int diagnosticCount = componentMapperData.diagnostics().size();
+        Schema schema = getTypeSchema(typeSymbol, components, componentMapperData, false);
+        if (Objects.nonNull(schema) && diagnosticCount == componentMapperData.diagnostics().size()) {
+            typeSchemas.put(signature, schema);
+        }
+        return schema;
+    }
+
+    public Schema getTypeSchemaWithDefaultValue(TypeSymbol typeSymbol, Object defaultValue) {
+        if (Objects.isNull(defaultValue)) {
+            return getTypeSchema(typeSymbol);
+        }
+        Schema schema = getTypeSchema(typeSymbol, components, componentMapperData, false);
+        if (Objects.nonNull(schema)) {
+            TypeMapper.setDefaultValue(schema, defaultValue);
+        }
+        return schema;
     }
 
     public static Schema getTypeSchema(TypeSymbol typeSymbol, Components components,
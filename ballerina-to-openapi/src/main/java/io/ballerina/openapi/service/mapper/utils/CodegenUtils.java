@@ -15,6 +15,8 @@
  */
 package io.ballerina.openapi.service.mapper.utils;
 
+import io.ballerina.openapi.service.mapper.model.OASResult;
+
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -58,6 +60,21 @@ public final class CodegenUtils {
         }
     }
 
+    /**
+     * Writes the OpenAPI definition of the given result to the specified {@code filePath}, without building the whole
+     * definition as a string.
+     *
+     * @param filePath  valid file path to write the definition
+     * @param oasResult result with the OpenAPI definition
+     * @param format    format of the definition
+     * @throws IOException when a file operation fails
+     */
+    public static void writeFile(Path filePath, OASResult oasResult, OASResult.Format format) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(filePath)) {
+            oasResult.writeTo(outputStream, format);
+        }
+    }
+
     /**
      * Copy content of a file/directory into another location.
      *
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.openapi.service.mapper.utils;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ClassSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.openapi.service.mapper.Constants.BALLERINA;
+import static io.ballerina.openapi.service.mapper.Constants.EMPTY;
+import static io.ballerina.openapi.service.mapper.Constants.HTTP;
+
+/**
+ * This {@link HttpSubtypeOracle} resolves the well-known types of the `ballerina/http` module and its sub modules,
+ * ex: `http:Response`, `http:StatusCodeResponse`, `http:NextService`, once per semantic model, and memoizes the
+ * subtype checks against them. The checks are repeated for each member of the return type union of each resource,
+ * hence they are answered from the memo after the first check of the same type.
+ *
+ * @since 1.9.0
+ */
+public class HttpSubtypeOracle {
+
+    // The oracles are weakly keyed by the semantic model, hence an oracle is kept only while its semantic model is
+    // in use, and the mappings of different packages do not evict the oracles of each other
+    private static final Map<SemanticModel, HttpSubtypeOracle> httpSubtypeOracles =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    // The semantic model is weakly referenced, since a strong reference from the value would keep the key alive
+    private final WeakReference<SemanticModel> semanticModel;
+    private final Map<String, Optional<TypeSymbol>> wellKnownTypes = new ConcurrentHashMap<>();
+    // Subtype check results keyed by the well-known type and the signature of the checked type
+    private final Map<String, Boolean> subtypeResults = new ConcurrentHashMap<>();
+
+    private HttpSubtypeOracle(SemanticModel semanticModel) {
+        this.semanticModel = new WeakReference<>(semanticModel);
+    }
+
+    /**
+     * Returns the oracle of the given semantic model. The mappers look up the oracle once and keep it for all of
+     * their checks.
+     *
+     * @param semanticModel semantic model of the package
+     * @return oracle of the semantic model
+     */
+    public static HttpSubtypeOracle getInstance(SemanticModel semanticModel) {
+        return httpSubtypeOracles.computeIfAbsent(semanticModel, HttpSubtypeOracle::new);
+    }
+
+    /**
+     * Returns the type descriptor of the given type of the `ballerina/http` module.
+     *
+     * @param typeName name of the type
+     * @return type descriptor, or empty when the type is not found
+     */
+    public Optional<TypeSymbol> getHttpType(String typeName) {
+        return getType(HTTP, typeName);
+    }
+
+    /**
+     * Returns the type descriptor of the given type of a `ballerina` module. The type is looked up in the semantic
+     * model only at the first call.
+     *
+     * @param moduleName name of the module, ex: `http`, `http.httpscerr`
+     * @param typeName   name of the type
+     * @return type descriptor, or empty when the type is not found
+     */
+    public Optional<TypeSymbol> getType(String moduleName, String typeName) {
+        return wellKnownTypes.computeIfAbsent(moduleName + ":" + typeName, key -> {
+            SemanticModel model = semanticModel.get();
+            if (Objects.isNull(model)) {
+                return Optional.empty();
+            }
+            Optional<Symbol> symbol = model.types().getTypeByName(BALLERINA, moduleName, EMPTY, typeName);
+            if (symbol.isPresent() && symbol.get() instanceof TypeDefinitionSymbol typeDefinitionSymbol) {
+                return Optional.of(typeDefinitionSymbol.typeDescriptor());
+            } else if (symbol.isPresent() && symbol.get() instanceof ClassSymbol classSymbol) {
+                return Optional.of(classSymbol);
+            }
+            return Optional.empty();
+        });
+    }
+
+    public boolean isSubTypeOfHttpType(TypeSymbol typeSymbol, String typeName) {
+        return isSubTypeOf(typeSymbol, HTTP, typeName);
+    }
+
+    /**
+     * Checks whether the given type is a subtype of the given type of a `ballerina` module.
+     *
+     * @param typeSymbol type to check
+     * @param moduleName name of the module of the well-known type
+     * @param typeName   name of the well-known type
+     * @return true when the type is a subtype, false when it is not or the well-known type is not found
+     */
+    public boolean isSubTypeOf(TypeSymbol typeSymbol, String moduleName, String typeName) {
+        Optional<TypeSymbol> wellKnownType = getType(moduleName, typeName);
+        if (wellKnownType.isEmpty()) {
+            return false;
+        }
+        String key = moduleName + ":" + typeName + " " + typeSymbol.signature();
+        Boolean isSubType = subtypeResults.get(key);
+        if (Objects.isNull(isSubType)) {
+            isSubType = typeSymbol.subtypeOf(wellKnownType.get());
+            subtypeResults.put(key, isSubType);
+        }
+        return isSubType;
+    }
+}
@@ -48,6 +48,7 @@ public class MediaTypeUtils {
     private static final String OCTET_STREAM_PATTERN = "^(application)\\/(.*[.+-]|)octet-stream$";
 
     private final SemanticModel semanticModel;
+    private final HttpSubtypeOracle httpSubtypeOracle;
     private final TypeSymbol structuredType;
     private final TypeSymbol byteArrayType;
     private final TypeSymbol basicTypesWithoutString;
@@ -57,6 +58,7 @@ public class MediaTypeUtils {
 
     private MediaTypeUtils(SemanticModel semanticModel) {
         this.semanticModel = semanticModel;
+        this.httpSubtypeOracle = HttpSubtypeOracle.getInstance(semanticModel);
         TypeSymbol mapOfAnydata = semanticModel.types().builder().MAP_TYPE.withTypeParam(
                 semanticModel.types().ANYDATA).build();
         TypeSymbol tableOfAnydataMap = semanticModel.types().builder().TABLE_TYPE.withRowType(mapOfAnydata).build();
@@ -88,7 +90,7 @@ public class MediaTypeUtils {
             mediaType = getCompatibleMediaType(allowedMediaTypes, XML_PATTERN, APPLICATION_XML);
         } else if (typeSymbol.subtypeOf(byteArrayType)) {
             mediaType = getCompatibleMediaType(allowedMediaTypes, OCTET_STREAM_PATTERN, APPLICATION_OCTET_STREAM);
-        } else if (DefaultResponseMapper.isSubTypeOfHttpResponse(typeSymbol, semanticModel)) {
+        } else if (DefaultResponseMapper.isSubTypeOfHttpResponse(typeSymbol, httpSubtypeOracle)) {
             return "*/*";
         } else {
             mediaType = getCompatibleMediaType(allowedMediaTypes, JSON_PATTERN, APPLICATION_JSON);
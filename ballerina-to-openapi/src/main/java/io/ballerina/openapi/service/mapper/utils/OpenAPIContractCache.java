@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.openapi.service.mapper.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ballerina.openapi.service.mapper.model.OASResult;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This {@link OpenAPIContractCache} keeps the contract files given in the `openapi:ServiceInfo` annotation, so that a
+ * contract shared by many services, builds and language server requests is read and parsed once. The contracts are
+ * identified by their canonical paths, sizes and modified times, hence a contract is read again after it is changed.
+ * The least recently used contracts are evicted when the number of contracts exceeds the limit.
+ *
+ * @since 1.9.0
+ */
+public final class OpenAPIContractCache {
+
+    private static final int MAX_CONTRACTS = 32;
+    private static final Map<ContractKey, Contract> CONTRACTS = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ContractKey, Contract> eldest) {
+                    return size() > MAX_CONTRACTS;
+                }
+            });
+
+    private OpenAPIContractCache() {
+    }
+
+    /**
+     * Returns the content of the given contract file.
+     *
+     * @param contractPath path of the contract file
+     * @return content of the contract file
+     * @throws IOException if the contract file can not be read
+     */
+    public static String getContent(Path contractPath) throws IOException {
+        Contract contract = getContract(contractPath);
+        synchronized (contract) {
+            if (Objects.isNull(contract.content)) {
+                contract.content = Files.readString(contract.key.path());
+            }
+            return contract.content;
+        }
+    }
+
+    /**
+     * Returns the result of parsing the given contract file with its references resolved. The parsed definition is
+     * shared by the callers and must not be updated, use {@link #copyOf(OpenAPI)} to update the definition.
+     *
+     * @param contractPath path of the contract file
+     * @return parsed definition with the diagnostics of parsing
+     */
+    public static OASResult getParsedContract(Path contractPath) {
+        Contract contract;
+        try {
+            contract = getContract(contractPath);
+        } catch (IOException e) {
+            return MapperCommonUtils.parseOpenAPIFile(contractPath.toString());
+        }
+        synchronized (contract) {
+            if (Objects.isNull(contract.parsedContract)) {
+                OASResult oasResult = MapperCommonUtils.parseOpenAPIFile(contract.key.path().toString());
+                contract.parsedContract = new OASResult(oasResult.getOpenAPI().orElse(null),
+                        List.copyOf(oasResult.getDiagnostics()));
+            }
+            return contract.parsedContract;
+        }
+    }
+
+    /**
+     * Returns a deep copy of the given definition, which can be updated without updating the given definition. The
+     * definition is copied through its JSON tree, with the mapper of its specification version.
+     *
+     * @param openAPI OpenAPI definition
+     * @return copy of the definition
+     * @throws IllegalArgumentException if the definition can not be copied
+     */
+    public static OpenAPI copyOf(OpenAPI openAPI) {
+        ObjectMapper mapper = openAPI.getSpecVersion() == SpecVersion.V31 ? Json31.mapper() : Json.mapper();
+        OpenAPI copy = mapper.convertValue(openAPI, OpenAPI.class);
+        copy.setSpecVersion(openAPI.getSpecVersion());
+        return copy;
+    }
+
+    private static Contract getContract(Path contractPath) throws IOException {
+        Path path = contractPath.toRealPath();
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        ContractKey key = new ContractKey(path, attributes.size(), attributes.lastModifiedTime());
+        synchronized (CONTRACTS) {
+            Contract contract = CONTRACTS.get(key);
+            if (Objects.isNull(contract)) {
+                // The earlier versions of the contract are not used again
+                CONTRACTS.keySet().removeIf(contractKey -> contractKey.path().equals(path));
+                contract = new Contract(key);
+                CONTRACTS.put(key, contract);
+            }
+            return contract;
+        }
+    }
+
+    private record ContractKey(Path path, long size, FileTime lastModifiedTime) {
+    }
+
+    private static final class Contract {
+        private final ContractKey key;
+        private String content;
+        private OASResult parsedContract;
+
+        private Contract(ContractKey key) {
+            this.key = key;
+        }
+    }
+}
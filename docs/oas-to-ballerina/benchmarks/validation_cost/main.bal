@@ -0,0 +1,122 @@
+// Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/constraint;
+import ballerina/io;
+import ballerina/time;
+
+# Number of warm-up iterations run before each measurement.
+configurable int warmUpIterations = 2000;
+# Number of measured iterations.
+configurable int iterations = 20000;
+# Number of line items in each order payload.
+configurable int lineItemCount = 20;
+
+// The records below mirror the shape of the records generated for constraint-heavy OpenAPI schemas.
+
+@constraint:String {maxLength: 64, minLength: 1}
+public type Name string;
+
+@constraint:Int {minValue: 1}
+public type Quantity int;
+
+public type Address record {
+    @constraint:String {maxLength: 128, minLength: 1}
+    string street;
+    @constraint:String {maxLength: 64, minLength: 1}
+    string city;
+    @constraint:String {pattern: re `^[0-9]{5}$`}
+    string zip;
+};
+
+public type Customer record {
+    @constraint:Int {minValue: 1}
+    int id;
+    Name name;
+    @constraint:String {pattern: re `^[^@]+@[^@]+$`}
+    string email;
+    Address billingAddress;
+    Address shippingAddress;
+};
+
+public type LineItem record {
+    @constraint:String {maxLength: 32, minLength: 1}
+    string sku;
+    Quantity quantity;
+    @constraint:Number {minValue: 0, maxValue: 100000}
+    decimal unitPrice;
+    @constraint:Array {maxLength: 10}
+    string[] tags;
+};
+
+public type Order record {
+    @constraint:Int {minValue: 1}
+    int id;
+    Customer customer;
+    @constraint:Array {minLength: 1, maxLength: 100}
+    LineItem[] items;
+};
+
+public function main() returns error? {
+    json payload = createPayload(lineItemCount);
+    // Bind the payload without the constraint validation, as done for `x-ballerina-validation: false` operations.
+    decimal bindOnly = check measure(payload, false);
+    // Bind the payload and validate the constraints, as done by the `http` client when validation is enabled.
+    decimal bindAndValidate = check measure(payload, true);
+    io:println(string `line items per order          : ${lineItemCount}`);
+    io:println(string `binding only (us/call)        : ${bindOnly}`);
+    io:println(string `binding + validation (us/call): ${bindAndValidate}`);
+    io:println(string `validation cost (us/call)     : ${bindAndValidate - bindOnly}`);
+}
+
+function measure(json payload, boolean validate) returns decimal|error {
+    foreach int i in 0 ..< warmUpIterations {
+        _ = check bind(payload, validate);
+    }
+    decimal startTime = time:monotonicNow();
+    foreach int i in 0 ..< iterations {
+        _ = check bind(payload, validate);
+    }
+    decimal elapsed = time:monotonicNow() - startTime;
+    return elapsed * 1000000 / <decimal>iterations;
+}
+
+function bind(json payload, boolean validate) returns Order|error {
+    Order 'order = check payload.fromJsonWithType();
+    if validate {
+        return constraint:validate('order);
+    }
+    return 'order;
+}
+
+function createPayload(int count) returns json {
+    json[] items = [];
+    foreach int i in 0 ..< count {
+        items.push({sku: string `SKU-${i}`, quantity: i + 1, unitPrice: 10.5, tags: ["a", "b", "c"]});
+    }
+    json address = {street: "Main Street", city: "Colombo", zip: "00100"};
+    return {
+        id: 1,
+        customer: {
+            id: 1,
+            name: "John",
+            email: "john@example.com",
+            billingAddress: address,
+            shippingAddress: address
+        },
+        items: items
+    };
+}
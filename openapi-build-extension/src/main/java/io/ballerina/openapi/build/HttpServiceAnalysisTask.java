@@ -40,6 +40,7 @@ import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -49,8 +50,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import static io.ballerina.openapi.build.PluginConstants.DISABLE_OPENAPI_FINGERPRINTS;
 import static io.ballerina.openapi.build.PluginConstants.OAS_PATH_SEPARATOR;
 import static io.ballerina.openapi.build.PluginConstants.OPENAPI;
+import static io.ballerina.openapi.build.PluginConstants.OPENAPI_FINGERPRINTS;
 import static io.ballerina.openapi.build.PluginConstants.UNDERSCORE;
 import static io.ballerina.openapi.service.mapper.Constants.HYPHEN;
 import static io.ballerina.openapi.service.mapper.Constants.OPENAPI_SUFFIX;
@@ -99,16 +102,39 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
             diagnostics.addAll(semanticModel.diagnostics());
         } else if (isHttpService(serviceNode, semanticModel)) {
             Optional<Symbol> serviceSymbol = semanticModel.symbol(serviceNode);
-            if (serviceSymbol.isPresent() && serviceSymbol.get() instanceof ServiceDeclarationSymbol) {
+            if (serviceSymbol.isPresent() && serviceSymbol.get() instanceof ServiceDeclarationSymbol symbol) {
                 extractServiceNodes(syntaxTree.rootNode(), services, semanticModel);
+                String fileName = constructFileName(syntaxTree, services, serviceSymbol.get());
+                // The definition is not generated again when the service and everything it is generated from are
+                // not changed after the definition is generated
+                Optional<String> fingerprint = isFingerprintDisabled() ? Optional.empty() :
+                        ServiceFingerprint.of(serviceNode, symbol,
+                                ServiceToOpenAPIMapper.extractNodesFromProject(project), currentPackage, fileName,
+                                inputPath);
+                Path fingerprintPath = outPath.resolve(OPENAPI_FINGERPRINTS).resolve(fileName);
+                Optional<Fingerprint> previousFingerprint = fingerprint.isPresent() ?
+                        readFingerprint(fingerprintPath) : Optional.empty();
+                // The definition may be written to a file other than the file name of the service, hence the written
+                // file kept with the fingerprint is checked
+                if (previousFingerprint.isPresent() && previousFingerprint.get().fingerprint()
+                        .equals(fingerprint.get()) && Files.exists(outPath.resolve(OPENAPI)
+                        .resolve(previousFingerprint.get().contract().fileName()))) {
+                    return;
+                }
                 OASGenerationMetaInfo.OASGenerationMetaInfoBuilder builder =
                         new OASGenerationMetaInfo.OASGenerationMetaInfoBuilder();
                 builder.setServiceDeclarationNode(serviceNode).setSemanticModel(semanticModel)
                         .setOpenApiFileName(services.get(serviceSymbol.get().hashCode()))
                         .setBallerinaFilePath(inputPath).setProject(project);
                 OASResult oasResult = ServiceToOpenAPIMapper.generateOAS(builder.build());
-                oasResult.setServiceName(constructFileName(syntaxTree, services, serviceSymbol.get()));
-                writeOpenAPIYaml(outPath, oasResult, diagnostics);
+                oasResult.setServiceName(fileName);
+                Optional<Contract> contract = writeOpenAPIYaml(outPath, oasResult,
+                        previousFingerprint.map(Fingerprint::contract).orElse(null), diagnostics);
+                // The services with diagnostics are generated in every build, so that the diagnostics are reported
+                if (contract.isPresent() && diagnostics.isEmpty() && fingerprint.isPresent()) {
+                    writeFingerprint(fingerprintPath, new Fingerprint(fingerprint.get(), contract.get()),
+                            diagnostics);
+                }
             }
         }
         if (!diagnostics.isEmpty()) {
@@ -136,15 +162,65 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
         return fileName + OPENAPI_SUFFIX + YAML_EXTENSION;
     }
 
-    private void writeOpenAPIYaml(Path outPath, OASResult oasResult, List<Diagnostic> diagnostics) {
-        if (oasResult.getYaml().isPresent()) {
+    private static boolean isFingerprintDisabled() {
+        return Boolean.parseBoolean(System.getenv(DISABLE_OPENAPI_FINGERPRINTS));
+    }
+
+    /**
+     * Reads the fingerprint of the service, the name of the file its definition is written to and the digest of the
+     * definition, which are written on separate lines.
+     */
+    private static Optional<Fingerprint> readFingerprint(Path fingerprintPath) {
+        try {
+            if (!Files.exists(fingerprintPath)) {
+                return Optional.empty();
+            }
+            List<String> lines = Files.readAllLines(fingerprintPath, StandardCharsets.UTF_8);
+            return lines.size() == 3 ? Optional.of(new Fingerprint(lines.get(0),
+                    new Contract(lines.get(1), lines.get(2)))) : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static void writeFingerprint(Path fingerprintPath, Fingerprint fingerprint,
+                                         List<Diagnostic> diagnostics) {
+        try {
+            Files.createDirectories(fingerprintPath.getParent());
+            Files.write(fingerprintPath, List.of(fingerprint.fingerprint(), fingerprint.contract().fileName(),
+                    fingerprint.contract().contentDigest()), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            ExceptionDiagnostic diagnostic = new ExceptionDiagnostic(DiagnosticMessages.OAS_CONVERTOR_108,
+                    e.toString());
+            diagnostics.add(BuildExtensionUtil.getDiagnostics(diagnostic));
+        }
+    }
+
+    /**
+     * Writes the OpenAPI definition to the `openapi` directory of the target. The file is not written when it is the
+     * file written for the previous fingerprint and the digest of the definition is the same as the digest kept with
+     * the previous fingerprint, so that its modified time is kept.
+     *
+     * @return name of the written file and the digest of the definition when the definition is in the file
+     */
+    private Optional<Contract> writeOpenAPIYaml(Path outPath, OASResult oasResult, Contract previousContract,
+                                                List<Diagnostic> diagnostics) {
+        Optional<Contract> contract = Optional.empty();
+        if (oasResult.getOpenAPI().isPresent()) {
             try {
                 // Create openapi directory if not exists in the path. If exists do not throw an error
                 Files.createDirectories(Paths.get(outPath + OAS_PATH_SEPARATOR + OPENAPI));
                 String serviceName = oasResult.getServiceName();
                 String fileName = resolveContractFileName(outPath.resolve(OPENAPI),
                         serviceName, false);
-                writeFile(outPath.resolve(OPENAPI + OAS_PATH_SEPARATOR + fileName), oasResult.getYaml().get());
+                Path contractPath = outPath.resolve(OPENAPI + OAS_PATH_SEPARATOR + fileName);
+                Optional<String> yamlDigest = oasResult.getYaml().flatMap(ServiceFingerprint::digestOf);
+                if (yamlDigest.isEmpty() || !Files.exists(contractPath) || previousContract == null ||
+                        !previousContract.fileName().equals(fileName) ||
+                        !yamlDigest.get().equals(previousContract.contentDigest())) {
+                    writeFile(contractPath, oasResult, OASResult.Format.YAML);
+                }
+                contract = yamlDigest.map(digest -> new Contract(fileName, digest));
             } catch (IOException e) {
                 ExceptionDiagnostic diagnostic = new ExceptionDiagnostic(DiagnosticMessages.OAS_CONVERTOR_108,
                         e.toString());
@@ -156,6 +232,7 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
                 diagnostics.add(BuildExtensionUtil.getDiagnostics(diagnostic));
             }
         }
+        return contract;
     }
 
     /**
@@ -187,4 +264,17 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
             }
         }
     }
+
+    /**
+     * Fingerprint of a service with the definition generated for it.
+     */
+    private record Fingerprint(String fingerprint, Contract contract) {
+    }
+
+    /**
+     * Name of the file in the `openapi` directory of the target a definition is written to, with the digest of the
+     * definition.
+     */
+    private record Contract(String fileName, String contentDigest) {
+    }
 }
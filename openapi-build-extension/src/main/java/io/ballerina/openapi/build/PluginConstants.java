@@ -24,4 +24,8 @@ public class PluginConstants {
     public static final String OPENAPI = "openapi";
     public static final String OAS_PATH_SEPARATOR = "/";
     public static final String UNDERSCORE = "_";
+    // Directory of the target which keeps the fingerprints of the services of the generated definitions
+    public static final String OPENAPI_FINGERPRINTS = "openapi-fingerprints";
+    // Environment variable which disables the fingerprints, so that the definitions are generated in every build
+    public static final String DISABLE_OPENAPI_FINGERPRINTS = "BAL_OPENAPI_DISABLE_FINGERPRINTS";
 }
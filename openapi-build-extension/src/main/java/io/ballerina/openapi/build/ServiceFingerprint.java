@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.build;
+
+import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
+import io.ballerina.compiler.api.symbols.ErrorTypeSymbol;
+import io.ballerina.compiler.api.symbols.FunctionTypeSymbol;
+import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
+import io.ballerina.compiler.api.symbols.MapTypeSymbol;
+import io.ballerina.compiler.api.symbols.MethodSymbol;
+import io.ballerina.compiler.api.symbols.ObjectTypeSymbol;
+import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
+import io.ballerina.compiler.api.symbols.ServiceDeclarationSymbol;
+import io.ballerina.compiler.api.symbols.StreamTypeSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TableTypeSymbol;
+import io.ballerina.compiler.api.symbols.TupleTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.ConstantDeclarationNode;
+import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.ListenerDeclarationNode;
+import io.ballerina.compiler.syntax.tree.MappingFieldNode;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
+import io.ballerina.openapi.service.mapper.model.ModuleMemberVisitor;
+import io.ballerina.projects.Package;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * This {@link ServiceFingerprint} computes the fingerprint of everything the OpenAPI definition of a service is
+ * generated from: the version of the build extension, the source of the service with its annotations, the types
+ * reachable from the methods of the service with their definitions, the listeners, the module level constants and
+ * enums, the contract files given in the `openapi:ServiceInfo` annotation and the package version. The definition of
+ * a service is generated again only when its fingerprint changes.
+ *
+ * @since 1.9.0
+ */
+public class ServiceFingerprint {
+
+    // The definitions are generated again by a different version of the build extension, as the mapping may differ
+    private static final Optional<String> EXTENSION_VERSION = getExtensionVersion();
+    private static final String SNAPSHOT = "SNAPSHOT";
+    private static final String SERVICE_INFO = "ServiceInfo";
+    private static final String CONTRACT = "contract";
+
+    private final MessageDigest digest;
+    private final ModuleMemberVisitor moduleMembers;
+    private final Set<String> visitedTypes = new HashSet<>();
+
+    private ServiceFingerprint(MessageDigest digest, ModuleMemberVisitor moduleMembers) {
+        this.digest = digest;
+        this.moduleMembers = moduleMembers;
+    }
+
+    /**
+     * Returns the fingerprint of the given service.
+     *
+     * @param serviceNode    service declaration
+     * @param serviceSymbol  symbol of the service
+     * @param moduleMembers  module members of the package of the service
+     * @param currentPackage package of the service
+     * @param fileName       name of the generated OpenAPI definition
+     * @param inputPath      path of the source file of the service, used to resolve the relative contract paths
+     * @return hex encoded fingerprint, or empty when the fingerprint can not be computed
+     */
+    public static Optional<String> of(ServiceDeclarationNode serviceNode, ServiceDeclarationSymbol serviceSymbol,
+                                      ModuleMemberVisitor moduleMembers, Package currentPackage, String fileName,
+                                      Path inputPath) {
+        if (EXTENSION_VERSION.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            ServiceFingerprint fingerprint = new ServiceFingerprint(MessageDigest.getInstance("SHA-256"),
+                    moduleMembers);
+            fingerprint.update(EXTENSION_VERSION.get());
+            fingerprint.update(fileName);
+            fingerprint.update(currentPackage.packageOrg().value() + "/" + currentPackage.packageName().value() +
+                    ":" + currentPackage.packageVersion().toString());
+            fingerprint.update(serviceNode.toSourceCode());
+            moduleMembers.getListenerDeclarationNodes().stream().map(ListenerDeclarationNode::toSourceCode)
+                    .sorted().forEach(fingerprint::update);
+            // The constants and the enums may be referred by the annotations and the types, such as the base path
+            moduleMembers.getConstantDeclarationNodes().stream().map(ConstantDeclarationNode::toSourceCode)
+                    .sorted().forEach(fingerprint::update);
+            moduleMembers.getEnumDeclarationNodes().stream().map(EnumDeclarationNode::toSourceCode)
+                    .sorted().forEach(fingerprint::update);
+            serviceSymbol.methods().entrySet().stream().sorted(Map.Entry.comparingByKey())
+                    .forEach(method -> fingerprint.updateMethod(method.getValue()));
+            fingerprint.updateContracts(serviceNode, inputPath);
+            return Optional.of(HexFormat.of().formatHex(fingerprint.digest.digest()));
+        } catch (NoSuchAlgorithmException | IOException | InvalidPathException e) {
+            // The definition is generated when the fingerprint can not be computed
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the digest of the given content, which is kept with the fingerprint to find whether a generated
+     * definition is the same as the definition in the target without reading the definition.
+     *
+     * @param content content of the generated definition
+     * @return hex encoded digest, or empty when the digest can not be computed
+     */
+    public static Optional<String> digestOf(String content) {
+        try {
+            return Optional.of(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(content.getBytes(StandardCharsets.UTF_8))));
+        } catch (NoSuchAlgorithmException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the implementation version of the build extension. The modified time of the extension jar is added to
+     * the snapshot versions, as a snapshot version is the same for the changes of the extension. The version is empty
+     * when it can not be found, hence the definitions are generated in every build.
+     */
+    private static Optional<String> getExtensionVersion() {
+        String version = ServiceFingerprint.class.getPackage().getImplementationVersion();
+        if (version != null && !version.endsWith(SNAPSHOT)) {
+            return Optional.of(version);
+        }
+        try {
+            CodeSource codeSource = ServiceFingerprint.class.getProtectionDomain().getCodeSource();
+            if (codeSource == null || codeSource.getLocation() == null) {
+                return Optional.empty();
+            }
+            Path extensionPath = Paths.get(codeSource.getLocation().toURI());
+            return Optional.of(version + ":" + Files.getLastModifiedTime(extensionPath).toMillis());
+        } catch (URISyntaxException | IOException | IllegalArgumentException | FileSystemNotFoundException |
+                 SecurityException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void update(String content) {
+        digest.update(content.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private void updateMethod(MethodSymbol methodSymbol) {
+        FunctionTypeSymbol functionType = methodSymbol.typeDescriptor();
+        functionType.params().ifPresent(params -> params.stream().map(ParameterSymbol::typeDescriptor)
+                .forEach(this::updateType));
+        functionType.restParam().map(ParameterSymbol::typeDescriptor).ifPresent(this::updateType);
+        functionType.returnTypeDescriptor().ifPresent(this::updateType);
+    }
+
+    private void updateType(TypeSymbol typeSymbol) {
+        update(typeSymbol.signature());
+        switch (typeSymbol.typeKind()) {
+            case TYPE_REFERENCE -> {
+                TypeReferenceTypeSymbol referenceType = (TypeReferenceTypeSymbol) typeSymbol;
+                if (visitedTypes.add(referenceType.signature())) {
+                    updateDefinition(referenceType.definition());
+                    updateType(referenceType.typeDescriptor());
+                }
+            }
+            case RECORD -> {
+                RecordTypeSymbol recordType = (RecordTypeSymbol) typeSymbol;
+                recordType.typeInclusions().forEach(this::updateType);
+                recordType.fieldDescriptors().entrySet().stream().sorted(Map.Entry.comparingByKey())
+                        .forEach(field -> updateType(field.getValue().typeDescriptor()));
+                recordType.restTypeDescriptor().ifPresent(this::updateType);
+            }
+            case UNION -> ((UnionTypeSymbol) typeSymbol).memberTypeDescriptors().forEach(this::updateType);
+            case INTERSECTION ->
+                    ((IntersectionTypeSymbol) typeSymbol).memberTypeDescriptors().forEach(this::updateType);
+            case ARRAY -> updateType(((ArrayTypeSymbol) typeSymbol).memberTypeDescriptor());
+            case MAP -> updateType(((MapTypeSymbol) typeSymbol).typeParam());
+            case TABLE -> updateType(((TableTypeSymbol) typeSymbol).rowTypeParameter());
+            case TUPLE -> {
+                TupleTypeSymbol tupleType = (TupleTypeSymbol) typeSymbol;
+                tupleType.memberTypeDescriptors().forEach(this::updateType);
+                tupleType.restTypeDescriptor().ifPresent(this::updateType);
+            }
+            case ERROR -> updateType(((ErrorTypeSymbol) typeSymbol).detailTypeDescriptor());
+            case STREAM -> updateType(((StreamTypeSymbol) typeSymbol).typeParameter());
+            case OBJECT -> ((ObjectTypeSymbol) typeSymbol).methods().entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey()).forEach(method -> updateMethod(method.getValue()));
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Updates the fingerprint with the source of the given type definition, which includes the documentation and
+     * the annotations of the type. The types of the other packages are identified by their signatures, which include
+     * the versions of the packages.
+     */
+    private void updateDefinition(Symbol definition) {
+        Optional<String> typeName = definition.getName();
+        Optional<String> moduleName = definition.getModule().map(module -> module.id().moduleName());
+        if (typeName.isEmpty() || moduleName.isEmpty()) {
+            return;
+        }
+        moduleMembers.getTypeDefinitionNode(moduleName.get(), typeName.get())
+                .ifPresent(typeDefinition -> update(typeDefinition.toSourceCode()));
+        moduleMembers.getInterceptorServiceClassNode(moduleName.get(), typeName.get())
+                .ifPresent(classDefinition -> update(classDefinition.toSourceCode()));
+    }
+
+    /**
+     * Updates the fingerprint with the content of the contract files given in the `openapi:ServiceInfo` annotation,
+     * as the definition of the service is read from the contract file. The content of each file is prefixed with the
+     * path and the length of the file, so that the contents of different files are not mixed up.
+     */
+    private void updateContracts(ServiceDeclarationNode serviceNode, Path inputPath) throws IOException {
+        if (serviceNode.metadata().isEmpty()) {
+            return;
+        }
+        List<AnnotationNode> annotations = serviceNode.metadata().get().annotations().stream()
+                .filter(annotation -> annotation.annotReference().toString().trim().endsWith(SERVICE_INFO))
+                .sorted(Comparator.comparing(AnnotationNode::toSourceCode)).toList();
+        for (AnnotationNode annotation : annotations) {
+            if (annotation.annotValue().isEmpty()) {
+                continue;
+            }
+            for (MappingFieldNode field : annotation.annotValue().get().fields()) {
+                if (!(field instanceof SpecificFieldNode specificField) ||
+                        !specificField.fieldName().toString().trim().equals(CONTRACT)) {
+                    continue;
+                }
+                Optional<ExpressionNode> value = specificField.valueExpr();
+                if (value.isEmpty()) {
+                    continue;
+                }
+                Path contractPath = Paths.get(value.get().toString().replaceAll("\"", "").trim());
+                if (!contractPath.isAbsolute() && inputPath != null && inputPath.getParent() != null) {
+                    contractPath = inputPath.getParent().resolve(contractPath).normalize();
+                }
+                update(contractPath.toString());
+                if (Files.isRegularFile(contractPath)) {
+                    byte[] content = Files.readAllBytes(contractPath);
+                    update(String.valueOf(content.length));
+                    digest.update(content);
+                } else {
+                    // A missing contract file is not mixed up with an empty contract file
+                    update(String.valueOf(-1));
+                }
+            }
+        }
+    }
+}
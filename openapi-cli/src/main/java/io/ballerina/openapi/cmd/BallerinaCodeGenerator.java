@@ -20,14 +20,20 @@ package io.ballerina.openapi.cmd;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.core.CompileCostAnalyzer;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaBenchmarkGenerator;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.BallerinaLoadTestGenerator;
 import io.ballerina.openapi.core.generators.client.BallerinaTestGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.schema.InlineSchemaRegistry;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
 import io.ballerina.openapi.core.generators.service.BallerinaServiceObjectGenerator;
+import io.ballerina.openapi.core.generators.service.MockResponseGenerator;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
 import io.ballerina.openapi.core.model.Filter;
 import io.ballerina.openapi.core.model.GenSrcFile;
@@ -39,9 +45,12 @@ import org.ballerinalang.formatter.core.FormatterException;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -49,11 +58,18 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import static io.ballerina.openapi.cmd.CmdConstants.BENCHMARK_TEST_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdConstants.CLIENT_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdConstants.CONFIG_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdConstants.DEFAULT_CLIENT_PKG;
@@ -61,7 +77,9 @@ import static io.ballerina.openapi.cmd.CmdConstants.DEFAULT_MOCK_PKG;
 import static io.ballerina.openapi.cmd.CmdConstants.GenType.GEN_BOTH;
 import static io.ballerina.openapi.cmd.CmdConstants.GenType.GEN_CLIENT;
 import static io.ballerina.openapi.cmd.CmdConstants.GenType.GEN_SERVICE;
+import static io.ballerina.openapi.cmd.CmdConstants.LOAD_TEST_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdConstants.OAS_PATH_SEPARATOR;
+import static io.ballerina.openapi.cmd.CmdConstants.SHARED_TYPES_REPORT_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdConstants.SUPPORTED_OPENAPI_VERSIONS;
 import static io.ballerina.openapi.cmd.CmdConstants.TEST_DIR;
 import static io.ballerina.openapi.cmd.CmdConstants.TEST_FILE_NAME;
@@ -81,8 +99,21 @@ public class BallerinaCodeGenerator {
     private String srcPackage;
     private String licenseHeader = "";
     private boolean includeTestFiles;
+    private boolean streamingMultipart;
+    private boolean readonlyTypes;
+    private List<String> validationSkippedOperations = new ArrayList<>();
+    private List<String> batchOperations = new ArrayList<>();
+    private boolean mock;
+    private boolean loadTest;
+    private boolean includeBenchmarks;
+    private boolean compileCostReport;
+    private boolean measureCompileTime;
+    private boolean lowMemory;
+    private boolean sharedTypesReport;
 
     private static final PrintStream outStream = System.out;
+    // Number of operations of which the client methods are generated at once in the low-memory mode
+    private static final int CLIENT_METHOD_CHUNK_SIZE = 100;
 
     /**
      * Generates ballerina source for provided Open API Definition in {@code definitionPath}.
@@ -111,6 +142,10 @@ public class BallerinaCodeGenerator {
         List<String> complexPaths = GeneratorUtils.getComplexPaths(openAPIDef);
         if (!complexPaths.isEmpty()) {
             isResource = false;
+            if (loadTest) {
+                outStream.println("WARNING: the load test is not generated as the mock service can not be " +
+                        "generated.");
+            }
             outStream.println("WARNING: remote function(s) will be generated for client and the service" +
                     " generation can not be proceed due to the given openapi definition contains following" +
                     " complex path(s):");
@@ -126,26 +161,19 @@ public class BallerinaCodeGenerator {
                 .withNullable(nullable)
                 .withPlugin(false)
                 .withOpenAPI(openAPIDef)
-                .withResourceMode(isResource).build();
-
+                .withResourceMode(isResource)
+                .withStreamingMultipart(streamingMultipart)
+                .withReadonlyTypes(readonlyTypes)
+                .withValidationSkippedOperations(validationSkippedOperations)
+                .withBatchOperations(batchOperations).build();
+
+        // The generators are created here one after the other, and each generation task runs with the metadata of
+        // the generator it belongs to, as the generators of the client, the service and the types set different
+        // metadata.
         BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        String clientContent = Formatter.format(clientGenerator.generateSyntaxTree()).toSourceCode();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
-                (licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader) + clientContent));
-        String utilContent = Formatter.format(clientGenerator
-                .getBallerinaUtilGenerator()
-                .generateUtilSyntaxTree()).toString();
-        if (!utilContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME,
-                    (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + utilContent));
-        }
-
-        //Update type definition list
-        List<TypeDefinitionNode> preGeneratedTypeDefNodes = new ArrayList<>(
-                clientGenerator.getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes());
-        List<TypeDefinitionNode> typeDefinitionNodeList = clientGenerator.getTypeDefinitionNodeList();
-        preGeneratedTypeDefNodes.addAll(typeDefinitionNodeList);
-        String serviceContent = "";
+        GeneratorMetaData clientMetaData = GeneratorMetaData.getInstance();
+        BallerinaServiceGenerator serviceGenerator;
+        GeneratorMetaData serviceMetaData;
         if (complexPaths.isEmpty()) {
             OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
                     .withOpenAPI(openAPIDef)
@@ -153,55 +181,142 @@ public class BallerinaCodeGenerator {
                     .withNullable(nullable)
                     .withGenerateServiceType(generateServiceType)
                     .withGenerateWithoutDataBinding(generateWithoutDataBinding)
+                    .withMock(mock || loadTest)
                     .build();
-            BallerinaServiceGenerator serviceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
-            serviceContent = Formatter.format
-                    (serviceGenerator.generateSyntaxTree()).toSourceCode();
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile,
-                    (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + serviceContent));
-
-            if (generateServiceType) {
-                BallerinaServiceObjectGenerator ballerinaServiceObjectGenerator = new
-                        BallerinaServiceObjectGenerator(serviceGenerator.getFunctionList());
-                String serviceType = Formatter.format(ballerinaServiceObjectGenerator.generateSyntaxTree()).
-                        toSourceCode();
-                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
-                        "service_type.bal", (licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER :
-                        licenseHeader) + serviceType));
-            }
-            List<TypeDefinitionNode> typeInclusionRecords = serviceGenerator.getTypeInclusionRecords();
-            preGeneratedTypeDefNodes.addAll(typeInclusionRecords);
+            serviceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+            serviceMetaData = GeneratorMetaData.getInstance();
+        } else {
+            serviceGenerator = null;
+            serviceMetaData = null;
         }
-
-        // Generate ballerina types.
-        // Generate ballerina records to represent schemas.
+        // The types generator keeps the given list, which is filled with the types of the client and the service
+        // before the types are generated.
+        List<TypeDefinitionNode> preGeneratedTypeDefNodes = new ArrayList<>();
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(
-                openAPIDef, nullable, preGeneratedTypeDefNodes);
-
-        SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toSourceCode();
-
-        // Remove unused records and enums when generating the client and service.
-        schemaContent = GeneratorUtils.removeUnusedEntities(schemaSyntaxTree, clientContent, schemaContent,
-                serviceContent);
-
-        if (!schemaContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage, TYPE_FILE_NAME,
-                    (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + schemaContent));
-        }
+                getTypesMetaData(openAPIDef, nullable), preGeneratedTypeDefNodes);
+        GeneratorMetaData typesMetaData = GeneratorMetaData.getInstance();
+
+        // The generation runs as a graph of tasks: the client and the service are generated concurrently, the types
+        // are generated with the types of both, and the generated sources are formatted concurrently. The results
+        // are collected in the same order as the sequential generation, so the generated files do not change.
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            CompletableFuture<SyntaxTree> clientSyntaxTree = runAsync(executor, clientMetaData,
+                    clientGenerator::generateSyntaxTree);
+            CompletableFuture<String> clientContent = runAfter(executor, clientMetaData,
+                    () -> Formatter.format(clientSyntaxTree.join()).toSourceCode(), clientSyntaxTree);
+            CompletableFuture<String> utilContent = runAfter(executor, clientMetaData,
+                    () -> Formatter.format(clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree())
+                            .toString(), clientSyntaxTree);
+
+            CompletableFuture<SyntaxTree> serviceSyntaxTree;
+            CompletableFuture<String> serviceContent;
+            CompletableFuture<String> serviceTypeContent;
+            CompletableFuture<Optional<String>> loadTestContent;
+            if (serviceGenerator != null) {
+                serviceSyntaxTree = runAsync(executor, serviceMetaData, serviceGenerator::generateSyntaxTree);
+                serviceContent = runAfter(executor, serviceMetaData,
+                        () -> Formatter.format(serviceSyntaxTree.join()).toSourceCode(), serviceSyntaxTree);
+                serviceTypeContent = generateServiceType ? runAfter(executor, serviceMetaData,
+                        () -> Formatter.format(new BallerinaServiceObjectGenerator(serviceGenerator.getFunctionList())
+                                .generateSyntaxTree()).toSourceCode(), serviceSyntaxTree) : null;
+                // Generate the load test of the client against the mock service
+                loadTestContent = loadTest ? runAfter(executor, serviceMetaData,
+                        () -> formatOptional(new BallerinaLoadTestGenerator(clientGenerator,
+                                MockResponseGenerator.MOCK_SERVICE_PORT, serviceGenerator.getBasePath())
+                                .generateSyntaxTree()), clientSyntaxTree, serviceSyntaxTree) : null;
+            } else {
+                serviceSyntaxTree = CompletableFuture.completedFuture(null);
+                serviceContent = CompletableFuture.completedFuture("");
+                serviceTypeContent = null;
+                loadTestContent = null;
+            }
 
-        // Generate test boilerplate code for test cases
-        if (this.includeTestFiles) {
-            BallerinaTestGenerator ballerinaTestGenerator = new BallerinaTestGenerator(clientGenerator);
-            String testContent = Formatter.format(ballerinaTestGenerator.generateSyntaxTree()).toSourceCode();
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME,
-                    (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + testContent));
-
-            String configContent = ballerinaTestGenerator.getConfigTomlFile();
-            if (!configContent.isBlank()) {
-                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
-                        CONFIG_FILE_NAME, configContent));
+            // Generate ballerina types.
+            // Generate ballerina records to represent schemas.
+            CompletableFuture<SyntaxTree> schemaSyntaxTree = runAfter(executor, typesMetaData, () -> {
+                //Update type definition list
+                preGeneratedTypeDefNodes.addAll(
+                        clientGenerator.getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes());
+                preGeneratedTypeDefNodes.addAll(clientGenerator.getTypeDefinitionNodeList());
+                if (serviceGenerator != null) {
+                    preGeneratedTypeDefNodes.addAll(serviceGenerator.getTypeInclusionRecords());
+                }
+                return ballerinaSchemaGenerator.generateSyntaxTree();
+            }, clientSyntaxTree, serviceSyntaxTree);
+            // Remove unused records and enums when generating the client and service.
+            CompletableFuture<String> schemaContent = runAfter(executor, typesMetaData,
+                    () -> GeneratorUtils.removeUnusedEntities(schemaSyntaxTree.join(),
+                            clientContent.join(), Formatter.format(schemaSyntaxTree.join()).toSourceCode(),
+                            serviceContent.join()), schemaSyntaxTree, clientContent, serviceContent);
+
+            // Generate test boilerplate code for test cases
+            CompletableFuture<BallerinaTestGenerator> testGenerator = includeTestFiles ? runAfter(executor,
+                    typesMetaData, () -> new BallerinaTestGenerator(clientGenerator), clientSyntaxTree) : null;
+            CompletableFuture<String> testContent = includeTestFiles ? runAfter(executor, typesMetaData,
+                    () -> Formatter.format(testGenerator.join().generateSyntaxTree()).toSourceCode(),
+                    testGenerator) : null;
+            // The benchmarks are run against the mock service when it is generated
+            String benchmarkServiceUrl = serviceGenerator != null && (mock || loadTest) ? null :
+                    "\"" + clientGenerator.getServerUrl() + "\"";
+            CompletableFuture<Optional<String>> benchmarkContent = includeBenchmarks ? runAfter(executor,
+                    typesMetaData, () -> generateBenchmarks(clientGenerator, benchmarkServiceUrl != null ?
+                            benchmarkServiceUrl : BallerinaLoadTestGenerator.getMockServiceUrl(
+                            MockResponseGenerator.MOCK_SERVICE_PORT, serviceGenerator.getBasePath())),
+                    clientSyntaxTree, serviceSyntaxTree) : null;
+
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
+                    (licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader) + await(clientContent)));
+            if (!await(utilContent).isBlank()) {
+                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME,
+                        (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + await(utilContent)));
+            }
+            if (serviceGenerator != null) {
+                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile,
+                        (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + await(serviceContent)));
+                if (loadTestContent != null) {
+                    Optional<String> loadTestSource = await(loadTestContent);
+                    if (loadTestSource.isPresent()) {
+                        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
+                                LOAD_TEST_FILE_NAME, (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) +
+                                loadTestSource.get()));
+                    } else {
+                        outStream.println("WARNING: the load test is not generated as the client authentication " +
+                                "requires an external token endpoint.");
+                    }
+                }
+                if (serviceTypeContent != null) {
+                    sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
+                            "service_type.bal", (licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER :
+                            licenseHeader) + await(serviceTypeContent)));
+                }
+            }
+            if (!await(schemaContent).isBlank()) {
+                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage, TYPE_FILE_NAME,
+                        (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + await(schemaContent)));
             }
+            if (testContent != null) {
+                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME,
+                        (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + await(testContent)));
+
+                String configContent = await(testGenerator).getConfigTomlFile();
+                if (!configContent.isBlank()) {
+                    sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
+                            CONFIG_FILE_NAME, configContent));
+                }
+            }
+            if (benchmarkContent != null) {
+                addBenchmarkFile(sourceFiles, await(benchmarkContent),
+                        licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader);
+            }
+            List<InlineSchemaRegistry> inlineSchemaRegistries = new ArrayList<>();
+            inlineSchemaRegistries.add(clientGenerator.getInlineSchemaRegistry());
+            if (serviceGenerator != null) {
+                inlineSchemaRegistries.add(serviceGenerator.getInlineSchemaRegistry());
+            }
+            addSharedTypesReport(sourceFiles, inlineSchemaRegistries);
+        } finally {
+            executor.shutdownNow();
         }
 
         List<GenSrcFile> newGenFiles = sourceFiles.stream()
@@ -236,8 +351,18 @@ public class BallerinaCodeGenerator {
         Path srcPath = Paths.get(outPath);
         Path implPath = CodegenUtils.getImplPath(srcPackage, srcPath);
         List<GenSrcFile> genFiles = generateClientFiles(Paths.get(definitionPath), filter, nullable, isResource);
-        if (!genFiles.isEmpty()) {
-            writeGeneratedSources(genFiles, srcPath, implPath, GEN_CLIENT);
+        try {
+            if (!genFiles.isEmpty()) {
+                writeGeneratedSources(genFiles, srcPath, implPath, GEN_CLIENT);
+            }
+        } finally {
+            // The sources generated in the low-memory mode are kept in temporary files until they are written
+            for (GenSrcFile genFile : genFiles) {
+                Optional<Path> contentFile = genFile.getContentFile();
+                if (contentFile.isPresent()) {
+                    Files.deleteIfExists(contentFile.get());
+                }
+            }
         }
     }
 
@@ -309,14 +434,10 @@ public class BallerinaCodeGenerator {
             if (!file.getType().isOverwritable()) {
                 filePath = implPath.resolve(file.getFileName());
                 if (Files.notExists(filePath)) {
-                    String fileContent = file.getContent();
-                    CodegenUtils.writeFile(filePath, fileContent);
+                    writeSourceFile(filePath, file);
                 }
             } else {
-                boolean isDuplicatedFileInTests = file.getFileName().matches("test.+[0-9]+.bal") ||
-                        file.getFileName().matches("Config.+[0-9]+.toml");
-                if (file.getFileName().equals(TEST_FILE_NAME) || file.getFileName().equals(CONFIG_FILE_NAME) ||
-                        isDuplicatedFileInTests) {
+                if (isTestDirFile(file.getFileName())) {
                     // Create test directory if not exists in the path. If exists do not throw an error
                     Files.createDirectories(Paths.get(srcPath + OAS_PATH_SEPARATOR + TEST_DIR));
                     filePath = Paths.get(srcPath.resolve(TEST_DIR + OAS_PATH_SEPARATOR +
@@ -324,8 +445,7 @@ public class BallerinaCodeGenerator {
                 } else {
                     filePath = Paths.get(srcPath.resolve(file.getFileName()).toFile().getCanonicalPath());
                 }
-                String fileContent = file.getContent();
-                CodegenUtils.writeFile(filePath, fileContent);
+                writeSourceFile(filePath, file);
             }
         }
 
@@ -341,6 +461,57 @@ public class BallerinaCodeGenerator {
         while (iterator.hasNext()) {
             outStream.println("-- " + iterator.next().getFileName());
         }
+        if (compileCostReport || measureCompileTime) {
+            printCompileCostReport(sources);
+        }
+    }
+
+    /**
+     * Write the content of the generated file to the given path. The content kept in a file is copied without reading
+     * it into the memory.
+     */
+    private static void writeSourceFile(Path filePath, GenSrcFile file) throws IOException {
+
+        Optional<Path> contentFile = file.getContentFile();
+        if (contentFile.isPresent()) {
+            Files.copy(contentFile.get(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            CodegenUtils.writeFile(filePath, file.getContent());
+        }
+    }
+
+    /**
+     * Check whether the generated file is written to the `tests` directory of the package.
+     */
+    private static boolean isTestDirFile(String fileName) {
+
+        boolean isDuplicatedFileInTests = fileName.matches("test.+[0-9]+.bal") ||
+                fileName.matches("Config.+[0-9]+.toml");
+        return fileName.equals(TEST_FILE_NAME) || fileName.equals(CONFIG_FILE_NAME) ||
+                fileName.equals(LOAD_TEST_FILE_NAME) || fileName.equals(BENCHMARK_TEST_FILE_NAME) ||
+                isDuplicatedFileInTests;
+    }
+
+    /**
+     * Print the properties of the generated module sources which drive the cost of compiling the module, and the
+     * time taken to compile the module when it is requested. The test sources are not included as they are only
+     * compiled by `bal test`.
+     */
+    private void printCompileCostReport(List<GenSrcFile> sources) throws IOException {
+
+        CompileCostAnalyzer compileCostAnalyzer = new CompileCostAnalyzer();
+        for (GenSrcFile source : sources) {
+            if (source.getFileName().endsWith(".bal") && !isTestDirFile(source.getFileName())) {
+                compileCostAnalyzer.addSource(source.getFileName(), source.getContent());
+            }
+        }
+        outStream.println("Compile cost report of the generated module.");
+        for (String line : compileCostAnalyzer.getReport()) {
+            outStream.println("-- " + line);
+        }
+        if (measureCompileTime) {
+            outStream.println("-- " + compileCostAnalyzer.measureCompilation());
+        }
     }
 
     /**
@@ -376,55 +547,96 @@ public class BallerinaCodeGenerator {
                 .withPlugin(false)
                 .withOpenAPI(openAPIDef)
                 .withResourceMode(isResource)
+                .withStreamingMultipart(streamingMultipart)
+                .withReadonlyTypes(readonlyTypes)
+                .withValidationSkippedOperations(validationSkippedOperations)
+                .withBatchOperations(batchOperations)
                 .build();
         //Take default DO NOT modify
         licenseHeader = licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader;
         BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        String mainContent = Formatter.format(ballerinaClientGenerator.generateSyntaxTree()).toSourceCode();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
-                licenseHeader + mainContent));
-        String utilContent = Formatter.format(
-                ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()).toString();
-        if (!utilContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME,
-                    licenseHeader + utilContent));
-        }
-
-        List<TypeDefinitionNode> preGeneratedTypeDefNodes = new ArrayList<>(
-                ballerinaClientGenerator.getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes());
-        preGeneratedTypeDefNodes.addAll(ballerinaClientGenerator.getTypeDefinitionNodeList());
-        // Generate ballerina records to represent schemas.
-        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(
-                openAPIDef, nullable, preGeneratedTypeDefNodes);
+        GenSrcFile clientFile = lowMemory ? generateClientFileInChunks(ballerinaClientGenerator) :
+                new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME, licenseHeader +
+                        Formatter.format(ballerinaClientGenerator.generateSyntaxTree()).toSourceCode());
+        sourceFiles.add(clientFile);
+        try {
+            String utilContent = Formatter.format(
+                    ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()).toString();
+            if (!utilContent.isBlank()) {
+                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME,
+                        licenseHeader + utilContent));
+            }
 
-        SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toSourceCode();
-        if (filter.getTags().size() > 0) {
-            // Remove unused records and enums when generating the client by the tags given.
-            schemaContent = GeneratorUtils.removeUnusedEntities(schemaSyntaxTree, mainContent, schemaContent, null);
-        }
-        if (!schemaContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage, TYPE_FILE_NAME,
-                    licenseHeader + schemaContent));
-        }
+            List<TypeDefinitionNode> preGeneratedTypeDefNodes = new ArrayList<>(
+                    ballerinaClientGenerator.getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes());
+            preGeneratedTypeDefNodes.addAll(ballerinaClientGenerator.getTypeDefinitionNodeList());
+            // Generate ballerina records to represent schemas.
+            BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(
+                    getTypesMetaData(openAPIDef, nullable), preGeneratedTypeDefNodes);
+
+            SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
+            String schemaContent = Formatter.format(schemaSyntaxTree).toSourceCode();
+            if (filter.getTags().size() > 0) {
+                // Remove unused records and enums when generating the client by the tags given. The client written in
+                // the low-memory mode is not read back, as the signatures of its methods refer to the same types.
+                String clientContent = lowMemory ? ballerinaClientGenerator.generateClientSignatureSource() :
+                        clientFile.getContent();
+                schemaContent = GeneratorUtils.removeUnusedEntities(schemaSyntaxTree, clientContent, schemaContent,
+                        null);
+            }
+            if (!schemaContent.isBlank()) {
+                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage, TYPE_FILE_NAME,
+                        licenseHeader + schemaContent));
+            }
 
-        // Generate test boilerplate code for test cases
-        if (this.includeTestFiles) {
-            BallerinaTestGenerator ballerinaTestGenerator = new BallerinaTestGenerator(ballerinaClientGenerator);
-            String testContent = Formatter.format(ballerinaTestGenerator.generateSyntaxTree()).toSourceCode();
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME,
-                    licenseHeader + testContent));
-
-            String configContent = ballerinaTestGenerator.getConfigTomlFile();
-            if (!configContent.isBlank()) {
-                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
-                        CONFIG_FILE_NAME, configContent));
+            // Generate test boilerplate code for test cases
+            if (this.includeTestFiles) {
+                BallerinaTestGenerator ballerinaTestGenerator = new BallerinaTestGenerator(ballerinaClientGenerator);
+                String testContent = Formatter.format(ballerinaTestGenerator.generateSyntaxTree()).toSourceCode();
+                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME,
+                        licenseHeader + testContent));
+
+                String configContent = ballerinaTestGenerator.getConfigTomlFile();
+                if (!configContent.isBlank()) {
+                    sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
+                            CONFIG_FILE_NAME, configContent));
+                }
             }
+            if (this.includeBenchmarks) {
+                addBenchmarkFile(sourceFiles, generateBenchmarks(ballerinaClientGenerator,
+                        "\"" + ballerinaClientGenerator.getServerUrl() + "\""), licenseHeader);
+            }
+            addSharedTypesReport(sourceFiles, List.of(ballerinaClientGenerator.getInlineSchemaRegistry()));
+        } catch (IOException | BallerinaOpenApiException | FormatterException | RuntimeException e) {
+            // The client generated in the low-memory mode is not written when the other sources fail
+            Optional<Path> contentFile = clientFile.getContentFile();
+            if (contentFile.isPresent()) {
+                Files.deleteIfExists(contentFile.get());
+            }
+            throw e;
         }
 
         return sourceFiles;
     }
 
+    /**
+     * Generate the client source in the low-memory mode. The client methods are generated and formatted in chunks and
+     * the client source is written to a temporary file, which is copied to the destination and deleted after the
+     * generated sources are written.
+     */
+    private GenSrcFile generateClientFileInChunks(BallerinaClientGenerator ballerinaClientGenerator)
+            throws IOException, BallerinaOpenApiException, FormatterException {
+
+        Path clientFile = Files.createTempFile("client", ".bal");
+        try (Writer writer = Files.newBufferedWriter(clientFile, StandardCharsets.UTF_8)) {
+            writer.write(licenseHeader);
+            ballerinaClientGenerator.generateClientSource(writer, CLIENT_METHOD_CHUNK_SIZE);
+        } catch (IOException | BallerinaOpenApiException | FormatterException | RuntimeException e) {
+            Files.deleteIfExists(clientFile);
+            throw e;
+        }
+        return new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME, clientFile);
+    }
 
     public List<GenSrcFile> generateBallerinaService(Path openAPI, String serviceName,
                                                       Filter filter, boolean nullable, boolean generateServiceType,
@@ -467,6 +679,7 @@ public class BallerinaCodeGenerator {
                 .withNullable(nullable)
                 .withGenerateServiceType(generateServiceType)
                 .withGenerateWithoutDataBinding(generateWithoutDataBinding)
+                .withMock(mock || loadTest)
                 .build();
         BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
         String mainContent = Formatter.format(ballerinaServiceGenerator.generateSyntaxTree()).toSourceCode();
@@ -492,6 +705,7 @@ public class BallerinaCodeGenerator {
                     "service_type.bal",
                     (licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader) + serviceType));
         }
+        addSharedTypesReport(sourceFiles, List.of(ballerinaServiceGenerator.getInlineSchemaRegistry()));
         return sourceFiles;
     }
 
@@ -513,6 +727,236 @@ public class BallerinaCodeGenerator {
         this.includeTestFiles = includeTestFiles;
     }
 
+    /**
+     * Set whether the binary parts of multipart request bodies are streamed by the generated client.
+     *
+     * @param streamingMultipart value received from command line by "--streaming-multipart"
+     */
+    public void setStreamingMultipart(boolean streamingMultipart) {
+        this.streamingMultipart = streamingMultipart;
+    }
+
+    /**
+     * Set whether the records are generated as immutable closed records.
+     *
+     * @param readonlyTypes value received from command line by "--readonly-types"
+     */
+    public void setReadonlyTypes(boolean readonlyTypes) {
+        this.readonlyTypes = readonlyTypes;
+    }
+
+    /**
+     * Set the operations which bind the response payload without the constraint validation.
+     *
+     * @param validationSkippedOperations value received from command line by "--skip-validation-operations"
+     */
+    public void setValidationSkippedOperations(List<String> validationSkippedOperations) {
+        this.validationSkippedOperations = validationSkippedOperations;
+    }
+
+    /**
+     * Set the GET operations which get a batch companion method in the generated client.
+     *
+     * @param batchOperations value received from command line by "--batch-operations"
+     */
+    public void setBatchOperations(List<String> batchOperations) {
+        this.batchOperations = batchOperations;
+    }
+
+    /**
+     * Generate the formatted micro-benchmarks of the client methods, or empty when the client can not be initialized
+     * without reaching an external token endpoint.
+     */
+    private static Optional<String> generateBenchmarks(BallerinaClientGenerator clientGenerator, String serviceUrl)
+            throws FormatterException {
+
+        return formatOptional(new BallerinaBenchmarkGenerator(clientGenerator, serviceUrl).generateSyntaxTree());
+    }
+
+    /**
+     * Add the generated micro-benchmarks to the generated sources, or print a warning when they are not generated.
+     */
+    private void addBenchmarkFile(List<GenSrcFile> sourceFiles, Optional<String> benchmarkContent,
+                                  String fileHeader) {
+
+        if (benchmarkContent.isPresent()) {
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, BENCHMARK_TEST_FILE_NAME,
+                    fileHeader + benchmarkContent.get()));
+        } else {
+            outStream.println("WARNING: the benchmarks are not generated as the client authentication requires " +
+                    "an external token endpoint.");
+        }
+    }
+
+    /**
+     * Add the report of the inline types which are not generated, as structurally identical types are generated
+     * before, to the generated sources when it is requested. Each line of the report maps a type which is not
+     * generated to the type used instead.
+     */
+    private void addSharedTypesReport(List<GenSrcFile> sourceFiles, List<InlineSchemaRegistry> registries) {
+
+        if (!sharedTypesReport) {
+            return;
+        }
+        StringBuilder report = new StringBuilder("# Inline types which are not generated in " + TYPE_FILE_NAME +
+                " and the structurally identical types used instead\n");
+        for (InlineSchemaRegistry registry : registries) {
+            for (Map.Entry<String, String> sharedType : registry.getSharedTypeMappings().entrySet()) {
+                report.append(sharedType.getKey()).append(" -> ").append(sharedType.getValue()).append("\n");
+            }
+        }
+        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, SHARED_TYPES_REPORT_FILE_NAME,
+                report.toString()));
+    }
+
+    private static Optional<String> formatOptional(Optional<SyntaxTree> syntaxTree) throws FormatterException {
+
+        return syntaxTree.isPresent() ? Optional.of(Formatter.format(syntaxTree.get()).toSourceCode()) :
+                Optional.empty();
+    }
+
+    /**
+     * Returns the options of the types generation selected for this generator.
+     */
+    private GeneratorMetaData getTypesMetaData(OpenAPI openAPIDef, boolean nullable) {
+
+        return new GeneratorMetaData.Builder()
+                .withOpenAPI(openAPIDef)
+                .withNullable(nullable)
+                .withStreamingMultipart(streamingMultipart)
+                .withReadonlyTypes(readonlyTypes)
+                .build();
+    }
+
+    /**
+     * A generation task, which may throw the checked exceptions of the generation.
+     */
+    @FunctionalInterface
+    private interface GenerationTask<T> {
+
+        T call() throws IOException, FormatterException, BallerinaOpenApiException;
+    }
+
+    /**
+     * Run the given task on the executor with the given generator metadata.
+     */
+    private static <T> CompletableFuture<T> runAsync(Executor executor, GeneratorMetaData metaData,
+                                                     GenerationTask<T> task) {
+
+        return CompletableFuture.supplyAsync(() -> call(metaData, task), executor);
+    }
+
+    /**
+     * Run the given task on the executor with the given generator metadata, after the given tasks are completed.
+     * The task is not run when one of the given tasks fails, and the returned future fails with the same error.
+     */
+    private static <T> CompletableFuture<T> runAfter(Executor executor, GeneratorMetaData metaData,
+                                                     GenerationTask<T> task, CompletableFuture<?>... dependencies) {
+
+        return CompletableFuture.allOf(dependencies).thenApplyAsync(ignored -> call(metaData, task), executor);
+    }
+
+    private static <T> T call(GeneratorMetaData metaData, GenerationTask<T> task) {
+
+        return GeneratorMetaData.callWith(metaData, () -> {
+            try {
+                return task.call();
+            } catch (IOException | FormatterException | BallerinaOpenApiException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Wait for the result of the given task, and throw the checked exception of the task when it fails.
+     */
+    private static <T> T await(CompletableFuture<T> future)
+            throws IOException, FormatterException, BallerinaOpenApiException {
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof FormatterException) {
+                throw (FormatterException) cause;
+            } else if (cause instanceof BallerinaOpenApiException) {
+                throw (BallerinaOpenApiException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Set whether to generate the micro-benchmarks of the client methods.
+     *
+     * @param includeBenchmarks whether to generate the benchmarks
+     */
+    public void setIncludeBenchmarks(boolean includeBenchmarks) {
+        this.includeBenchmarks = includeBenchmarks;
+    }
+
+    /**
+     * Set whether to print the compile cost report of the generated module.
+     *
+     * @param compileCostReport whether to print the report
+     */
+    public void setCompileCostReport(boolean compileCostReport) {
+        this.compileCostReport = compileCostReport;
+    }
+
+    /**
+     * Set whether to compile the generated module and print the time taken with the compile cost report.
+     *
+     * @param measureCompileTime whether to time the compilation of the generated module
+     */
+    public void setMeasureCompileTime(boolean measureCompileTime) {
+        this.measureCompileTime = measureCompileTime;
+    }
+
+    /**
+     * Set whether to generate the client in the low-memory mode, in which the client methods are generated and
+     * formatted in chunks, for the OpenAPI definitions with a large number of operations.
+     *
+     * @param lowMemory whether to generate the client in the low-memory mode
+     */
+    public void setLowMemory(boolean lowMemory) {
+        this.lowMemory = lowMemory;
+    }
+
+    /**
+     * Set whether to write the report of the inline types which are shared with structurally identical types next to
+     * the generated types.
+     *
+     * @param sharedTypesReport whether to write the shared types report
+     */
+    public void setSharedTypesReport(boolean sharedTypesReport) {
+        this.sharedTypesReport = sharedTypesReport;
+    }
+
+    /**
+     * Set whether to generate the service as a mock service.
+     *
+     * @param mock whether to generate the mock service
+     */
+    public void setMock(boolean mock) {
+        this.mock = mock;
+    }
+
+    /**
+     * Set whether to generate a mock service and a load test of the client against it.
+     *
+     * @param loadTest whether to generate the load test
+     */
+    public void setLoadTest(boolean loadTest) {
+        this.loadTest = loadTest;
+    }
+
     private void checkOpenAPIVersion(OpenAPI openAPIDef) {
         if (!SUPPORTED_OPENAPI_VERSIONS.contains(openAPIDef.getOpenapi())) {
             outStream.printf("WARNING: The tool has not been tested with OpenAPI version %s. " +
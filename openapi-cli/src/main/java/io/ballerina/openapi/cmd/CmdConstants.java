@@ -82,6 +82,9 @@ public class CmdConstants {
     public static final String CLIENT_FILE_NAME = "client.bal";
     public static final String UTIL_FILE_NAME = "utils.bal";
     public static final String TEST_FILE_NAME = "test.bal";
+    public static final String LOAD_TEST_FILE_NAME = "load_test.bal";
+    public static final String BENCHMARK_TEST_FILE_NAME = "benchmark_test.bal";
+    public static final String SHARED_TYPES_REPORT_FILE_NAME = "shared_types_report.txt";
     public static final String SERVICE_FILE_NAME = "service.bal";
     public static final String CONFIG_FILE_NAME = "Config.toml";
     public static final String BALLERINA_TOML = "Ballerina.toml";
@@ -59,6 +59,7 @@ public class OASContractGenerator {
     private Project project;
     private List<OpenAPIMapperDiagnostic> diagnostics = new ArrayList<>();
     private PrintStream outStream = System.out;
+    private boolean parallel;
 
     /**
      * Initialize constructor.
@@ -71,6 +72,16 @@ public class OASContractGenerator {
         return diagnostics;
     }
 
+    /**
+     * Set whether the definitions of the services of a package are serialized in parallel. The services are always
+     * mapped one after the other, and the definitions are serialized one after the other by default.
+     *
+     * @param parallel Flag for serializing the definitions in parallel.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     /**
      * This util for generating OAS files.
      *
@@ -114,21 +125,79 @@ public class OASContractGenerator {
         semanticModel = compilation.getSemanticModel(docId.moduleId());
         List<OASResult> openAPIDefinitions = ServiceToOpenAPIMapper.generateOAS3Definition(project, syntaxTree,
                 semanticModel, serviceName, needJson, inputPath);
+        writeDefinitions(openAPIDefinitions, outPath, needJson, true);
+    }
+
+    /**
+     * This util for generating the OAS files of all the http services of a package. The package is compiled once and
+     * the definitions are serialized in parallel when it is set with {@link #setParallel(boolean)}. The files are
+     * written to the output directory with the same names for every run, replacing the files generated by the earlier
+     * runs.
+     *
+     * @param packagePath The path to the package, or to a ballerina file of the package.
+     * @param outPath     The output directory to which the OpenAPI specifications should be generated to.
+     * @param serviceName Filter the services to generate OpenAPI specification for service with this name.
+     * @param needJson    Flag for generating the OpenAPI specifications in json.
+     */
+    public void generateOAS3DefinitionsForPackage(Path packagePath, Path outPath, String serviceName,
+                                                  Boolean needJson) {
+        if (!loadPackage(packagePath)) {
+            return;
+        }
+        List<OASResult> openAPIDefinitions = ServiceToOpenAPIMapper.generateOAS3DefinitionsForPackage(project,
+                serviceName, needJson, parallel);
+        writeDefinitions(openAPIDefinitions, outPath, needJson, false);
+    }
+
+    /**
+     * This util for generating the OAS files of all the http services of a package as
+     * {@link #generateOAS3DefinitionsForPackage(Path, Path, String, Boolean)}, with the schemas shared by the
+     * services written to a single `components.yaml`, or `components.json`, file which is referred by the OAS files
+     * of the services.
+     *
+     * @param packagePath The path to the package, or to a ballerina file of the package.
+     * @param outPath     The output directory to which the OpenAPI specifications should be generated to.
+     * @param serviceName Filter the services to generate OpenAPI specification for service with this name.
+     * @param needJson    Flag for generating the OpenAPI specifications in json.
+     */
+    public void generateOAS3DefinitionsWithSharedComponents(Path packagePath, Path outPath, String serviceName,
+                                                            Boolean needJson) {
+        if (!loadPackage(packagePath)) {
+            return;
+        }
+        List<OASResult> openAPIDefinitions = ServiceToOpenAPIMapper.generateOAS3DefinitionsWithSharedComponents(
+                project, serviceName, needJson, parallel);
+        writeDefinitions(openAPIDefinitions, outPath, needJson, false);
+    }
+
+    /**
+     * Loads and compiles the package of the given path, returns false if there are any compilation errors.
+     */
+    private boolean loadPackage(Path packagePath) {
+        project = ProjectLoader.loadProject(packagePath);
+        DiagnosticResult diagnosticsFromCodeGenAndModify = project.currentPackage().runCodeGenAndModifyPlugins();
+        boolean hasErrorsFromCodeGenAndModify = diagnosticsFromCodeGenAndModify.diagnostics().stream()
+                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        boolean hasCompilationErrors = compilation.diagnosticResult()
+                .diagnostics().stream()
+                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+        return !hasCompilationErrors && !hasErrorsFromCodeGenAndModify;
+    }
 
+    private void writeDefinitions(List<OASResult> openAPIDefinitions, Path outPath, Boolean needJson,
+                                  boolean resolveFileNames) {
         if (!openAPIDefinitions.isEmpty()) {
             List<String> fileNames = new ArrayList<>();
             for (OASResult definition : openAPIDefinitions) {
                 try {
                     this.diagnostics.addAll(definition.getDiagnostics());
                     if (definition.getOpenAPI().isPresent()) {
-                        Optional<String> content;
-                        if (needJson) {
-                            content = definition.getJson();
-                        } else {
-                            content = definition.getYaml();
-                        }
-                        String fileName = resolveContractFileName(outPath, definition.getServiceName(), needJson);
-                        CodegenUtils.writeFile(outPath.resolve(fileName), content.get());
+                        String fileName = resolveFileNames ?
+                                resolveContractFileName(outPath, definition.getServiceName(), needJson) :
+                                definition.getServiceName();
+                        CodegenUtils.writeFile(outPath.resolve(fileName), definition,
+                                needJson ? OASResult.Format.JSON : OASResult.Format.YAML);
                         fileNames.add(fileName);
                     }
                 } catch (IOException e) {
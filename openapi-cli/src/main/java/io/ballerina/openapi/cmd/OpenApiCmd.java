@@ -96,6 +96,60 @@ public class OpenApiCmd implements BLauncherCmd {
             description = "Generate service without data binding")
     private boolean generateWithoutDataBinding;
 
+    @CommandLine.Option(names = {"--streaming-multipart"},
+            description = "Generate client with streamed binary parts for multipart request bodies")
+    private boolean streamingMultipart;
+
+    @CommandLine.Option(names = {"--readonly-types"}, description = "Generate records as readonly closed records")
+    private boolean readonlyTypes;
+
+    @CommandLine.Option(names = {"--skip-validation-operations"},
+            description = "Operations that bind the response payload without the constraint validation")
+    private String validationSkippedOperations;
+
+    @CommandLine.Option(names = {"--batch-operations"},
+            description = "GET operations that need a concurrent batch method in the client")
+    private String batchOperations;
+
+    @CommandLine.Option(names = {"--mock"}, description = "Generate a mock service which returns example responses")
+    private boolean mock;
+
+    @CommandLine.Option(names = {"--load-test"},
+            description = "Generate a mock service and a load test of the client against it")
+    private boolean loadTest;
+
+    @CommandLine.Option(names = {"--with-benchmarks"},
+            description = "Generate a micro-benchmark for each operation of the client")
+    private boolean includeBenchmarks;
+
+    @CommandLine.Option(names = {"--compile-cost-report"},
+            description = "Print a report of the generated sources which drive the compile cost of the module")
+    private boolean compileCostReport;
+
+    @CommandLine.Option(names = {"--with-compile-time"},
+            description = "Print the compile cost report with the time taken to compile the generated module")
+    private boolean measureCompileTime;
+
+    @CommandLine.Option(names = {"--low-memory"},
+            description = "Generate and format the client methods in chunks for large definitions")
+    private boolean lowMemory;
+
+    @CommandLine.Option(names = {"--shared-types-report"},
+            description = "Write a report of the inline types which are shared with structurally identical types")
+    private boolean sharedTypesReport;
+
+    @CommandLine.Option(names = {"--all-services"},
+            description = "Export the OpenAPI definitions of all the services of the package of the given file")
+    private boolean allServices;
+
+    @CommandLine.Option(names = {"--shared-components"},
+            description = "Export the schemas shared by the services of the package to a single components file")
+    private boolean sharedComponents;
+
+    @CommandLine.Option(names = {"--parallel"},
+            description = "Serialize the definitions of the services of the package in parallel")
+    private boolean parallel;
+
     @CommandLine.Parameters
     private List<String> argList;
 
@@ -170,6 +224,17 @@ public class OpenApiCmd implements BLauncherCmd {
                 outStream.println("'--without-data-binding' option is only available in service generation mode.");
                 exitError(this.exitWhenFinish);
             }
+            if (lowMemory && (baseCmd.mode == null || !baseCmd.mode.equals(CLIENT))) {
+                // Exit the code generation process
+                outStream.println("'--low-memory' option is only available in client generation mode.");
+                exitError(this.exitWhenFinish);
+            }
+            if (readonlyTypes && streamingMultipart) {
+                // Exit the code generation process
+                outStream.println("'--readonly-types' option can not be used with the '--streaming-multipart' " +
+                        "option, as the streamed file contents are not readonly.");
+                exitError(this.exitWhenFinish);
+            }
             try {
                 openApiToBallerina(fileName, filter);
             } catch (IOException e) {
@@ -183,6 +248,12 @@ public class OpenApiCmd implements BLauncherCmd {
                 outStream.println("'--client-methods' option is only available in client generation mode.");
                 exitError(this.exitWhenFinish);
             }
+            if (parallel && !allServices && !sharedComponents) {
+                // Exit the code generation process
+                outStream.println("'--parallel' option is only available with the '--all-services' or the " +
+                        "'--shared-components' option.");
+                exitError(this.exitWhenFinish);
+            }
             ballerinaToOpenApi(fileName);
         } else {
             outStream.println(ErrorMessages.MISSING_CONTRACT_PATH);
@@ -217,8 +288,17 @@ public class OpenApiCmd implements BLauncherCmd {
         getTargetOutputPath();
         // Check service name it is mandatory
         OASContractGenerator openApiConverter = new OASContractGenerator();
-        openApiConverter.generateOAS3DefinitionsAllService(balFilePath, targetOutputPath, service,
-                generatedFileType);
+        openApiConverter.setParallel(parallel);
+        if (sharedComponents) {
+            openApiConverter.generateOAS3DefinitionsWithSharedComponents(balFilePath, targetOutputPath, service,
+                    generatedFileType);
+        } else if (allServices) {
+            openApiConverter.generateOAS3DefinitionsForPackage(balFilePath, targetOutputPath, service,
+                    generatedFileType);
+        } else {
+            openApiConverter.generateOAS3DefinitionsAllService(balFilePath, targetOutputPath, service,
+                    generatedFileType);
+        }
         mapperDiagnostics.addAll(openApiConverter.getDiagnostics());
         boolean exitWithError = false;
         if (mapperDiagnostics.stream().anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.getDiagnosticSeverity()))) {
@@ -247,6 +327,27 @@ public class OpenApiCmd implements BLauncherCmd {
         BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
         generator.setLicenseHeader(this.setLicenseHeader());
         generator.setIncludeTestFiles(this.includeTestFiles);
+        generator.setStreamingMultipart(this.streamingMultipart);
+        generator.setReadonlyTypes(this.readonlyTypes);
+        generator.setMock(this.mock);
+        generator.setLoadTest(this.loadTest);
+        generator.setIncludeBenchmarks(this.includeBenchmarks);
+        generator.setCompileCostReport(this.compileCostReport);
+        generator.setMeasureCompileTime(this.measureCompileTime);
+        generator.setLowMemory(this.lowMemory);
+        generator.setSharedTypesReport(this.sharedTypesReport);
+        if (loadTest && baseCmd.mode != null) {
+            outStream.println("WARNING: The load test is only generated when both the client and the service are " +
+                    "generated without the `--mode` option.");
+        }
+        if (validationSkippedOperations != null) {
+            generator.setValidationSkippedOperations(Arrays.stream(validationSkippedOperations.split(","))
+                    .map(operationId -> getValidName(operationId.trim(), false)).collect(Collectors.toList()));
+        }
+        if (batchOperations != null) {
+            generator.setBatchOperations(Arrays.stream(batchOperations.split(","))
+                    .map(operationId -> getValidName(operationId.trim(), false)).collect(Collectors.toList()));
+        }
         final File openApiFile = new File(fileName);
         String serviceName;
         if (generatedServiceName != null) {
@@ -687,6 +687,32 @@ public class CodeGeneratorTest {
                 GeneratorConstants.APPLICATION_XML);
     }
 
+    @Test(description = "Test the client and service generation gives the same sources on each run")
+    public void testClientAndServiceGenerationIsDeterministic() throws IOException, BallerinaOpenApiException,
+            FormatterException {
+        String definitionPath = RES_DIR.resolve("petstore.yaml").toString();
+        Path firstOutput = Files.createTempDirectory("openapi-gen-first");
+        Path secondOutput = Files.createTempDirectory("openapi-gen-second");
+        try {
+            BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+            generator.setIncludeTestFiles(true);
+            generator.generateClientAndService(definitionPath, "petstore", firstOutput.toString(), filter,
+                    false, true, true, false);
+            generator.generateClientAndService(definitionPath, "petstore", secondOutput.toString(), filter,
+                    false, true, true, false);
+            List<String> generatedFiles = List.of(CLIENT_FILE_NAME, TYPE_FILE_NAME, UTIL_FILE_NAME,
+                    "petstore_service.bal", "service_type.bal", "tests/" + TEST_FILE_NAME);
+            for (String generatedFile : generatedFiles) {
+                Assert.assertTrue(Files.exists(firstOutput.resolve(generatedFile)), generatedFile);
+                Assert.assertEquals(Files.readString(secondOutput.resolve(generatedFile)),
+                        Files.readString(firstOutput.resolve(generatedFile)), generatedFile);
+            }
+        } finally {
+            FileUtils.deleteDirectory(firstOutput.toFile());
+            FileUtils.deleteDirectory(secondOutput.toFile());
+        }
+    }
+
     private String getStringFromGivenBalFile(Path expectedServiceFile, String s) throws IOException {
 
         Stream<String> expectedServiceLines = Files.lines(expectedServiceFile.resolve(s));
@@ -36,6 +36,7 @@ import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -739,6 +740,33 @@ public class OpenAPICmdTest extends OpenAPICommandTest {
                 "Following files were created."));
     }
 
+    @Test(description = "Test the low-memory mode is rejected when the service is generated")
+    public void testLowMemoryWithoutClientMode() throws IOException {
+        Path petstoreYaml = resourceDir.resolve(Paths.get("petstore.yaml"));
+        String[] args = {"--input", petstoreYaml.toString(), "-o", this.tmpDir.toString(), "--low-memory"};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("'--low-memory' option is only available in client generation mode."));
+    }
+
+    @Test(description = "Test the shared types report is written next to the generated types")
+    public void testSharedTypesReport() throws IOException {
+        Path definitionPath = resourceDir.resolve(Paths.get("generators", "service", "swagger", "response",
+                "structurally_identical_inline_responses.yaml"));
+        Path outputPath = this.tmpDir.resolve("shared-types-report");
+        String[] args = {"--input", definitionPath.toString(), "-o", outputPath.toString(), "--mode", "service",
+                "--shared-types-report"};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        Path reportPath = outputPath.resolve("shared_types_report.txt");
+        Assert.assertTrue(Files.exists(reportPath), "Shared types report is not generated : " + readOutput(true));
+        List<String> report = Files.readAllLines(reportPath);
+        Assert.assertEquals(report.subList(1, report.size()), List.of("OwnersResponse -> PetsResponse"));
+    }
+
     @Test(description = "Test openapi add sub command")
     public void testAddCmd() throws IOException {
         Path resourceDir = Paths.get(System.getProperty("user.dir")).resolve("build/resources/test");
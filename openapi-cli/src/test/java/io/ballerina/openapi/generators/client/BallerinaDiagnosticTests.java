@@ -136,6 +136,36 @@ public class BallerinaDiagnosticTests {
         Assert.assertFalse(hasErrors);
     }
 
+    @Test(description = "Test the compilation of the client with batch functions",
+            dataProvider = "resourceModeProviderForBatchFunctions")
+    public void checkDiagnosticIssuesWithBatchFunctions(boolean resourceMode) throws IOException,
+            BallerinaOpenApiException, FormatterException {
+        Path definitionPath = RESDIR.resolve("../client/resource/swagger/batch_operations.yaml");
+        OpenAPI openAPI = normalizeOpenAPI(definitionPath, true, SpecVersion.V30);
+        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+        OASClientConfig oasClientConfig = clientMetaDataBuilder
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(resourceMode)
+                .withBatchOperations(List.of("showPetById"))
+                .build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        Assert.assertTrue(syntaxTree.toSourceCode().contains("showPetByIdBatch"));
+        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, openAPI, ballerinaClientGenerator);
+        boolean hasErrors = diagnostics.stream()
+                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+        Assert.assertFalse(hasErrors);
+    }
+
+    @DataProvider(name = "resourceModeProviderForBatchFunctions")
+    public Object[][] resourceModeProviderForBatchFunctions() {
+        return new Object[][] {
+                {false},
+                {true}
+        };
+    }
+
     @DataProvider(name = "singleFileProviderForDiagnosticCheck")
     public Object[][] singleFileProviderForDiagnosticCheck() {
         return new Object[][] {
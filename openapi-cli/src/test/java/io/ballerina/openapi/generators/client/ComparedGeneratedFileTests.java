@@ -18,6 +18,8 @@
 
 package io.ballerina.openapi.generators.client;
 
+import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
@@ -28,6 +30,7 @@ import io.ballerina.openapi.generators.common.TestUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import io.swagger.v3.oas.models.OpenAPI;
+import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 import org.testng.Assert;
 import org.testng.annotations.AfterTest;
@@ -35,6 +38,7 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -98,6 +102,34 @@ public class ComparedGeneratedFileTests {
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
 
+    @Test(description = "Generate the client in chunks and compare it with the client generated at once",
+            dataProvider = "fileProviderForFilesComparison")
+    public void generateClientInChunks(String yamlFile, String expectedFile) throws IOException,
+            BallerinaOpenApiException, FormatterException {
+        Path definitionPath = RES_DIR.resolve("file_provider/swagger/" + yamlFile);
+        BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(GeneratorUtils.normalizeOpenAPI(definitionPath, true))
+                .withResourceMode(false).build());
+        String expectedSource = Formatter.format(clientGenerator.generateSyntaxTree()).toSourceCode();
+
+        BallerinaClientGenerator chunkedClientGenerator = new BallerinaClientGenerator(new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(GeneratorUtils.normalizeOpenAPI(definitionPath, true))
+                .withResourceMode(false).build());
+        StringWriter writer = new StringWriter();
+        chunkedClientGenerator.generateClientSource(writer, 2);
+        Assert.assertEquals(writer.toString(), expectedSource);
+        Assert.assertEquals(chunkedClientGenerator.getRemoteFunctionNameList(),
+                clientGenerator.getRemoteFunctionNameList());
+        Assert.assertEquals(chunkedClientGenerator.getTypeDefinitionNodeList().size(),
+                clientGenerator.getTypeDefinitionNodeList().size());
+        for (FunctionDefinitionNode clientMethod : chunkedClientGenerator.getClientMethods()) {
+            Assert.assertTrue(clientMethod.metadata().isEmpty());
+            Assert.assertTrue(((FunctionBodyBlockNode) clientMethod.functionBody()).statements().isEmpty());
+        }
+    }
+
     @DataProvider(name = "fileProviderForFilesComparison")
     public Object[][] fileProviderForFilesComparison() {
         return new Object[][]{
@@ -71,6 +71,24 @@ public class FunctionBodyNodeTests {
                 .replaceAll("\\s+", "");
         Assert.assertEquals(bodyNodeContent, content);
     }
+
+    @Test(description = "Tests skipping the validation of an operation without updating the OpenAPI definition")
+    public void getFunctionBodyNodeWithValidationSkipped() throws IOException, BallerinaOpenApiException {
+        OpenAPI display = getOpenAPI(RESDIR.resolve("client/swagger/skip_validation.yaml"));
+        Operation listPets = display.getPaths().get("/pets").getGet();
+        listPets.setExtensions(null);
+        FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator(new ArrayList<>(),
+                new ArrayList<>(), display, new BallerinaTypesGenerator(display),
+                new BallerinaAuthConfigGenerator(false, false), new BallerinaUtilGenerator(),
+                false);
+        functionBodyGenerator.setValidationSkipped(true);
+        FunctionBodyNode bodyNode = functionBodyGenerator.getFunctionBodyNode("/pets",
+                Map.entry(PathItem.HttpMethod.GET, listPets));
+        Assert.assertEquals(bodyNode.toString().replaceAll("\\s+", ""), "{stringresourcePath=string`/pets`;" +
+                "jsonpayload=checkself.clientEp->get(resourcePath);returnpayload.fromJsonWithType();}");
+        Assert.assertNull(listPets.getExtensions());
+    }
+
     @DataProvider(name = "dataProviderForFunctionBody")
     public Object[][] dataProviderForFunctionBody() {
         return new Object[][]{
@@ -149,7 +167,10 @@ public class FunctionBodyNodeTests {
                         "        map<anydata> queryParam = {\"limit\": 'limit};\n" +
                         "        resourcePath = resourcePath + check getPathForQueryParam(queryParam);\n" +
                         "        http:Response response = check self.clientEp->get(resourcePath);\n" +
-                        "        return response;}"}
+                        "        return response;}"},
+                {"client/swagger/skip_validation.yaml", "/pets", "{string resourcePath = string `/pets`;\n" +
+                        "        json payload = check self.clientEp->get(resourcePath);\n" +
+                        "        return payload.fromJsonWithType();}"}
         };
     }
 
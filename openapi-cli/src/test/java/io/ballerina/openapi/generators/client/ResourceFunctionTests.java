@@ -22,6 +22,7 @@ import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
 import io.ballerina.openapi.core.model.Filter;
 import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
@@ -55,6 +56,25 @@ public class ResourceFunctionTests {
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
 
+    @Test(description = "Generate batch methods for the selected GET operations")
+    public void generateBatchFunctions() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RESDIR.resolve("swagger/batch_operations.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+        OASClientConfig oasClientConfig = clientMetaDataBuilder
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withBatchOperations(List.of("showPetById", "deletePet")).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        String clientContent = syntaxTree.toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(clientContent.contains("remoteisolatedfunctionshowPetByIdBatch([int,string?]" +
+                "[]arguments,intmaxConcurrency=10)returns(Pet|error)[]{"));
+        Assert.assertTrue(clientContent.contains("finalreadonly&[int,string?]argument=arguments[index]" +
+                ".cloneReadOnly();future<Pet|error>result=startself->/pets/[argument[0]].get(argument[1]);"));
+        Assert.assertFalse(clientContent.contains("deletePetBatch"));
+    }
+
     @Test(description = "Generate Client for headers")
     public void generateForHeaders() throws IOException, BallerinaOpenApiException {
         Path definitionPath = RESDIR.resolve("swagger/header.yaml");
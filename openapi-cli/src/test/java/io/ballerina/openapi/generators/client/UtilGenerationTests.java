@@ -9,10 +9,12 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.UtilTemplateRegistry;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
 import io.ballerina.openapi.core.model.Filter;
 import io.ballerina.openapi.generators.common.TestUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.ballerinalang.formatter.core.FormatterException;
 import org.testng.Assert;
@@ -207,6 +209,87 @@ public class UtilGenerationTests {
         Assert.assertTrue(diagnostics.isEmpty());
     }
 
+    @Test(description = "Validate the util functions generated for multipart request bodies with streamed parts")
+    public void testStreamingMultipartBodyParts() throws IOException, BallerinaOpenApiException,
+            FormatterException {
+        Path definitionPath = RESDIR.resolve("swagger/multipart_formdata_custom.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+        OASClientConfig oasClientConfig = clientMetaDataBuilder
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(false)
+                .withStreamingMultipart(true).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        SyntaxTree clientSyntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        String clientContent = clientSyntaxTree.toSourceCode();
+        Assert.assertFalse(clientContent.contains("createBodyParts"));
+        Assert.assertTrue(clientContent.contains("addBodyPart(bodyParts, \"profileImage\", payload?.profileImage, " +
+                "\"image/png\""));
+        List<String> invalidFunctionNames = Arrays.asList("createBodyParts");
+        Assert.assertTrue(checkUtil(invalidFunctionNames,
+                ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()));
+        List<Diagnostic> diagnostics = getDiagnostics(clientSyntaxTree, openAPI, ballerinaClientGenerator);
+        Assert.assertTrue(diagnostics.isEmpty());
+    }
+
+    @Test(description = "Validate the util functions generated for OpenAPI definition with streaming responses")
+    public void testStreamingResponseUtilGen() throws IOException, BallerinaOpenApiException,
+            FormatterException {
+        Path definitionPath = RESDIR.resolve("swagger/streaming_responses.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+        OASClientConfig oasClientConfig = clientMetaDataBuilder
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(false).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        SyntaxTree clientSyntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        String clientContent = clientSyntaxTree.toSourceCode();
+        Assert.assertTrue(clientContent.contains("returns stream<SseEvent, error?>|error"));
+        Assert.assertTrue(clientContent.contains("returns stream<LogEntry, error?>|error"));
+        // The streaming media type is used even when it is not the first media type of the response
+        Assert.assertEquals(clientContent.split("returns stream<LogEntry, error\\?>\\|error", -1).length, 3);
+        String utilContent = ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()
+                .toSourceCode();
+        Assert.assertTrue(utilContent.contains("class LineStream"));
+        Assert.assertTrue(utilContent.contains("class SseEventStream"));
+        List<Diagnostic> diagnostics = getDiagnostics(clientSyntaxTree, openAPI, ballerinaClientGenerator);
+        Assert.assertTrue(diagnostics.isEmpty());
+    }
+
+    @Test(description = "Compile the util functions generated for the streaming responses")
+    public void testStreamingResponseUtilCompilation() throws IOException, BallerinaOpenApiException,
+            FormatterException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RESDIR.resolve("swagger/streaming_responses.yaml"), true);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(false).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        SyntaxTree clientSyntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        String utilContent = ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()
+                .toSourceCode();
+        // The event is completed explicitly, as a closed record can not be spread with its own field
+        Assert.assertFalse(utilContent.contains("...sseEvent"));
+        List<Diagnostic> utilErrors = getDiagnostics(clientSyntaxTree, openAPI, ballerinaClientGenerator).stream()
+                .filter(diagnostic -> diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR)
+                .filter(diagnostic -> diagnostic.location().lineRange().fileName().equals("utils.bal"))
+                .toList();
+        Assert.assertTrue(utilErrors.isEmpty(), utilErrors.toString());
+    }
+
+    @Test(description = "Validate the template registry resolves the transitive dependencies of util functions")
+    public void testUtilTemplateRegistryDependencies() throws IOException {
+        UtilTemplateRegistry templateRegistry = UtilTemplateRegistry.getInstance();
+        Assert.assertSame(templateRegistry, UtilTemplateRegistry.getInstance());
+        Assert.assertTrue(templateRegistry.getDependencies("getSseEventStream").containsAll(
+                Arrays.asList("SseEventStream", "LineStream", "getLineFromBytes", "SseEvent")));
+        Assert.assertTrue(templateRegistry.getDependencies(GET_PATH_FOR_QUERY_PARAM).containsAll(
+                Arrays.asList(GET_DEEP_OBJECT_STYLE_REQUEST, GET_FORM_STYLE_REQUEST, GET_ENCODED_URI)));
+        Assert.assertTrue(templateRegistry.getDependencies(GET_ENCODED_URI).isEmpty());
+    }
+
     private boolean checkUtil(List<String> invalidFunctionNames, SyntaxTree utilSyntaxTree) {
         ModulePartNode modulePartNode = utilSyntaxTree.rootNode();
         NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.CompileCostAnalyzer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Tests for the compile cost report of the generated module.
+ */
+public class CompileCostAnalyzerTests {
+
+    private static final String TYPES = "import ballerina/constraint;\n" +
+            "\n" +
+            "public type Pet record {\n" +
+            "    @constraint:String {maxLength: 10}\n" +
+            "    string name;\n" +
+            "    Category category;\n" +
+            "    record {string street;} address?;\n" +
+            "};\n" +
+            "\n" +
+            "public type Category readonly & record {|\n" +
+            "    Tag[] tags;\n" +
+            "|};\n" +
+            "\n" +
+            "public type Tag record {\n" +
+            "    string name;\n" +
+            "};\n" +
+            "\n" +
+            "public type TreeNode record {\n" +
+            "    TreeNode[] children;\n" +
+            "    Pet|Tag|int|string value;\n" +
+            "};\n" +
+            "\n" +
+            "public type Owner record {\n" +
+            "    Account account;\n" +
+            "};\n" +
+            "\n" +
+            "public type Account record {\n" +
+            "    Owner owner;\n" +
+            "};\n" +
+            "\n" +
+            "public enum Status {\n" +
+            "    AVAILABLE,\n" +
+            "    SOLD\n" +
+            "}\n";
+
+    private static final String CLIENT = "public isolated client class Client {\n" +
+            "    public isolated function init() {\n" +
+            "    }\n" +
+            "\n" +
+            "    resource isolated function get pets() returns Pet[]|error {\n" +
+            "        return [];\n" +
+            "    }\n" +
+            "}\n" +
+            "\n" +
+            "isolated function getPetName(Pet pet) returns string|error {\n" +
+            "    return pet.name;\n" +
+            "}\n";
+
+    @Test(description = "Collect the metrics of each generated source file")
+    public void testFileMetrics() {
+
+        CompileCostAnalyzer analyzer = new CompileCostAnalyzer();
+        analyzer.addSource("types.bal", TYPES);
+        analyzer.addSource("client.bal", CLIENT);
+
+        CompileCostAnalyzer.FileMetrics typesMetrics = analyzer.getFileMetrics().get("types.bal");
+        Assert.assertEquals(typesMetrics.getTypeCount(), 7);
+        Assert.assertEquals(typesMetrics.getFunctionCount(), 0);
+        Assert.assertEquals(typesMetrics.getMaxUnionWidth(), 4);
+        Assert.assertEquals(typesMetrics.getAnonymousRecordCount(), 1);
+        Assert.assertEquals(typesMetrics.getConstraintAnnotationCount(), 1);
+
+        CompileCostAnalyzer.FileMetrics clientMetrics = analyzer.getFileMetrics().get("client.bal");
+        Assert.assertEquals(clientMetrics.getTypeCount(), 0);
+        Assert.assertEquals(clientMetrics.getFunctionCount(), 3);
+        Assert.assertEquals(clientMetrics.getMaxUnionWidth(), 2);
+    }
+
+    @Test(description = "Measure the type reference depth and the recursive types of the module")
+    public void testModuleMetrics() {
+
+        CompileCostAnalyzer analyzer = new CompileCostAnalyzer();
+        analyzer.addSource("types.bal", TYPES);
+
+        // TreeNode -> Pet -> Category -> Tag
+        Assert.assertEquals(analyzer.getMaxTypeReferenceDepth(), 4);
+        // TreeNode refers to itself, and Owner and Account refer to each other
+        Assert.assertEquals(analyzer.getRecursiveTypeCount(), 3);
+        List<String> report = analyzer.getReport();
+        Assert.assertEquals(report.size(), 2);
+        Assert.assertEquals(report.get(1), "module: 7 types, max type reference depth 4, 3 recursive types");
+    }
+}
@@ -18,8 +18,11 @@
 
 package io.ballerina.openapi.generators.common;
 
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.SymbolKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.InMemoryProject;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -29,6 +32,10 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static io.ballerina.openapi.core.GeneratorUtils.extractReferenceType;
 import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
@@ -90,4 +97,28 @@ public class GeneratorUtilsTests {
         Path expectedPath = RES_DIR.resolve("schema/ballerina/recordName.bal");
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
+
+    @Test(description = "Reuse the in-memory project for the compiler-backed checks")
+    public static void testInMemoryProjectDocumentUpdates() throws IOException {
+        InMemoryProject inMemoryProject = InMemoryProject.getInstance();
+        Assert.assertSame(inMemoryProject, InMemoryProject.getInstance());
+        Map<String, String> srcFiles = new HashMap<>();
+        srcFiles.put("client.bal", "function foo(Pet pet) {}");
+        srcFiles.put("types.bal", "type Pet record {}; type Dog record {};");
+        Assert.assertEquals(getTypeNames(inMemoryProject.getSemanticModel(srcFiles)), Set.of("Pet", "Dog"));
+        srcFiles.put("types.bal", "type Pet record {};");
+        Assert.assertEquals(getTypeNames(inMemoryProject.getSemanticModel(srcFiles)), Set.of("Pet"));
+        srcFiles.remove("client.bal");
+        srcFiles.put("service.bal", "function bar() {}");
+        SemanticModel semanticModel = inMemoryProject.getSemanticModel(srcFiles);
+        Assert.assertTrue(semanticModel.moduleSymbols().stream()
+                .noneMatch(symbol -> symbol.getName().orElse("").equals("foo")));
+    }
+
+    private static Set<String> getTypeNames(SemanticModel semanticModel) {
+        return semanticModel.moduleSymbols().stream()
+                .filter(symbol -> symbol.kind() == SymbolKind.TYPE_DEFINITION)
+                .map(symbol -> symbol.getName().orElse(""))
+                .collect(Collectors.toSet());
+    }
 }
@@ -18,6 +18,18 @@
 
 package io.ballerina.openapi.generators.openapi;
 
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.openapi.service.mapper.ServiceToOpenAPIMapper;
+import io.ballerina.openapi.service.mapper.model.AdditionalData;
+import io.ballerina.openapi.service.mapper.type.TypeMapperImpl;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterTest;
 import org.testng.annotations.BeforeMethod;
@@ -27,6 +39,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.TreeMap;
 
 /**
  * This test class is used to maintain test for datatype in ballerina.
@@ -41,6 +55,36 @@ public class DataTypeTests {
         this.tempDir = Files.createTempDirectory("bal-to-openapi-test-out-" + System.nanoTime());
     }
 
+    @Test(description = "Map the type referred by many resources once and share the schema")
+    public void testRepeatedTypeSchema() {
+        Project project = ProjectLoader.loadProject(RES_DIR.resolve("data_type/repeated_union.bal"));
+        SemanticModel semanticModel = project.currentPackage().getCompilation()
+                .getSemanticModel(project.currentPackage().getDefaultModule().moduleId());
+        TypeSymbol unionType = semanticModel.moduleSymbols().stream()
+                .filter(symbol -> symbol instanceof TypeDefinitionSymbol &&
+                        symbol.getName().orElse("").equals("PetResult"))
+                .map(symbol -> ((TypeDefinitionSymbol) symbol).typeDescriptor())
+                .findFirst().orElseThrow();
+        Components components = new Components().schemas(new TreeMap<>());
+        AdditionalData additionalData = new AdditionalData(semanticModel,
+                ServiceToOpenAPIMapper.extractNodesFromProject(project), new ArrayList<>());
+        TypeMapperImpl typeMapper = new TypeMapperImpl(components, additionalData);
+
+        Schema schema = typeMapper.getTypeSchema(unionType);
+        Assert.assertTrue(schema instanceof ComposedSchema);
+        Assert.assertEquals(schema.getOneOf().size(), 2);
+        Assert.assertTrue(components.getSchemas().containsKey("Pet"));
+        Assert.assertSame(typeMapper.getTypeSchema(unionType), schema);
+
+        // The schema with a default value is mapped for the caller, and the shared schema is not updated
+        Schema defaultValueSchema = typeMapper.getTypeSchemaWithDefaultValue(unionType, "none");
+        Assert.assertNotSame(defaultValueSchema, schema);
+        Assert.assertEquals(defaultValueSchema.getDefault(), "none");
+        Assert.assertNull(schema.getDefault());
+        Assert.assertEquals(schema.getNullable(), Boolean.TRUE);
+        Assert.assertSame(typeMapper.getTypeSchemaWithDefaultValue(unionType, null), schema);
+    }
+
     @Test(description = "When the record field has type definitions")
     public void testForAllTypeDefinitions() throws IOException {
         Path ballerinaFilePath = RES_DIR.resolve("data_type/type_def.bal");
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.openapi;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.openapi.service.mapper.utils.HttpSubtypeOracle;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * This test class for the well-known http types and the subtype checks against them.
+ */
+public class HttpSubtypeOracleTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/ballerina-to-openapi/").toAbsolutePath();
+
+    @Test(description = "Resolve the well-known http types and check the subtypes once per semantic model")
+    public void testHttpSubtypeOracle() {
+        SemanticModel semanticModel = getSemanticModel("basic_service.bal");
+        HttpSubtypeOracle oracle = HttpSubtypeOracle.getInstance(semanticModel);
+        Assert.assertSame(HttpSubtypeOracle.getInstance(semanticModel), oracle);
+
+        TypeSymbol okType = oracle.getHttpType("Ok").orElseThrow();
+        Assert.assertSame(oracle.getHttpType("Ok").orElseThrow(), okType);
+        Assert.assertTrue(oracle.getHttpType("UndefinedType").isEmpty());
+        Assert.assertTrue(oracle.isSubTypeOfHttpType(okType, "StatusCodeResponse"));
+        Assert.assertTrue(oracle.isSubTypeOfHttpType(okType, "StatusCodeResponse"));
+        Assert.assertFalse(oracle.isSubTypeOfHttpType(okType, "Response"));
+        Assert.assertFalse(oracle.isSubTypeOfHttpType(semanticModel.types().STRING, "UndefinedType"));
+    }
+
+    @Test(description = "Keep an oracle for each semantic model in use")
+    public void testHttpSubtypeOraclePerSemanticModel() {
+        SemanticModel semanticModel = getSemanticModel("basic_service.bal");
+        SemanticModel otherSemanticModel = getSemanticModel("basic_service.bal");
+        HttpSubtypeOracle oracle = HttpSubtypeOracle.getInstance(semanticModel);
+        HttpSubtypeOracle otherOracle = HttpSubtypeOracle.getInstance(otherSemanticModel);
+        Assert.assertNotSame(otherOracle, oracle);
+        Assert.assertSame(HttpSubtypeOracle.getInstance(semanticModel), oracle);
+        Assert.assertSame(HttpSubtypeOracle.getInstance(otherSemanticModel), otherOracle);
+    }
+
+    private static SemanticModel getSemanticModel(String source) {
+        Project project = ProjectLoader.loadProject(RES_DIR.resolve(source));
+        Module module = project.currentPackage().getDefaultModule();
+        return project.currentPackage().getCompilation().getSemanticModel(module.moduleId());
+    }
+}
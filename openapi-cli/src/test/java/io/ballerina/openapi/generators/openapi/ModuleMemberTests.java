@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.openapi;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.service.mapper.ServiceToOpenAPIMapper;
+import io.ballerina.openapi.service.mapper.model.ModuleMemberVisitor;
+import io.ballerina.openapi.service.mapper.type.RecordTypeMapper;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import io.ballerina.tools.text.TextDocuments;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+/**
+ * This test class for the module members collected from the packages of the services.
+ */
+public class ModuleMemberTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/ballerina-to-openapi/").toAbsolutePath();
+
+    @Test(description = "Traverse the package once for all the services mapped from it")
+    public void testModuleMembersOfPackage() {
+        Project project = ProjectLoader.loadProject(RES_DIR.resolve("basic_service.bal"));
+        ModuleMemberVisitor moduleMembers = ServiceToOpenAPIMapper.extractNodesFromProject(project);
+        Assert.assertSame(ServiceToOpenAPIMapper.extractNodesFromProject(project), moduleMembers);
+
+        Module module = project.currentPackage().getDefaultModule();
+        Document document = module.document(module.documentIds().iterator().next());
+        document.modify().withContent(document.textDocument().toString() + "\ntype Pet record {};\n").apply();
+        ModuleMemberVisitor modifiedModuleMembers = ServiceToOpenAPIMapper.extractNodesFromProject(project);
+        Assert.assertNotSame(modifiedModuleMembers, moduleMembers);
+        Assert.assertTrue(modifiedModuleMembers.getTypeDefinitionNode("Pet").isPresent());
+    }
+
+    @Test(description = "Look up the module members by their unescaped and module qualified names")
+    public void testModuleMemberLookups() {
+        ModuleMemberVisitor moduleMembers = new ModuleMemberVisitor();
+        moduleMembers.visitModuleMembers(SyntaxTree.from(TextDocuments.from(
+                "type 'Pet record {};\nservice class RequestInterceptor {}\n")).rootNode(), "store");
+        moduleMembers.visitModuleMembers(SyntaxTree.from(TextDocuments.from(
+                "type Pet record {|int id;|};\n")).rootNode(), "store.types");
+
+        Optional<TypeDefinitionNode> pet = moduleMembers.getTypeDefinitionNode("Pet");
+        Assert.assertTrue(pet.isPresent());
+        Assert.assertEquals(pet.get().typeName().text(), "'Pet");
+        Assert.assertSame(moduleMembers.getTypeDefinitionNode("store", "Pet").orElseThrow(), pet.get());
+        Assert.assertNotSame(moduleMembers.getTypeDefinitionNode("store.types", "Pet").orElseThrow(), pet.get());
+        Assert.assertTrue(moduleMembers.getTypeDefinitionNode("store.types", "Order").isEmpty());
+        Assert.assertTrue(moduleMembers.getInterceptorServiceClassNode("RequestInterceptor").isPresent());
+        Assert.assertTrue(moduleMembers.getInterceptorServiceClassNode("store", "RequestInterceptor").isPresent());
+        Assert.assertTrue(moduleMembers.getInterceptorServiceClassNode("store.types", "RequestInterceptor")
+                .isEmpty());
+    }
+
+    @Test(description = "Find the default values of the record fields in the module of the record")
+    public void testRecordFieldDefaultValueLookup() {
+        ModuleMemberVisitor moduleMembers = new ModuleMemberVisitor();
+        moduleMembers.visitModuleMembers(SyntaxTree.from(TextDocuments.from(
+                "type Pet record {|int id = 1;|};\n")).rootNode(), "store");
+        moduleMembers.visitModuleMembers(SyntaxTree.from(TextDocuments.from(
+                "type Pet record {|int id = 2;|};\n")).rootNode(), "store.types");
+
+        Assert.assertEquals(RecordTypeMapper.getRecordFieldDefaultValue("store.types", "Pet", "id", moduleMembers),
+                Optional.of(2));
+        Assert.assertEquals(RecordTypeMapper.getRecordFieldDefaultValue("store", "Pet", "id", moduleMembers),
+                Optional.of(1));
+        Assert.assertEquals(RecordTypeMapper.getRecordFieldDefaultValue("Pet", "id", moduleMembers), Optional.of(1));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.openapi;
+
+import io.ballerina.openapi.service.mapper.model.OASResult;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+/**
+ * This test class for the serialized formats of the OpenAPI definitions.
+ */
+public class OASResultTests {
+
+    @Test(description = "Serialize the OpenAPI definition once and write it to a stream")
+    public void testOASResultSerialization() throws IOException {
+        OASResult oasResult = new OASResult(new OpenAPI().info(new Info().title("Pets").version("1.0.0")),
+                new ArrayList<>());
+        String yaml = oasResult.getYaml().orElseThrow();
+        Assert.assertSame(oasResult.getYaml().orElseThrow(), yaml);
+        String json = oasResult.getJson().orElseThrow();
+        Assert.assertSame(oasResult.getJson().orElseThrow(), json);
+
+        oasResult.setOpenAPI(new OpenAPI().info(new Info().title("Orders").version("1.0.0")));
+        ByteArrayOutputStream yamlStream = new ByteArrayOutputStream();
+        oasResult.writeTo(yamlStream, OASResult.Format.YAML);
+        Assert.assertTrue(yamlStream.toString(StandardCharsets.UTF_8).contains("title: Orders"));
+        Assert.assertEquals(oasResult.getYaml().orElseThrow(), yamlStream.toString(StandardCharsets.UTF_8));
+        ByteArrayOutputStream jsonStream = new ByteArrayOutputStream();
+        oasResult.writeTo(jsonStream, OASResult.Format.JSON);
+        Assert.assertEquals(jsonStream.toString(StandardCharsets.UTF_8), oasResult.getJson().orElseThrow());
+        Assert.assertNotEquals(oasResult.getJson().orElseThrow(), json);
+    }
+
+    @Test(description = "Serialize an updated OpenAPI definition again only after it is set again")
+    public void testUpdatedOASResultSerialization() {
+        OpenAPI openAPI = new OpenAPI().info(new Info().title("Pets").version("1.0.0"));
+        OASResult oasResult = new OASResult(openAPI, new ArrayList<>());
+        String yaml = oasResult.getYaml().orElseThrow();
+
+        oasResult.getOpenAPI().orElseThrow().getInfo().setTitle("Orders");
+        Assert.assertSame(oasResult.getYaml().orElseThrow(), yaml);
+        oasResult.setOpenAPI(openAPI);
+        Assert.assertTrue(oasResult.getYaml().orElseThrow().contains("title: Orders"));
+    }
+}
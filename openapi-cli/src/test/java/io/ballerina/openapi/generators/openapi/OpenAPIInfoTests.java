@@ -17,6 +17,17 @@
  */
 package io.ballerina.openapi.generators.openapi;
 
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.openapi.service.mapper.ServiceToOpenAPIMapper;
+import io.ballerina.openapi.service.mapper.model.OASResult;
+import io.ballerina.openapi.service.mapper.utils.OpenAPIContractCache;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -24,8 +35,12 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import static io.ballerina.openapi.generators.openapi.TestUtils.compareWithGeneratedFile;
+import static io.ballerina.openapi.generators.openapi.TestUtils.deleteDirectory;
 
 /**
  * Tests for openAPI info section mapping.
@@ -58,5 +73,53 @@ public class OpenAPIInfoTests {
         compareWithGeneratedFile(ballerinaFilePath, "openapi_info/project02.yaml");
     }
 
+    @Test(description = "Parse a contract file once until the file is changed")
+    public void testOpenAPIContractCache() throws IOException {
+        Path contractPath = this.tempDir.resolve("contract.yaml");
+        Files.writeString(contractPath, "openapi: 3.0.1\ninfo:\n  title: Pets\n  version: 1.0.0\npaths: {}\n");
+        OASResult contract = OpenAPIContractCache.getParsedContract(contractPath);
+        Assert.assertSame(OpenAPIContractCache.getParsedContract(contractPath), contract);
+        Assert.assertEquals(contract.getOpenAPI().orElseThrow().getInfo().getTitle(), "Pets");
 
+        OpenAPI copy = OpenAPIContractCache.copyOf(contract.getOpenAPI().orElseThrow());
+        copy.getInfo().setTitle("Orders");
+        Assert.assertEquals(contract.getOpenAPI().orElseThrow().getInfo().getTitle(), "Pets");
+
+        Files.writeString(contractPath, "openapi: 3.0.1\ninfo:\n  title: Orders\n  version: 1.0.0\npaths: {}\n");
+        OASResult changedContract = OpenAPIContractCache.getParsedContract(contractPath);
+        Assert.assertNotSame(changedContract, contract);
+        Assert.assertEquals(changedContract.getOpenAPI().orElseThrow().getInfo().getTitle(), "Orders");
+        Assert.assertTrue(OpenAPIContractCache.getContent(contractPath).contains("title: Orders"));
+    }
+
+    @Test(description = "Map the services referring to the same contract without sharing their definitions")
+    public void testServicesWithSameContract() {
+        Path sourcePath = RES_DIR.resolve("project04/shared_contract.bal");
+        Project project = ProjectLoader.loadProject(sourcePath);
+        Module module = project.currentPackage().getDefaultModule();
+        Document document = module.document(module.documentIds().iterator().next());
+        SemanticModel semanticModel = project.currentPackage().getCompilation().getSemanticModel(module.moduleId());
+
+        List<OASResult> results = ServiceToOpenAPIMapper.generateOAS3Definition(project, document.syntaxTree(),
+                semanticModel, null, false, sourcePath);
+        Assert.assertEquals(results.size(), 2);
+        Set<String> paths = new HashSet<>();
+        for (OASResult result : results) {
+            OpenAPI openAPI = result.getOpenAPI().orElseThrow();
+            Assert.assertEquals(openAPI.getInfo().getTitle(), "Shared API");
+            // Each definition has only the resources of its service
+            Assert.assertEquals(openAPI.getPaths().size(), 1);
+            paths.addAll(openAPI.getPaths().keySet());
+        }
+        Assert.assertEquals(paths, Set.of("/pets", "/orders"));
+        OpenAPI contract = OpenAPIContractCache.getParsedContract(
+                RES_DIR.resolve("project04/shared_openapi.yaml")).getOpenAPI().orElseThrow();
+        Assert.assertNull(contract.getPaths());
+        Assert.assertNull(contract.getServers());
+    }
+
+    @AfterMethod
+    public void cleanUp() {
+        deleteDirectory(this.tempDir);
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.openapi;
+
+import io.ballerina.openapi.cmd.OASContractGenerator;
+import io.ballerina.openapi.service.mapper.ServiceToOpenAPIMapper;
+import io.ballerina.openapi.service.mapper.model.OASResult;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static io.ballerina.openapi.generators.openapi.TestUtils.deleteDirectory;
+
+/**
+ * This test class for the OpenAPI definitions exported for all the services of a package.
+ */
+public class PackageExportTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/ballerina-to-openapi/").toAbsolutePath();
+    private Path tempDir;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        this.tempDir = Files.createTempDirectory("bal-to-openapi-test-out-" + System.nanoTime());
+    }
+
+    @Test(description = "Generate OpenAPI specs for all the services of a package")
+    public void testPackageExport() throws IOException {
+        Path packagePath = RES_DIR.resolve("package_export");
+        List<String> expectedFileNames = List.of("admin_users_openapi.yaml", "main_openapi.yaml",
+                "pets_1_openapi.yaml", "pets_openapi.yaml");
+        for (int run = 0; run < 2; run++) {
+            OASContractGenerator openApiConverter = new OASContractGenerator();
+            openApiConverter.generateOAS3DefinitionsForPackage(packagePath, this.tempDir, null, false);
+            Assert.assertTrue(openApiConverter.getDiagnostics().isEmpty());
+            try (Stream<Path> files = Files.list(this.tempDir)) {
+                Assert.assertEquals(files.map(file -> file.getFileName().toString()).sorted().toList(),
+                        expectedFileNames);
+            }
+        }
+        Assert.assertTrue(Files.readString(this.tempDir.resolve("pets_1_openapi.yaml")).contains("/orders"));
+    }
+
+    @Test(description = "Map the services of a package and serialize their definitions in parallel")
+    public void testParallelPackageMapping() {
+        Project project = ProjectLoader.loadProject(RES_DIR.resolve("package_export"));
+        List<OASResult> sequentialResults = ServiceToOpenAPIMapper.generateOAS3DefinitionsForPackage(project, null,
+                false);
+        List<OASResult> parallelResults = ServiceToOpenAPIMapper.generateOAS3DefinitionsForPackage(project, null,
+                false, true);
+        Assert.assertEquals(parallelResults.size(), sequentialResults.size());
+        for (int i = 0; i < sequentialResults.size(); i++) {
+            Assert.assertEquals(parallelResults.get(i).getServiceName(), sequentialResults.get(i).getServiceName());
+            Assert.assertEquals(parallelResults.get(i).getYaml(), sequentialResults.get(i).getYaml());
+            Assert.assertEquals(parallelResults.get(i).getDiagnostics().size(),
+                    sequentialResults.get(i).getDiagnostics().size());
+        }
+    }
+
+    @AfterMethod
+    public void cleanUp() {
+        deleteDirectory(this.tempDir);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.openapi;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.openapi.service.mapper.ServiceToOpenAPIMapper;
+import io.ballerina.openapi.service.mapper.model.OASResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * This test class for the definitions serialized in parallel, which are the same as the definitions serialized one
+ * after the other.
+ */
+public class ParallelMappingTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/ballerina-to-openapi/").toAbsolutePath();
+
+    @Test(description = "Map the services and serialize their definitions in parallel",
+            dataProvider = "parallelMappingSources")
+    public void testParallelMapping(String source) {
+        Path sourcePath = RES_DIR.resolve(source);
+        List<OASResult> sequentialResults = generateDefinitions(sourcePath, false);
+        List<OASResult> parallelResults = generateDefinitions(sourcePath, true);
+        assertSameDefinitions(parallelResults, sequentialResults);
+    }
+
+    @Test(description = "Map the services with many resources and serialize their definitions in parallel repeatedly")
+    public void testParallelMappingOfManyResources() {
+        Path sourcePath = RES_DIR.resolve("parallel/many_resources.bal");
+        List<OASResult> sequentialResults = generateDefinitions(sourcePath, false);
+        Assert.assertEquals(sequentialResults.size(), 3);
+        for (int i = 0; i < 10; i++) {
+            assertSameDefinitions(generateDefinitions(sourcePath, true), sequentialResults);
+        }
+    }
+
+    private static List<OASResult> generateDefinitions(Path sourcePath, boolean parallel) {
+        Project project = ProjectLoader.loadProject(sourcePath);
+        Module module = project.currentPackage().getDefaultModule();
+        Document document = module.document(module.documentIds().iterator().next());
+        SemanticModel semanticModel = project.currentPackage().getCompilation().getSemanticModel(module.moduleId());
+        return ServiceToOpenAPIMapper.generateOAS3Definition(project, document.syntaxTree(), semanticModel, null,
+                false, sourcePath, parallel);
+    }
+
+    private static void assertSameDefinitions(List<OASResult> parallelResults, List<OASResult> sequentialResults) {
+        Assert.assertEquals(parallelResults.size(), sequentialResults.size());
+        for (int i = 0; i < sequentialResults.size(); i++) {
+            Assert.assertEquals(parallelResults.get(i).getServiceName(), sequentialResults.get(i).getServiceName());
+            Assert.assertEquals(parallelResults.get(i).getYaml(), sequentialResults.get(i).getYaml());
+            Assert.assertEquals(parallelResults.get(i).getDiagnostics().size(),
+                    sequentialResults.get(i).getDiagnostics().size());
+        }
+    }
+
+    @DataProvider(name = "parallelMappingSources")
+    public Object[][] parallelMappingSources() {
+        return new Object[][]{
+                {"basic_service.bal"},
+                {"response/readonly.bal"},
+                {"response/nil_return_type.bal"},
+                {"interceptors/request_interceptors/interceptors10.bal"}
+        };
+    }
+}
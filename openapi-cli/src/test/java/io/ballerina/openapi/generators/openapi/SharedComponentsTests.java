@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.openapi;
+package io.ballerina.openapi.generators.openapi;
+
+import io.ballerina.openapi.cmd.OASContractGenerator;
+import io.ballerina.openapi.service.mapper.SharedComponentsMapper;
+import io.ballerina.openapi.service.mapper.model.OASResult;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static io.ballerina.openapi.generators.openapi.TestUtils.deleteDirectory;
+
+/**
+ * This test class for the components shared by the OpenAPI definitions of the services of a package.
+ */
+public class SharedComponentsTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/ballerina-to-openapi/").toAbsolutePath();
+    private Path tempDir;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        this.tempDir = Files.createTempDirectory("bal-to-openapi-test-out-" + System.nanoTime());
+    }
+
+    @Test(description = "Generate OpenAPI specs for all the services of a package with shared components")
+    public void testSharedComponentsExport() throws IOException {
+        OASContractGenerator openApiConverter = new OASContractGenerator();
+        openApiConverter.generateOAS3DefinitionsWithSharedComponents(RES_DIR.resolve("package_export"), this.tempDir,
+                null, false);
+        Assert.assertTrue(openApiConverter.getDiagnostics().isEmpty());
+        String components = Files.readString(this.tempDir.resolve("components.yaml"));
+        Assert.assertTrue(components.contains("Pet:"));
+        Assert.assertTrue(components.contains("Order:"));
+        String orders = Files.readString(this.tempDir.resolve("pets_1_openapi.yaml"));
+        Assert.assertTrue(orders.contains("components.yaml#/components/schemas/Order"));
+        Assert.assertFalse(orders.contains("\ncomponents:"));
+    }
+
+    @Test(description = "Share the schemas which are the same in the definitions which have them")
+    public void testSharedComponentsMapper() {
+        Schema<?> tag = new ObjectSchema().addProperty("name", new StringSchema());
+        Schema<?> pet = new ObjectSchema().addProperty("tag", new Schema<>().$ref("Tag"));
+        Schema<?> owner = new ObjectSchema().addProperty("name", new StringSchema());
+        OASResult pets = new OASResult(new OpenAPI().components(new Components().addSchemas("Pet", pet)
+                .addSchemas("Tag", tag).addSchemas("Owner", owner)), new ArrayList<>());
+        pets.setServiceName("pets_openapi.yaml");
+        OASResult tags = new OASResult(new OpenAPI().components(new Components().addSchemas("Tag",
+                new ObjectSchema().addProperty("id", new IntegerSchema()))), new ArrayList<>());
+        tags.setServiceName("tags_openapi.yaml");
+        OASResult owners = new OASResult(new OpenAPI().components(new Components().addSchemas("Owner",
+                new ObjectSchema().addProperty("name", new StringSchema())).addSchemas("Store",
+                new ObjectSchema().addProperty("id", new IntegerSchema()))), new ArrayList<>());
+        owners.setServiceName("owners_openapi.yaml");
+
+        List<OASResult> definitions = SharedComponentsMapper.share(List.of(pets, tags, owners), "components.yaml",
+                new Info().title("Pets").version("1.0.0"));
+        Assert.assertEquals(definitions.size(), 4);
+        Assert.assertEquals(definitions.get(0).getServiceName(), "components.yaml");
+        // Tag is different in the definitions, hence Pet which refers to Tag is not shared either. Store is only in
+        // one definition, hence it is not shared.
+        Assert.assertEquals(definitions.get(0).getOpenAPI().orElseThrow().getComponents().getSchemas().keySet(),
+                Set.of("Owner"));
+        Assert.assertEquals(definitions.get(1).getOpenAPI().orElseThrow().getComponents().getSchemas().keySet(),
+                Set.of("Pet", "Tag"));
+        Assert.assertEquals(definitions.get(2).getOpenAPI().orElseThrow().getComponents().getSchemas().keySet(),
+                Set.of("Tag"));
+        Assert.assertEquals(definitions.get(3).getOpenAPI().orElseThrow().getComponents().getSchemas().keySet(),
+                Set.of("Store"));
+
+        // The definitions are returned as they are when no schema is in two definitions
+        Assert.assertEquals(SharedComponentsMapper.share(List.of(tags, owners), "components.yaml",
+                new Info().title("Pets").version("1.0.0")), List.of(tags, owners));
+    }
+
+    @AfterMethod
+    public void cleanUp() {
+        deleteDirectory(this.tempDir);
+    }
+}
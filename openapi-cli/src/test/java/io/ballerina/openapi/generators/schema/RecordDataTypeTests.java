@@ -22,13 +22,16 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.ballerina.openapi.generators.common.TestUtils;
 import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedList;
 
 /**
  * Tests related to the record data structure.
@@ -63,4 +66,24 @@ public class RecordDataTypeTests {
         syntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
         TestUtils.compareGeneratedSyntaxTreewithExpectedSyntaxTree("schema/ballerina/empty_record.bal", syntaxTree);
     }
+
+    @Test(description = "Generate readonly closed records when readonly types are enabled")
+    public void generateReadonlyRecord() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/scenario07.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(
+                new GeneratorMetaData.Builder().withOpenAPI(openAPI).withReadonlyTypes(true).build(),
+                new LinkedList<>());
+        syntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
+        TestUtils.compareGeneratedSyntaxTreewithExpectedSyntaxTree("schema/ballerina/readonly_record.bal",
+                syntaxTree);
+    }
+
+    @Test(description = "Reject the readonly types with the streamed multipart parts")
+    public void rejectReadonlyStreamingMultipart() {
+        GeneratorMetaData.Builder builder = new GeneratorMetaData.Builder().withOpenAPI(new OpenAPI())
+                .withReadonlyTypes(true).withStreamingMultipart(true);
+        IllegalArgumentException exception = Assert.expectThrows(IllegalArgumentException.class, builder::build);
+        Assert.assertEquals(exception.getMessage(), GeneratorMetaData.READONLY_STREAMING_MULTIPART_ERROR);
+    }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.service;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.BallerinaLoadTestGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
+import io.ballerina.openapi.core.generators.service.MockResponseGenerator;
+import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
+import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.openapi.generators.common.TestUtils;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.AfterTest;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static io.ballerina.openapi.generators.common.TestUtils.getDiagnosticsForService;
+
+/**
+ * All the tests related to the mock service generation.
+ */
+public class MockServiceTests {
+
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/service").toAbsolutePath();
+    private final Filter filter = new Filter(new ArrayList<>(), new ArrayList<>());
+
+    @Test(description = "Generate a mock service which returns the examples of the contract")
+    public void testMockService() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/mock/mock_service.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .withMock(true)
+                .build();
+        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        String source = ballerinaServiceGenerator.generateSyntaxTree().toSourceCode();
+        Assert.assertTrue(source.contains("configurable int mockServicePort = 9090;"));
+        Assert.assertTrue(source.contains("new (mockServicePort)"));
+        Assert.assertTrue(source.contains("runtime:sleep(mockLatency)"));
+        // The media type example takes precedence over the schema examples
+        assertMockPayload(source, "showPetByIdMockPayload", "{\"id\":10,\"name\":\"Tom\"}", "application/json");
+        // The payload is built from the property examples when the response has no example
+        assertMockPayload(source, "listPetsMockPayload", "[{\"id\":1,\"name\":\"Max\"}]", "application/json");
+        assertMockPayload(source, "getGreetingMockPayload", "Hello \"world\"", "text/plain");
+        Assert.assertEquals(ballerinaServiceGenerator.getBasePath(), "/v1");
+    }
+
+    @Test(description = "Build the mock payloads within the constraints of the response schemas")
+    public void testMockPayloadConstraints() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/mock/mock_constraints.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .withMock(true)
+                .build();
+        String source = new BallerinaServiceGenerator(oasServiceMetadata).generateSyntaxTree().toSourceCode();
+        String pet = "{\"id\":10,\"weight\":1.25,\"age\":0,\"tag\":\"stringst\",\"code\":\"A\"}";
+        assertMockPayload(source, "listPetsMockPayload", "[" + pet + "," + pet + "]", "application/json");
+        assertMockPayload(source, "showOwnerByIdMockPayload", "{\"name\":\"str\"}", "application/json");
+    }
+
+    @Test(description = "Fail the mock service generation for a response reference without the response components",
+            expectedExceptions = BallerinaOpenApiException.class,
+            expectedExceptionsMessageRegExp = "Undefined response reference: #/components/responses/Owner")
+    public void testMockUndefinedResponseReference() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/mock/mock_constraints.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        openAPI.getComponents().setResponses(null);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .withMock(true)
+                .build();
+        new BallerinaServiceGenerator(oasServiceMetadata).generateSyntaxTree();
+    }
+
+    @Test(description = "Compile the generated mock service")
+    public void testMockServiceCompilation() throws IOException, BallerinaOpenApiException, FormatterException {
+        Path definitionPath = RES_DIR.resolve("swagger/mock/mock_service.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .withMock(true)
+                .build();
+        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        SyntaxTree syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+        List<Diagnostic> diagnostics = getDiagnosticsForService(syntaxTree, openAPI, ballerinaServiceGenerator);
+        Assert.assertFalse(diagnostics.stream()
+                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity())));
+    }
+
+    private static void assertMockPayload(String source, String payloadName, String payload, String mediaType) {
+        String encodedPayload = Base64.getEncoder().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(source.contains("final readonly & byte[] " + payloadName + " = base64 `" +
+                encodedPayload + "`;"));
+        Assert.assertTrue(source.contains("response.setBinaryPayload(" + payloadName + ", \"" + mediaType + "\");"));
+    }
+
+    @Test(description = "Generate a load test of the client against the mock service")
+    public void testLoadTest() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/mock/mock_service.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(false).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        ballerinaClientGenerator.generateSyntaxTree();
+        BallerinaLoadTestGenerator loadTestGenerator = new BallerinaLoadTestGenerator(ballerinaClientGenerator,
+                MockResponseGenerator.MOCK_SERVICE_PORT, "/v1");
+        Optional<SyntaxTree> loadTest = loadTestGenerator.generateSyntaxTree();
+        Assert.assertTrue(loadTest.isPresent());
+        String source = loadTest.get().toSourceCode();
+        Assert.assertTrue(source.contains("http://localhost:${mockServicePort}/v1"));
+        Assert.assertTrue(source.contains("groups: [\"load_test\"], enable: false"));
+        Assert.assertTrue(source.contains("loadTestClient->showPetById("));
+        Assert.assertTrue(source.contains("loadTestClient->listPets()"));
+    }
+
+    @AfterTest
+    public void cleanUp() throws IOException {
+        TestUtils.deleteGeneratedFiles();
+    }
+}
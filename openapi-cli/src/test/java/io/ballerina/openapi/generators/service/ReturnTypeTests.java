@@ -18,6 +18,7 @@
 
 package io.ballerina.openapi.generators.service;
 
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
@@ -25,6 +26,7 @@ import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
 import io.ballerina.openapi.core.model.Filter;
 import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
@@ -32,6 +34,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * All the tests related to the {@code io.ballerina.openapi.generators.service.RequestBodyGenerator} util.
@@ -470,4 +474,77 @@ public class ReturnTypeTests {
         CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
                 "response/multiline_return_description.bal", syntaxTree);
     }
+
+    @Test(description = "Inline response record names are derived from the path, method and status code")
+    public void testInlineResponseRecordNames() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/response/inline_response_record_names.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .build();
+        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+        List<String> recordNames = ballerinaServiceGenerator.getTypeInclusionRecords().stream()
+                .map(record -> record.typeName().text().trim())
+                .collect(Collectors.toList());
+        Assert.assertEquals(recordNames, List.of("PetsResponse", "PetsBadRequestResponse",
+                "BadRequestPetsResponse"));
+        // The `addPets` response is named `PetsPostResponse`, and it is bound to the structurally identical
+        // `PetsResponse` record
+        Assert.assertEquals(ballerinaServiceGenerator.getInlineSchemaRegistry().getSharedTypeMappings(),
+                Map.of("PetsPostResponse", "PetsResponse"));
+
+        // Generating the same contract again must give the same service and the same records
+        BallerinaServiceGenerator regeneratedServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        SyntaxTree regeneratedSyntaxTree = regeneratedServiceGenerator.generateSyntaxTree();
+        Assert.assertEquals(regeneratedSyntaxTree.toSourceCode(), syntaxTree.toSourceCode());
+        Assert.assertEquals(regeneratedServiceGenerator.getTypeInclusionRecords().stream()
+                .map(record -> record.typeName().text().trim())
+                .collect(Collectors.toList()), recordNames);
+    }
+
+    @Test(description = "Inline response records of different resources with the same name are renamed")
+    public void testInlineResponseRecordNameClash() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/response/inline_response_record_name_clash.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .build();
+        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+        // `post /pets` and `get /pets-post` both give `PetsPostResponse`
+        Assert.assertEquals(ballerinaServiceGenerator.getTypeInclusionRecords().stream()
+                .map(record -> record.typeName().text().trim())
+                .collect(Collectors.toList()), List.of("PetsPostResponse", "PetsPostResponse_1"));
+        FunctionDefinitionNode listPetPosts =
+                (FunctionDefinitionNode) ballerinaServiceGenerator.getFunctionList().get(1);
+        Assert.assertEquals(listPetPosts.functionSignature().returnTypeDesc().orElseThrow().type().toString().trim(),
+                "PetsPostResponse_1");
+    }
+
+    @Test(description = "Structurally identical inline responses of different resources are bound to a single record")
+    public void testStructurallyIdenticalInlineResponses() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/response/structurally_identical_inline_responses.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .build();
+        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+        // The response of `listOwners` only differs from the response of `listPets` by the documentation and the
+        // order of the keys, and the response of `listStores` does not have the required properties
+        Assert.assertEquals(ballerinaServiceGenerator.getInlineSchemaRegistry().getSharedTypeMappings(),
+                Map.of("OwnersResponse", "PetsResponse"));
+        Assert.assertEquals(ballerinaServiceGenerator.getTypeInclusionRecords().stream()
+                .map(record -> record.typeName().text().trim())
+                .collect(Collectors.toList()), List.of("PetsResponse", "StoresResponse"));
+        FunctionDefinitionNode listOwners =
+                (FunctionDefinitionNode) ballerinaServiceGenerator.getFunctionList().get(1);
+        Assert.assertEquals(listOwners.functionSignature().returnTypeDesc().orElseThrow().type().toString().trim(),
+                "PetsResponse");
+        Assert.assertFalse(syntaxTree.toSourceCode().contains("OwnersResponse"));
+    }
 }
@@ -23,6 +23,7 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.cmd.BallerinaCodeGenerator;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaBenchmarkGenerator;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.BallerinaTestGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
@@ -46,6 +47,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 import static io.ballerina.openapi.cmd.CmdConstants.OAS_PATH_SEPARATOR;
 import static io.ballerina.openapi.cmd.CmdConstants.TEST_DIR;
@@ -97,6 +99,96 @@ public class BallerinaTestGeneratorTests {
         Assert.assertTrue(diagnostics.isEmpty());
     }
 
+    @Test(description = "Generate the micro-benchmarks of the client operations")
+    public void generateClientBenchmarks() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("sample_yamls/no_auth.yaml"), true);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(false).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        ballerinaClientGenerator.generateSyntaxTree();
+        BallerinaBenchmarkGenerator benchmarkGenerator = new BallerinaBenchmarkGenerator(ballerinaClientGenerator,
+                "\"" + ballerinaClientGenerator.getServerUrl() + "\"");
+        Optional<SyntaxTree> benchmarkSyntaxTree = benchmarkGenerator.generateSyntaxTree();
+        Assert.assertTrue(benchmarkSyntaxTree.isPresent());
+        String benchmarks = benchmarkSyntaxTree.get().toSourceCode();
+        Assert.assertTrue(benchmarks.contains("benchmarkClient->listPets()"));
+        Assert.assertTrue(benchmarks.contains("runBenchmark(\"listPets\", sendBenchmarkRequest0)"));
+        Assert.assertTrue(benchmarks.contains("groups: [\"benchmark\"], enable: false"));
+        Assert.assertTrue(benchmarks.contains("io:fileWriteJson(benchmarkResultsFile, results)"));
+    }
+
+    @Test(description = "Generate the serialization and the binding micro-benchmarks of the client payloads")
+    public void generateClientPayloadBenchmarks() throws IOException, BallerinaOpenApiException,
+            FormatterException {
+        Files.createDirectories(Paths.get(PROJECT_DIR + OAS_PATH_SEPARATOR + TEST_DIR));
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("sample_yamls/benchmark_payloads.yaml"),
+                true);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(false).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        SyntaxTree syntaxTreeClient = ballerinaClientGenerator.generateSyntaxTree();
+        BallerinaBenchmarkGenerator benchmarkGenerator = new BallerinaBenchmarkGenerator(ballerinaClientGenerator,
+                "\"" + ballerinaClientGenerator.getServerUrl() + "\"");
+        SyntaxTree benchmarkSyntaxTree = benchmarkGenerator.generateSyntaxTree().orElseThrow();
+        String benchmarks = benchmarkSyntaxTree.toSourceCode();
+        Assert.assertTrue(benchmarks.contains("runBenchmark(\"listPets\", sendBenchmarkRequest0)"));
+        Assert.assertTrue(benchmarks.contains("runBenchmark(\"listPets\", bindBenchmarkResponse0, \"binding\")"));
+        Assert.assertTrue(benchmarks.contains("Pets|error response = benchmarkResponse0.cloneWithType();"));
+        Assert.assertTrue(benchmarks.contains(
+                "runBenchmark(\"createPet\", serializeBenchmarkPayload0, \"serialization\")"));
+        Assert.assertTrue(benchmarks.contains("json _ = payload.toJson();"));
+        Assert.assertTrue(benchmarks.contains("runBenchmark(\"createPet\", bindBenchmarkResponse1, \"binding\")"));
+        Assert.assertTrue(benchmarks.contains(
+                "runBenchmark(\"createXmlPet\", serializeBenchmarkPayload1, \"serialization\")"));
+        Assert.assertTrue(benchmarks.contains("xmldata:fromJson(payload.toJson())"));
+
+        List<TypeDefinitionNode> preGeneratedTypeDefinitionNodes = new LinkedList<>();
+        preGeneratedTypeDefinitionNodes.addAll(ballerinaClientGenerator.
+                getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes());
+        preGeneratedTypeDefinitionNodes.addAll(ballerinaClientGenerator.getTypeDefinitionNodeList());
+        BallerinaTypesGenerator schemaGenerator = new BallerinaTypesGenerator(
+                openAPI, false, preGeneratedTypeDefinitionNodes);
+        SyntaxTree utilSyntaxTree = ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
+        List<Diagnostic> diagnostics = getDiagnostics(syntaxTreeClient, benchmarkSyntaxTree,
+                schemaGenerator.generateSyntaxTree(), "", utilSyntaxTree);
+        Assert.assertTrue(diagnostics.isEmpty(), diagnostics.toString());
+    }
+
+    @Test(description = "Escape the resource method descriptions of the micro-benchmarks")
+    public void generateClientBenchmarksWithResourceMethods() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("sample_yamls/escaped_resource_path.yaml"),
+                true);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(true).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        ballerinaClientGenerator.generateSyntaxTree();
+        BallerinaBenchmarkGenerator benchmarkGenerator = new BallerinaBenchmarkGenerator(ballerinaClientGenerator,
+                "\"" + ballerinaClientGenerator.getServerUrl() + "\"");
+        String benchmarks = benchmarkGenerator.generateSyntaxTree().orElseThrow().toSourceCode();
+        Assert.assertTrue(benchmarks.contains("runBenchmark(\"get pet\\\\-store\", sendBenchmarkRequest0)"));
+    }
+
+    @Test(description = "Skip the micro-benchmarks when the client needs an OAuth2 token endpoint")
+    public void generateClientBenchmarksWithOAuth() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve("sample_yamls/oauth2_password.yaml"),
+                true);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(false).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        ballerinaClientGenerator.generateSyntaxTree();
+        BallerinaBenchmarkGenerator benchmarkGenerator = new BallerinaBenchmarkGenerator(ballerinaClientGenerator,
+                "\"" + ballerinaClientGenerator.getServerUrl() + "\"");
+        Assert.assertTrue(benchmarkGenerator.generateSyntaxTree().isEmpty());
+    }
+
     public List<Diagnostic> getDiagnostics(SyntaxTree clientSyntaxTree, SyntaxTree testSyntaxTree,
                                            SyntaxTree schemaSyntaxTree, String configContent, SyntaxTree utilSyntaxTree)
             throws FormatterException, IOException {
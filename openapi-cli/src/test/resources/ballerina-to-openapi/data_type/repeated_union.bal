@@ -0,0 +1,18 @@
+import ballerina/http;
+
+public type Pet record {|
+    int id;
+    string name;
+|};
+
+public type PetResult Pet[]|string?;
+
+service /payloadV on new http:Listener(9090) {
+    resource function get pets() returns Pet[]|string? {
+        return ();
+    }
+
+    resource function get pets/[int id]() returns Pet[]|string? {
+        return ();
+    }
+}
@@ -0,0 +1,24 @@
+import ballerina/http;
+import ballerina/openapi;
+
+listener http:Listener ep0 = new (9090);
+
+@openapi:ServiceInfo {
+    contract: "shared_openapi.yaml"
+}
+service /pets on ep0 {
+    resource function get pets() returns http:Ok {
+        http:Ok ok = {body: ()};
+        return ok;
+    }
+}
+
+@openapi:ServiceInfo {
+    contract: "shared_openapi.yaml"
+}
+service /orders on ep0 {
+    resource function get orders() returns http:Ok {
+        http:Ok ok = {body: ()};
+        return ok;
+    }
+}
@@ -0,0 +1,15 @@
+import ballerina/http;
+
+listener http:Listener petsEp = new (9090);
+
+service /pets on petsEp {
+    resource function get pets() returns Pet[] {
+        return [];
+    }
+}
+
+service / on petsEp {
+    resource function get greeting() returns string {
+        return "Hello";
+    }
+}
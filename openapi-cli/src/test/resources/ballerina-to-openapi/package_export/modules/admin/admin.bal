@@ -0,0 +1,7 @@
+import ballerina/http;
+
+service /users on new http:Listener(9092) {
+    resource function get users() returns string[] {
+        return [];
+    }
+}
@@ -0,0 +1,7 @@
+import ballerina/http;
+
+service /pets on new http:Listener(9091) {
+    resource function get orders() returns Order[] {
+        return [];
+    }
+}
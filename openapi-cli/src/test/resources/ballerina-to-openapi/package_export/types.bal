@@ -0,0 +1,9 @@
+public type Pet record {
+    int id;
+    string name;
+};
+
+public type Order record {
+    int id;
+    Pet pet;
+};
@@ -0,0 +1,157 @@
+import ballerina/http;
+
+listener http:Listener ep0 = new (9090);
+
+type Pet record {|
+    int id;
+    string name;
+    string tag?;
+    Category category?;
+|};
+
+type Category record {|
+    int id;
+    string name;
+|};
+
+type Owner record {|
+    int id;
+    string name;
+    Pet[] pets;
+|};
+
+type Error record {|
+    string code;
+    string message;
+|};
+
+type PetNotFound record {|
+    *http:NotFound;
+    Error body;
+|};
+
+type PetCreated record {|
+    *http:Created;
+    Pet body;
+    record {|string location;|} headers;
+|};
+
+type PetResult Pet|Owner|Error;
+
+service /pets on ep0 {
+    resource function get .(int 'limit = 10, string? tag = ()) returns Pet[]|http:InternalServerError {
+        return [];
+    }
+
+    resource function post .(@http:Payload Pet pet) returns PetCreated|http:BadRequest {
+        return http:BAD_REQUEST;
+    }
+
+    resource function get [int id]() returns Pet|PetNotFound {
+        return {id, name: "pet"};
+    }
+
+    resource function put [int id](@http:Payload Pet pet) returns Pet|PetNotFound|http:BadRequest {
+        return pet;
+    }
+
+    resource function delete [int id]() returns http:NoContent|PetNotFound {
+        return http:NO_CONTENT;
+    }
+
+    resource function get [int id]/category() returns Category|PetNotFound {
+        return {id, name: "category"};
+    }
+
+    resource function get [int id]/owner(@http:Header string? trace) returns Owner|PetNotFound|error {
+        return {id, name: "owner", pets: []};
+    }
+
+    resource function get search(string name, string[] tags, int? offset) returns PetResult[] {
+        return [];
+    }
+
+    resource function get result/[int id]() returns PetResult|http:NotFound {
+        return http:NOT_FOUND;
+    }
+
+    resource function post result(@http:Payload PetResult result) returns PetResult|http:Accepted {
+        return result;
+    }
+
+    resource function get tags() returns string[]|xml|http:InternalServerError {
+        return [];
+    }
+
+    resource function get image/[int id]() returns byte[]|PetNotFound {
+        return [];
+    }
+}
+
+service /owners on ep0 {
+    resource function get .(int 'limit = 10) returns Owner[] {
+        return [];
+    }
+
+    resource function post .(@http:Payload Owner owner) returns Owner|http:Conflict {
+        return owner;
+    }
+
+    resource function get [int id]() returns Owner|http:NotFound {
+        return http:NOT_FOUND;
+    }
+
+    resource function put [int id](@http:Payload Owner owner) returns Owner|http:NotFound {
+        return owner;
+    }
+
+    resource function delete [int id]() returns http:NoContent {
+        return http:NO_CONTENT;
+    }
+
+    resource function get [int id]/pets() returns Pet[]|http:NotFound {
+        return [];
+    }
+
+    resource function post [int id]/pets(@http:Payload Pet pet) returns PetCreated|PetNotFound {
+        return {body: pet, headers: {location: "/pets"}};
+    }
+
+    resource function get [int id]/pets/[int petId]() returns Pet|PetNotFound {
+        return {id: petId, name: "pet"};
+    }
+
+    resource function get [int id]/results() returns PetResult[]|http:NotFound {
+        return [];
+    }
+
+    resource function get search(string name, @http:Header string? trace) returns Owner[]|Error {
+        return [];
+    }
+}
+
+service /categories on ep0 {
+    resource function get .() returns Category[] {
+        return [];
+    }
+
+    resource function post .(@http:Payload Category category) returns Category|http:BadRequest {
+        return category;
+    }
+
+    resource function get [int id]() returns Category|http:NotFound {
+        return http:NOT_FOUND;
+    }
+
+    resource function put [int id](@http:Payload Category category) returns Category|http:NotFound {
+        return category;
+    }
+
+    resource function delete [int id]() returns http:NoContent|http:NotFound {
+        return http:NO_CONTENT;
+    }
+
+    resource function get [int id]/pets(int 'limit = 10) returns Pet[]|http:NotFound {
+        return [];
+    }
+}
@@ -0,0 +1,16 @@
+public type Tag readonly & record {|
+    int id?;
+    string tagType?;
+|};
+
+public type Dog readonly & record {|
+    Pet[] pets?;
+    boolean bark;
+|};
+
+public type Pet readonly & record {|
+    int id;
+    string name;
+    string tag?;
+    Tag 'type?;
+|};
@@ -0,0 +1,423 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.MethodDeclarationNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.UnionTypeDescriptorNode;
+import io.ballerina.projects.ProjectException;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.openapi.core.GeneratorConstants.CONSTRAINT;
+
+/**
+ * This class reports the properties of the generated sources which drive the cost of compiling the generated module.
+ * The sources are parsed and their syntax trees are walked, so the analysis does not compile the module. The
+ * compilation of the module can be timed separately with {@link #measureCompilation()}.
+ * <pre>
+ *     types.bal: 120 types, 0 functions, max union width 5, 4 anonymous records, 38 constraint annotations
+ *     module: 120 types, max type reference depth 6, 2 recursive types
+ * </pre>
+ *
+ * @since 1.9.0
+ */
+public class CompileCostAnalyzer {
+
+    private final Map<String, String> srcFiles = new LinkedHashMap<>();
+    private final Map<String, FileMetrics> fileMetrics = new LinkedHashMap<>();
+    // Generated types mapped to the module types referred in their type descriptors
+    private final Map<String, Set<String>> typeReferences = new HashMap<>();
+
+    /**
+     * Analyze a generated source file of the module.
+     *
+     * @param fileName name of the source file
+     * @param content  content of the source file
+     */
+    public void addSource(String fileName, String content) {
+
+        SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(content), fileName);
+        MetricsVisitor metricsVisitor = new MetricsVisitor();
+        syntaxTree.rootNode().accept(metricsVisitor);
+        srcFiles.put(fileName, content);
+        fileMetrics.put(fileName, metricsVisitor.metrics);
+        typeReferences.putAll(metricsVisitor.typeReferences);
+    }
+
+    /**
+     * Returns the metrics of the analyzed source files in the order they are added.
+     *
+     * @return source file names mapped to their metrics
+     */
+    public Map<String, FileMetrics> getFileMetrics() {
+
+        return fileMetrics;
+    }
+
+    /**
+     * Returns the length of the longest chain of type references between the generated types. The types which refer
+     * to each other are counted once in a chain.
+     *
+     * @return maximum type reference depth
+     */
+    public int getMaxTypeReferenceDepth() {
+
+        TypeComponents typeComponents = new TypeComponents();
+        Map<Integer, Integer> depths = new HashMap<>();
+        int maxDepth = 0;
+        for (int component = 0; component < typeComponents.components.size(); component++) {
+            maxDepth = Math.max(maxDepth, getTypeReferenceDepth(component, typeComponents, depths));
+        }
+        return maxDepth;
+    }
+
+    /**
+     * Returns the number of generated types which refer to themselves, directly or through other types.
+     *
+     * @return number of recursive types
+     */
+    public int getRecursiveTypeCount() {
+
+        int recursiveTypeCount = 0;
+        for (List<String> component : new TypeComponents().components) {
+            String typeName = component.get(0);
+            if (component.size() > 1 || typeReferences.get(typeName).contains(typeName)) {
+                recursiveTypeCount += component.size();
+            }
+        }
+        return recursiveTypeCount;
+    }
+
+    /**
+     * Compile the analyzed sources as the default module of a package and return the time taken. The module is
+     * compiled in the shared in-memory project, so the time does not include the loading of the project.
+     *
+     * @return {@link CompilationResult}
+     * @throws IOException When failed to create the in-memory project
+     */
+    public CompilationResult measureCompilation() throws IOException {
+
+        InMemoryProject project = InMemoryProject.getInstance();
+        long startTime = System.nanoTime();
+        try {
+            SemanticModel semanticModel = project.getSemanticModel(srcFiles);
+            long errorCount = semanticModel.diagnostics().stream()
+                    .filter(diagnostic -> diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR)
+                    .count();
+            return new CompilationResult((System.nanoTime() - startTime) / 1_000_000, errorCount);
+        } catch (ProjectException e) {
+            throw new IOException("Failed to compile the generated module: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the report of the analyzed sources with a line for each source file and a line for the module.
+     *
+     * @return report lines
+     */
+    public List<String> getReport() {
+
+        List<String> report = new ArrayList<>();
+        int typeCount = 0;
+        for (Map.Entry<String, FileMetrics> metrics : fileMetrics.entrySet()) {
+            report.add(metrics.getKey() + ": " + metrics.getValue());
+            typeCount += metrics.getValue().getTypeCount();
+        }
+        report.add(String.format("module: %d types, max type reference depth %d, %d recursive types", typeCount,
+                getMaxTypeReferenceDepth(), getRecursiveTypeCount()));
+        return report;
+    }
+
+    private int getTypeReferenceDepth(int component, TypeComponents typeComponents, Map<Integer, Integer> depths) {
+
+        Integer depth = depths.get(component);
+        if (depth != null) {
+            return depth;
+        }
+        int maxReferenceDepth = 0;
+        for (String typeName : typeComponents.components.get(component)) {
+            for (String reference : typeReferences.get(typeName)) {
+                Integer referenceComponent = typeComponents.componentIndexes.get(reference);
+                if (referenceComponent != null && referenceComponent != component) {
+                    maxReferenceDepth = Math.max(maxReferenceDepth,
+                            getTypeReferenceDepth(referenceComponent, typeComponents, depths));
+                }
+            }
+        }
+        depths.put(component, maxReferenceDepth + 1);
+        return maxReferenceDepth + 1;
+    }
+
+    /**
+     * The strongly connected components of the type reference graph, so that the types which refer to each other are
+     * in the same component.
+     */
+    private class TypeComponents {
+
+        private final List<List<String>> components = new ArrayList<>();
+        private final Map<String, Integer> componentIndexes = new HashMap<>();
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final Map<String, Integer> lowLinks = new HashMap<>();
+        private final Deque<String> stack = new ArrayDeque<>();
+        private final Set<String> onStack = new HashSet<>();
+
+        TypeComponents() {
+
+            for (String typeName : typeReferences.keySet()) {
+                if (!indexes.containsKey(typeName)) {
+                    connect(typeName);
+                }
+            }
+        }
+
+        private void connect(String typeName) {
+
+            indexes.put(typeName, indexes.size());
+            lowLinks.put(typeName, indexes.get(typeName));
+            stack.push(typeName);
+            onStack.add(typeName);
+            for (String reference : typeReferences.get(typeName)) {
+                if (!typeReferences.containsKey(reference)) {
+                    continue;
+                }
+                if (!indexes.containsKey(reference)) {
+                    connect(reference);
+                    lowLinks.put(typeName, Math.min(lowLinks.get(typeName), lowLinks.get(reference)));
+                } else if (onStack.contains(reference)) {
+                    lowLinks.put(typeName, Math.min(lowLinks.get(typeName), indexes.get(reference)));
+                }
+            }
+            if (lowLinks.get(typeName).equals(indexes.get(typeName))) {
+                List<String> component = new ArrayList<>();
+                String member;
+                do {
+                    member = stack.pop();
+                    onStack.remove(member);
+                    componentIndexes.put(member, components.size());
+                    component.add(member);
+                } while (!member.equals(typeName));
+                components.add(component);
+            }
+        }
+    }
+
+    /**
+     * Metrics of a generated source file.
+     */
+    public static class FileMetrics {
+
+        private int typeCount;
+        private int functionCount;
+        private int maxUnionWidth;
+        private int anonymousRecordCount;
+        private int constraintAnnotationCount;
+
+        public int getTypeCount() {
+
+            return typeCount;
+        }
+
+        public int getFunctionCount() {
+
+            return functionCount;
+        }
+
+        public int getMaxUnionWidth() {
+
+            return maxUnionWidth;
+        }
+
+        public int getAnonymousRecordCount() {
+
+            return anonymousRecordCount;
+        }
+
+        public int getConstraintAnnotationCount() {
+
+            return constraintAnnotationCount;
+        }
+
+        @Override
+        public String toString() {
+
+            return String.format("%d types, %d functions, max union width %d, %d anonymous records, " +
+                    "%d constraint annotations", typeCount, functionCount, maxUnionWidth, anonymousRecordCount,
+                    constraintAnnotationCount);
+        }
+    }
+
+    /**
+     * Time taken to compile the generated module and the number of compilation errors.
+     */
+    public static class CompilationResult {
+
+        private final long timeInMillis;
+        private final long errorCount;
+
+        CompilationResult(long timeInMillis, long errorCount) {
+
+            this.timeInMillis = timeInMillis;
+            this.errorCount = errorCount;
+        }
+
+        public long getTimeInMillis() {
+
+            return timeInMillis;
+        }
+
+        public long getErrorCount() {
+
+            return errorCount;
+        }
+
+        @Override
+        public String toString() {
+
+            return String.format("compilation: %d ms, %d errors", timeInMillis, errorCount);
+        }
+    }
+
+    /**
+     * Collects the metrics of a source file and the type references of the type definitions in it.
+     */
+    private static class MetricsVisitor extends NodeVisitor {
+
+        private final FileMetrics metrics = new FileMetrics();
+        private final Map<String, Set<String>> typeReferences = new HashMap<>();
+        private Set<String> currentTypeReferences;
+
+        @Override
+        public void visit(TypeDefinitionNode typeDefinitionNode) {
+
+            metrics.typeCount++;
+            currentTypeReferences = new HashSet<>();
+            typeReferences.put(typeDefinitionNode.typeName().text().trim(), currentTypeReferences);
+            typeDefinitionNode.typeDescriptor().accept(this);
+            currentTypeReferences = null;
+            typeDefinitionNode.metadata().ifPresent(metadata -> metadata.accept(this));
+        }
+
+        @Override
+        public void visit(EnumDeclarationNode enumDeclarationNode) {
+
+            metrics.typeCount++;
+            typeReferences.put(enumDeclarationNode.identifier().text().trim(), new HashSet<>());
+        }
+
+        @Override
+        public void visit(FunctionDefinitionNode functionDefinitionNode) {
+
+            metrics.functionCount++;
+            super.visit(functionDefinitionNode);
+        }
+
+        @Override
+        public void visit(MethodDeclarationNode methodDeclarationNode) {
+
+            metrics.functionCount++;
+            super.visit(methodDeclarationNode);
+        }
+
+        @Override
+        public void visit(UnionTypeDescriptorNode unionTypeDescriptorNode) {
+
+            // A union of several members is parsed as nested unions, so only the outermost union is measured
+            if (unionTypeDescriptorNode.parent() == null ||
+                    unionTypeDescriptorNode.parent().kind() != SyntaxKind.UNION_TYPE_DESC) {
+                metrics.maxUnionWidth = Math.max(metrics.maxUnionWidth, getUnionWidth(unionTypeDescriptorNode));
+            }
+            super.visit(unionTypeDescriptorNode);
+        }
+
+        @Override
+        public void visit(RecordTypeDescriptorNode recordTypeDescriptorNode) {
+
+            if (!isTypeDefinitionDescriptor(recordTypeDescriptorNode)) {
+                metrics.anonymousRecordCount++;
+            }
+            super.visit(recordTypeDescriptorNode);
+        }
+
+        @Override
+        public void visit(AnnotationNode annotationNode) {
+
+            Node annotReference = annotationNode.annotReference();
+            if (annotReference.kind() == SyntaxKind.QUALIFIED_NAME_REFERENCE &&
+                    ((QualifiedNameReferenceNode) annotReference).modulePrefix().text().trim().equals(CONSTRAINT)) {
+                metrics.constraintAnnotationCount++;
+            }
+            super.visit(annotationNode);
+        }
+
+        @Override
+        public void visit(SimpleNameReferenceNode simpleNameReferenceNode) {
+
+            if (currentTypeReferences != null) {
+                currentTypeReferences.add(simpleNameReferenceNode.name().text().trim());
+            }
+        }
+
+        private static int getUnionWidth(TypeDescriptorNode typeDescriptorNode) {
+
+            if (typeDescriptorNode.kind() != SyntaxKind.UNION_TYPE_DESC) {
+                return 1;
+            }
+            UnionTypeDescriptorNode unionTypeDescriptorNode = (UnionTypeDescriptorNode) typeDescriptorNode;
+            return getUnionWidth(unionTypeDescriptorNode.leftTypeDesc()) +
+                    getUnionWidth(unionTypeDescriptorNode.rightTypeDesc());
+        }
+
+        /**
+         * Check whether the record is the type descriptor of a type definition, ex: `type Pet record {}` or
+         * `type Pet readonly & record {| |}`.
+         */
+        private static boolean isTypeDefinitionDescriptor(RecordTypeDescriptorNode recordTypeDescriptorNode) {
+
+            Node parent = recordTypeDescriptorNode.parent();
+            if (parent != null && parent.kind() == SyntaxKind.INTERSECTION_TYPE_DESC) {
+                parent = parent.parent();
+            }
+            return parent != null && parent.kind() == SyntaxKind.TYPE_DEFINITION;
+        }
+    }
+}
@@ -95,6 +95,7 @@ public class GeneratorConstants {
             "*\\-=^+();:\\/{}\\s|.$])]*\\b";
     //ClientCode generator
     public static final String HTTP = "http";
+    public static final String IO = "io";
     public static final String URL = "url";
     public static final String MODULE_TEST = "test";
     public static final String BALLERINA = "ballerina";
@@ -145,6 +146,11 @@ public class GeneratorConstants {
     public static final String APPLICATION_URL_ENCODE = "application/x-www-form-urlencoded";
     public static final String TEXT = "text";
     public static final String IMAGE_PNG = "image/png";
+    public static final String TEXT_EVENT_STREAM = "text/event-stream";
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+    public static final String SSE_EVENT = "SseEvent";
+    public static final String FILE_CONTENT = "FileContent";
+    public static final String READONLY = "readonly";
     public static final String ENSURE_TYPE = "ensureType";
 
     // auth related constants
@@ -210,6 +216,7 @@ public class GeneratorConstants {
     public static final String X_BALLERINA_DISPLAY = "x-ballerina-display";
     public static final String X_BALLERINA_DEPRECATED_REASON = "x-ballerina-deprecated-reason";
     public static final String X_BALLERINA_HTTP_CONFIGURATIONS = "x-ballerina-http-configurations";
+    public static final String X_BALLERINA_VALIDATION = "x-ballerina-validation";
 
     //Service related
     public static final String HOST = "host";
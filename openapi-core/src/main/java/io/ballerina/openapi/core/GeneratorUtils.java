@@ -19,12 +19,14 @@
 package io.ballerina.openapi.core;
 
 import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
 import io.ballerina.compiler.api.symbols.RecordFieldSymbol;
 import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.api.symbols.SymbolKind;
 import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
 import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.BuiltinSimpleNameReferenceNode;
@@ -35,6 +37,7 @@ import io.ballerina.compiler.syntax.tree.ExpressionStatementNode;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ImportOrgNameNode;
+import io.ballerina.compiler.syntax.tree.IntersectionTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.MarkdownParameterDocumentationLineNode;
 import io.ballerina.compiler.syntax.tree.MetadataNode;
 import io.ballerina.compiler.syntax.tree.Minutiae;
@@ -66,26 +69,21 @@ import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
 import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.EnumGenerator;
 import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.ballerina.openapi.core.model.GenSrcFile;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Module;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.ProjectException;
-import io.ballerina.projects.ProjectKind;
-import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.tools.diagnostics.Location;
 import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.servers.ServerVariable;
 import io.swagger.v3.oas.models.servers.ServerVariables;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
-import org.apache.commons.io.FileUtils;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 import org.slf4j.Logger;
@@ -94,7 +92,6 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
-import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -102,7 +99,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -138,10 +134,9 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACKET_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SLASH_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
+import static io.ballerina.openapi.core.GeneratorConstants.APPLICATION_NDJSON;
 import static io.ballerina.openapi.core.GeneratorConstants.ARRAY;
 import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA;
-import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA_TOML;
-import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA_TOML_CONTENT;
 import static io.ballerina.openapi.core.GeneratorConstants.BOOLEAN;
 import static io.ballerina.openapi.core.GeneratorConstants.CLIENT_FILE_NAME;
 import static io.ballerina.openapi.core.GeneratorConstants.CLOSE_CURLY_BRACE;
@@ -171,6 +166,7 @@ import static io.ballerina.openapi.core.GeneratorConstants.SPECIAL_CHARACTERS_RE
 import static io.ballerina.openapi.core.GeneratorConstants.SQUARE_BRACKETS;
 import static io.ballerina.openapi.core.GeneratorConstants.STRING;
 import static io.ballerina.openapi.core.GeneratorConstants.STYLE;
+import static io.ballerina.openapi.core.GeneratorConstants.TEXT_EVENT_STREAM;
 import static io.ballerina.openapi.core.GeneratorConstants.TYPE_FILE_NAME;
 import static io.ballerina.openapi.core.GeneratorConstants.OPENAPI_TYPE_TO_FORMAT_MAP;
 import static io.ballerina.openapi.core.GeneratorConstants.TYPE_NAME;
@@ -387,6 +383,44 @@ public class GeneratorUtils {
         }
     }
 
+    /**
+     * Returns the Ballerina string literal for the given text, with the quotes, the backslashes and the control
+     * characters escaped.
+     *
+     * @param text - text of the string literal
+     * @return - string literal
+     */
+    public static String toStringLiteral(String text) {
+
+        StringBuilder literal = new StringBuilder("\"");
+        for (char character : text.toCharArray()) {
+            switch (character) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (character < 0x20 || character == 0x7f) {
+                        literal.append("\\u{").append(Integer.toHexString(character)).append("}");
+                    } else {
+                        literal.append(character);
+                    }
+            }
+        }
+        return literal.append("\"").toString();
+    }
+
     /**
      * This method will escape special characters used in method names and identifiers.
      *
@@ -546,6 +580,69 @@ public class GeneratorUtils {
         }
     }
 
+    /**
+     * Provides the record type descriptor of the given type definition. Records generated as
+     * `readonly & record {| ... |}` are unwrapped from the intersection.
+     *
+     * @param typeDefinitionNode type definition node
+     * @return record type descriptor or empty when the type definition is not a record
+     */
+    public static Optional<RecordTypeDescriptorNode> getRecordTypeDescriptor(TypeDefinitionNode typeDefinitionNode) {
+        Node typeDescriptor = typeDefinitionNode.typeDescriptor();
+        if (typeDescriptor.kind().equals(SyntaxKind.INTERSECTION_TYPE_DESC)) {
+            typeDescriptor = ((IntersectionTypeDescriptorNode) typeDescriptor).rightTypeDesc();
+        }
+        if (typeDescriptor.kind().equals(SyntaxKind.RECORD_TYPE_DESC)) {
+            return Optional.of((RecordTypeDescriptorNode) typeDescriptor);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Check whether the given media type delivers its payload as a sequence of events or lines that can be consumed
+     * incrementally, ex: `text/event-stream`, `application/x-ndjson`.
+     *
+     * @param mediaType media type of the content
+     * @return true if the payload should be exposed as a Ballerina stream
+     */
+    public static boolean isStreamingMediaType(String mediaType) {
+        String trimmedMediaType = mediaType.trim();
+        return trimmedMediaType.equals(TEXT_EVENT_STREAM) || trimmedMediaType.equals(APPLICATION_NDJSON);
+    }
+
+    /**
+     * Returns the success response of the given operation which is consumed as a stream. Every media type of every
+     * success response is checked, so that the signature and the body of the client function agree on streaming the
+     * payload.
+     *
+     * @param operation operation of the client function
+     * @return success response with a streaming media type, or empty when the payload is not streamed
+     */
+    public static Optional<ApiResponse> getStreamingResponse(Operation operation) {
+        if (operation.getResponses() == null) {
+            return Optional.empty();
+        }
+        return operation.getResponses().entrySet().stream()
+                .filter(response -> response.getKey().startsWith("2"))
+                .map(Map.Entry::getValue)
+                .filter(response -> getStreamingMediaType(response).isPresent())
+                .findFirst();
+    }
+
+    /**
+     * Returns the first streaming media type of the given response, ex: `text/event-stream`, `application/x-ndjson`.
+     *
+     * @param response response of the operation
+     * @return streaming media type with its content, or empty when the response is not streamed
+     */
+    public static Optional<Map.Entry<String, MediaType>> getStreamingMediaType(ApiResponse response) {
+        Content content = response.getContent();
+        if (content == null) {
+            return Optional.empty();
+        }
+        return content.entrySet().stream().filter(media -> isStreamingMediaType(media.getKey())).findFirst();
+    }
+
     /**
      * Generate BallerinaMediaType for all the return mediaTypes.
      */
@@ -949,8 +1046,9 @@ public class GeneratorUtils {
         for (ModuleMemberDeclarationNode member:members) {
             if (member.kind().equals(SyntaxKind.TYPE_DEFINITION)) {
                 TypeDefinitionNode typeDefNode = (TypeDefinitionNode) member;
-                if (typeDefNode.typeDescriptor().kind().equals(SyntaxKind.RECORD_TYPE_DESC)) {
-                    RecordTypeDescriptorNode record = (RecordTypeDescriptorNode) typeDefNode.typeDescriptor();
+                Optional<RecordTypeDescriptorNode> recordTypeDescriptor = getRecordTypeDescriptor(typeDefNode);
+                if (recordTypeDescriptor.isPresent()) {
+                    RecordTypeDescriptorNode record = recordTypeDescriptor.get();
                     NodeList<Node> fields = record.fields();
                     //Traverse record fields to check for constraints
                     for (Node node: fields) {
@@ -1001,14 +1099,9 @@ public class GeneratorUtils {
 
     private static List<String> getUnusedTypeDefinitionNameList(Map<String, String> srcFiles) throws IOException {
         List<String> unusedTypeDefinitionNameList = new ArrayList<>();
-        Path tmpDir = Files.createTempDirectory(".openapi-tmp" + System.nanoTime());
-        writeFilesTemp(srcFiles, tmpDir);
-        if ((Files.exists(tmpDir.resolve(CLIENT_FILE_NAME)) || Files.exists(tmpDir.resolve(SERVICE_FILE_NAME)))
-                && Files.exists(tmpDir.resolve(TYPE_FILE_NAME)) &&
-                Files.exists(tmpDir.resolve(BALLERINA_TOML))) {
-            SemanticModel semanticModel = Files.exists(tmpDir.resolve(CLIENT_FILE_NAME)) ?
-                    getSemanticModel(tmpDir.resolve(CLIENT_FILE_NAME)) :
-                    getSemanticModel(tmpDir.resolve(SERVICE_FILE_NAME));
+        if ((srcFiles.containsKey(CLIENT_FILE_NAME) || srcFiles.containsKey(SERVICE_FILE_NAME))
+                && srcFiles.containsKey(TYPE_FILE_NAME)) {
+            SemanticModel semanticModel = InMemoryProject.getInstance().getSemanticModel(srcFiles);
             List<Symbol> symbols = semanticModel.moduleSymbols();
             for (Symbol symbol : symbols) {
                 if (symbol.kind().equals(SymbolKind.TYPE_DEFINITION) || symbol.kind().equals(SymbolKind.ENUM)) {
@@ -1024,20 +1117,17 @@ public class GeneratorUtils {
                 }
             }
         }
-        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            try {
-                FileUtils.deleteDirectory(tmpDir.toFile());
-            } catch (IOException ex) {
-                LOGGER.error("Unable to delete the temporary directory : " + tmpDir, ex);
-            }
-        }));
         return unusedTypeDefinitionNameList;
     }
 
     private static void handleCyclicType(List<String> unusedTypeDefinitionNameList, TypeDefinitionSymbol symbol) {
-        TypeDescKind typeDescKind = symbol.typeDescriptor().typeKind();
-        if (typeDescKind.equals(TypeDescKind.RECORD)) {
-            RecordTypeSymbol recordTypeSymbol = (RecordTypeSymbol) symbol.typeDescriptor();
+        TypeSymbol typeDescriptor = symbol.typeDescriptor();
+        if (typeDescriptor.typeKind().equals(TypeDescKind.INTERSECTION)) {
+            // readonly & record {| ... |}
+            typeDescriptor = ((IntersectionTypeSymbol) typeDescriptor).effectiveTypeDescriptor();
+        }
+        if (typeDescriptor.typeKind().equals(TypeDescKind.RECORD)) {
+            RecordTypeSymbol recordTypeSymbol = (RecordTypeSymbol) typeDescriptor;
             Map<String, RecordFieldSymbol> fields = recordTypeSymbol.fieldDescriptors();
             Collection<RecordFieldSymbol> values = fields.values();
             boolean isCyclic = false;
@@ -1057,44 +1147,6 @@ public class GeneratorUtils {
         //https://github.com/ballerina-platform/ballerina-lang/issues/36442
     }
 
-    private static void writeFilesTemp(Map<String, String> srcFiles, Path tmpDir) throws IOException {
-        srcFiles.put(BALLERINA_TOML, BALLERINA_TOML_CONTENT);
-        PrintWriter writer = null;
-        for (Map.Entry<String, String> entry : srcFiles.entrySet()) {
-            String key = entry.getKey();
-            Path filePath = tmpDir.resolve(key);
-            try {
-                writer = new PrintWriter(filePath.toString(), "UTF-8");
-                writer.print(entry.getValue());
-            } finally {
-                if (writer != null) {
-                    writer.close();
-                }
-            }
-        }
-    }
-
-    private static SemanticModel getSemanticModel(Path clientPath) throws ProjectException {
-        // Load project instance for single ballerina file
-        try {
-            Project project = ProjectLoader.loadProject(clientPath);
-            Package packageName = project.currentPackage();
-            DocumentId docId;
-
-            if (project.kind().equals(ProjectKind.BUILD_PROJECT)) {
-                docId = project.documentId(clientPath);
-            } else {
-                // Take module instance for traversing the syntax tree
-                Module currentModule = packageName.getDefaultModule();
-                Iterator<DocumentId> documentIterator = currentModule.documentIds().iterator();
-                docId = documentIterator.next();
-            }
-            return project.currentPackage().getCompilation().getSemanticModel(docId.moduleId());
-        } catch (ProjectException e) {
-            throw new ProjectException(e.getMessage());
-        }
-    }
-
     public static String getOpenAPIType(Schema<?> schema) {
         if (schema.getTypes() != null && !schema.getTypes().isEmpty()) {
             for (String type : schema.getTypes()) {
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentConfig;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectException;
+import io.ballerina.projects.directory.ProjectLoader;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA_TOML;
+import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA_TOML_CONTENT;
+
+/**
+ * This class keeps a Ballerina package whose sources live in memory. The generator uses it for the compiler-backed
+ * checks on the generated sources. The package is loaded once per JVM from an empty project directory that only has
+ * the `Ballerina.toml`, and the sources of each check are applied as document updates to the same package instead of
+ * writing them to a new temporary directory.
+ *
+ * @since 1.9.0
+ */
+public final class InMemoryProject {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryProject.class);
+    private static InMemoryProject instance;
+
+    private Module module;
+
+    private InMemoryProject(Module module) {
+
+        this.module = module;
+    }
+
+    /**
+     * Returns the shared in-memory project. The backing project directory is created on the first call only and
+     * deleted when the JVM exits.
+     *
+     * @return {@link InMemoryProject}
+     * @throws IOException When failed to create the backing project directory
+     */
+    public static synchronized InMemoryProject getInstance() throws IOException {
+
+        if (instance == null) {
+            Path projectDir = Files.createTempDirectory(".openapi-tmp" + System.nanoTime());
+            Files.writeString(projectDir.resolve(BALLERINA_TOML), BALLERINA_TOML_CONTENT, StandardCharsets.UTF_8);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    FileUtils.deleteDirectory(projectDir.toFile());
+                } catch (IOException ex) {
+                    LOGGER.error("Unable to delete the temporary directory : " + projectDir, ex);
+                }
+            }));
+            Project project = ProjectLoader.loadProject(projectDir);
+            instance = new InMemoryProject(project.currentPackage().getDefaultModule());
+        }
+        return instance;
+    }
+
+    /**
+     * Replaces the sources of the default module with the given sources and returns the semantic model of the module.
+     * Documents with unchanged names are updated in place and the documents that are not given are removed.
+     *
+     * @param srcFiles source file names mapped to their content
+     * @return {@link SemanticModel} of the default module
+     * @throws ProjectException When the compilation of the package fails
+     */
+    public synchronized SemanticModel getSemanticModel(Map<String, String> srcFiles) throws ProjectException {
+
+        Map<String, DocumentId> documentIds = new HashMap<>();
+        for (DocumentId documentId : module.documentIds()) {
+            documentIds.put(module.document(documentId).name(), documentId);
+        }
+        List<DocumentId> removedDocuments = new ArrayList<>();
+        for (Map.Entry<String, DocumentId> documentId : documentIds.entrySet()) {
+            if (!srcFiles.containsKey(documentId.getKey())) {
+                removedDocuments.add(documentId.getValue());
+            }
+        }
+        for (DocumentId documentId : removedDocuments) {
+            module = module.modify().removeDocument(documentId).apply();
+        }
+        for (Map.Entry<String, String> srcFile : srcFiles.entrySet()) {
+            if (srcFile.getKey().equals(BALLERINA_TOML)) {
+                continue;
+            }
+            DocumentId documentId = documentIds.get(srcFile.getKey());
+            if (documentId == null) {
+                DocumentConfig documentConfig = DocumentConfig.from(DocumentId.create(srcFile.getKey(),
+                        module.moduleId()), srcFile.getValue(), srcFile.getKey());
+                module = module.modify().addDocument(documentConfig).apply();
+            } else {
+                Document document = module.document(documentId);
+                if (!document.textDocument().toString().equals(srcFile.getValue())) {
+                    module = document.modify().withContent(srcFile.getValue()).apply().module();
+                }
+            }
+        }
+        return module.packageInstance().getCompilation().getSemanticModel(module.moduleId());
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
+import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.GeneratorConstants;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.service.MockResponseGenerator;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocuments;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Operation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createModulePartNode;
+
+/**
+ * This class generates the micro-benchmarks of the operations of the generated client. The benchmarks run in the
+ * `tests` folder of the package. Each benchmark warms up a function and then measures the latency of its calls. The
+ * `call` benchmark of an operation measures the whole client method, which covers the path and query building, the
+ * request serialization, the round trip and the response binding. The `serialization` benchmark measures the
+ * serialization of a canned request payload as the client serializes it, and the `binding` benchmark measures the
+ * binding of a canned JSON response payload to the return type of the client method. The canned payloads are taken
+ * from the examples of the contract, or built from the schemas. The results of all the benchmarks are written to a
+ * JSON file, so that they can be compared between the runs. The benchmarks are disabled by default, so that
+ * `bal test` does not send requests to the service, which is the server of the contract when the benchmarks are not
+ * generated with a mock service.
+ * <pre>
+ *     final Client benchmarkClient = check new (serviceUrl = benchmarkServiceUrl == "" ?
+ *             "https://petstore.swagger.io/v1" : benchmarkServiceUrl);
+ *
+ *     isolated function sendBenchmarkRequest0() returns boolean {
+ *         var response = benchmarkClient->listPets();
+ *         return response !is error;
+ *     }
+ *
+ *     # Canned `application/json` payload of the `listPets` response
+ *     final readonly &amp; json benchmarkResponse0 = (check "[{\"id\":1,\"name\":\"string\"}]".fromJsonString())
+ *             .cloneReadOnly();
+ *
+ *     isolated function bindBenchmarkResponse0() returns boolean {
+ *         Pets|error response = benchmarkResponse0.cloneWithType();
+ *         return response !is error;
+ *     }
+ *
+ *     &#64;test:Config {groups: ["benchmark"], enable: false}
+ *     function testBenchmarks() returns error? {
+ *         json[] results = [runBenchmark("listPets", sendBenchmarkRequest0),
+ *                 runBenchmark("listPets", bindBenchmarkResponse0, "binding")];
+ *         check io:fileWriteJson(benchmarkResultsFile, results);
+ *     }
+ * </pre>
+ *
+ * @since 1.9.0
+ */
+public class BallerinaBenchmarkGenerator {
+
+    private static final String BENCHMARK_CLIENT = "benchmarkClient";
+    private static final String SEND_REQUEST_FUNCTION = "sendBenchmarkRequest";
+    private static final String SERIALIZE_PAYLOAD_FUNCTION = "serializeBenchmarkPayload";
+    private static final String BIND_RESPONSE_FUNCTION = "bindBenchmarkResponse";
+    private static final String BENCHMARK_PAYLOAD = "benchmarkPayload";
+    private static final String BENCHMARK_RESPONSE = "benchmarkResponse";
+    private static final String SERIALIZATION = "serialization";
+    private static final String BINDING = "binding";
+
+    private final BallerinaClientGenerator ballerinaClientGenerator;
+    private final SampleRequestGenerator sampleRequestGenerator;
+    private final MockResponseGenerator exampleGenerator;
+    private final String defaultServiceUrl;
+
+    /**
+     * Create the benchmark generator.
+     *
+     * @param ballerinaClientGenerator client generator, after the client syntax tree is generated
+     * @param defaultServiceUrl        Ballerina expression of the service URL which is used when the
+     *                                 `benchmarkServiceUrl` configurable is not given, ex: the URL of the mock service
+     */
+    public BallerinaBenchmarkGenerator(BallerinaClientGenerator ballerinaClientGenerator, String defaultServiceUrl) {
+
+        this.ballerinaClientGenerator = ballerinaClientGenerator;
+        this.sampleRequestGenerator = new SampleRequestGenerator(ballerinaClientGenerator);
+        this.exampleGenerator = new MockResponseGenerator(ballerinaClientGenerator.getOpenAPI());
+        this.defaultServiceUrl = defaultServiceUrl;
+    }
+
+    /**
+     * Generate the benchmark syntax tree.
+     *
+     * @return benchmark syntax tree, or empty when the client can not be initialized for the benchmarks
+     */
+    public Optional<SyntaxTree> generateSyntaxTree() {
+
+        Optional<String> clientInitializer = sampleRequestGenerator.getClientInitializer(String.format(
+                "benchmarkServiceUrl == \"\" ? %s : benchmarkServiceUrl", defaultServiceUrl));
+        if (clientInitializer.isEmpty()) {
+            return Optional.empty();
+        }
+        List<ModuleMemberDeclarationNode> members = new ArrayList<>();
+        members.add(NodeParser.parseModuleMemberDeclaration("# URL of the service which is benchmarked. The default " +
+                "URL is used when it is empty\nconfigurable string benchmarkServiceUrl = " +
+                "\"\";"));
+        members.add(NodeParser.parseModuleMemberDeclaration("# Number of calls of each operation before the " +
+                "measurement\nconfigurable int benchmarkWarmupIterations = 100;"));
+        members.add(NodeParser.parseModuleMemberDeclaration("# Number of measured calls of each operation\n" +
+                "configurable int benchmarkIterations = 1000;"));
+        members.add(NodeParser.parseModuleMemberDeclaration("# Path of the JSON file to which the results are " +
+                "written\nconfigurable string benchmarkResultsFile = \"target/benchmark_results.json\";"));
+        members.add(NodeParser.parseModuleMemberDeclaration("final Client " + BENCHMARK_CLIENT + " = check new (" +
+                clientInitializer.get() + ");"));
+        List<String> benchmarks = new ArrayList<>();
+        int calls = 0;
+        int serializations = 0;
+        int bindings = 0;
+        boolean xmlPayloads = false;
+        List<FunctionDefinitionNode> clientMethods = ballerinaClientGenerator.getClientMethods();
+        List<Operation> operations = ballerinaClientGenerator.getClientMethodOperations();
+        for (int i = 0; i < clientMethods.size(); i++) {
+            FunctionDefinitionNode clientMethod = clientMethods.get(i);
+            String description = GeneratorUtils.toStringLiteral(
+                    sampleRequestGenerator.getMethodDescription(clientMethod));
+            Optional<String> methodCall = sampleRequestGenerator.getMethodCall(clientMethod, BENCHMARK_CLIENT);
+            if (methodCall.isPresent()) {
+                String functionName = SEND_REQUEST_FUNCTION + calls++;
+                members.add(NodeParser.parseModuleMemberDeclaration(sampleRequestGenerator.getSendRequestFunction(
+                        functionName, clientMethod, methodCall.get())));
+                benchmarks.add(String.format("runBenchmark(%s, %s)", description, functionName));
+            }
+            Optional<PayloadBenchmark> serialization = getSerializationBenchmark(clientMethod, operations.get(i),
+                    serializations);
+            if (serialization.isPresent()) {
+                serializations++;
+                xmlPayloads |= serialization.get().xml();
+                serialization.get().members().forEach(member ->
+                        members.add(NodeParser.parseModuleMemberDeclaration(member)));
+                benchmarks.add(String.format("runBenchmark(%s, %s, \"%s\")", description,
+                        serialization.get().functionName(), SERIALIZATION));
+            }
+            Optional<PayloadBenchmark> binding = getBindingBenchmark(clientMethod, operations.get(i), bindings);
+            if (binding.isPresent()) {
+                bindings++;
+                binding.get().members().forEach(member ->
+                        members.add(NodeParser.parseModuleMemberDeclaration(member)));
+                benchmarks.add(String.format("runBenchmark(%s, %s, \"%s\")", description,
+                        binding.get().functionName(), BINDING));
+            }
+        }
+        members.add(NodeParser.parseModuleMemberDeclaration(getTestFunction(benchmarks)));
+        members.add(NodeParser.parseModuleMemberDeclaration(getBenchmarkFunction()));
+        members.add(NodeParser.parseModuleMemberDeclaration(
+                SampleRequestGenerator.getPercentileFunction("getBenchmarkPercentile")));
+
+        List<ImportDeclarationNode> imports = new ArrayList<>(List.of(
+                GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, GeneratorConstants.IO),
+                GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, GeneratorConstants.MODULE_TEST),
+                GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, "time")));
+        if (xmlPayloads) {
+            imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA,
+                    GeneratorConstants.XML_DATA));
+        }
+        ModulePartNode modulePartNode = createModulePartNode(createNodeList(imports), createNodeList(members),
+                createIdentifierToken(""));
+        TextDocument textDocument = TextDocuments.from("");
+        SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
+        return Optional.of(syntaxTree.modifyWith(modulePartNode));
+    }
+
+    /**
+     * Returns the benchmark of the serialization of a canned request payload of the given client method, which
+     * serializes the payload as the client method does. Empty is returned when the request body is not a JSON or an
+     * XML payload.
+     */
+    private Optional<PayloadBenchmark> getSerializationBenchmark(FunctionDefinitionNode clientMethod,
+                                                                 Operation operation, int index) {
+
+        Optional<String> payloadType = Optional.empty();
+        for (ParameterNode parameterNode : clientMethod.functionSignature().parameters()) {
+            if (parameterNode instanceof RequiredParameterNode requiredParameter &&
+                    requiredParameter.paramName().isPresent() &&
+                    requiredParameter.paramName().get().text().trim().equals(GeneratorConstants.PAYLOAD)) {
+                payloadType = Optional.of(requiredParameter.typeName().toSourceCode().trim());
+            }
+        }
+        Optional<Map.Entry<String, String>> example;
+        try {
+            example = payloadType.isEmpty() ? Optional.empty() :
+                    getJsonExample(exampleGenerator.getRequestExample(operation));
+        } catch (BallerinaOpenApiException e) {
+            return Optional.empty();
+        }
+        if (example.isEmpty()) {
+            return Optional.empty();
+        }
+        String mediaType = GeneratorUtils.getBallerinaMediaType(example.get().getKey(), true);
+        boolean xml = mediaType.equals(SyntaxKind.XML_KEYWORD.stringValue());
+        if (!xml && !mediaType.equals(SyntaxKind.JSON_KEYWORD.stringValue())) {
+            return Optional.empty();
+        }
+        String payloadName = BENCHMARK_PAYLOAD + index;
+        String functionName = SERIALIZE_PAYLOAD_FUNCTION + index;
+        String operationDescription = sampleRequestGenerator.getMethodDescription(clientMethod);
+        String serialization = xml ? "    xml?|error xmlBody = xmldata:fromJson(payload.toJson());\n" +
+                "    return xmlBody !is error;\n" : "    json _ = payload.toJson();\n    return true;\n";
+        return Optional.of(new PayloadBenchmark(functionName, xml, List.of(
+                String.format("# Canned `%s` payload of the `%s` request\nfinal readonly & (%s)|error %s = " +
+                                "(check %s.fromJsonString()).cloneWithType();", example.get().getKey(),
+                        operationDescription, payloadType.get(), payloadName,
+                        GeneratorUtils.toStringLiteral(example.get().getValue())),
+                String.format("# Serializes the canned payload of the `%s` request\n" +
+                                "isolated function %s() returns boolean {\n" +
+                                "    readonly & (%s)|error payload = %s;\n" +
+                                "    if payload is error {\n" +
+                                "        return false;\n" +
+                                "    }\n" +
+                                "%s}", operationDescription, functionName, payloadType.get(), payloadName,
+                        serialization))));
+    }
+
+    /**
+     * Returns the benchmark of the binding of a canned JSON response payload of the given client method to its return
+     * type. Empty is returned when the success response is not a JSON payload, or the client method does not bind the
+     * payload to a type.
+     */
+    private Optional<PayloadBenchmark> getBindingBenchmark(FunctionDefinitionNode clientMethod, Operation operation,
+                                                           int index) {
+
+        Optional<ReturnTypeDescriptorNode> returnType = clientMethod.functionSignature().returnTypeDesc();
+        String errorUnion = "|" + SyntaxKind.ERROR_KEYWORD.stringValue();
+        if (returnType.isEmpty() || !returnType.get().type().toSourceCode().trim().endsWith(errorUnion)) {
+            return Optional.empty();
+        }
+        String returnTypeName = returnType.get().type().toSourceCode().trim();
+        String targetType = returnTypeName.substring(0, returnTypeName.length() - errorUnion.length()).trim();
+        if (targetType.isEmpty() || targetType.contains(GeneratorConstants.HTTP + ":") ||
+                targetType.startsWith(SyntaxKind.STREAM_KEYWORD.stringValue())) {
+            return Optional.empty();
+        }
+        Optional<Map.Entry<String, String>> example;
+        try {
+            example = getJsonExample(exampleGenerator.getSuccessResponseExample(operation));
+        } catch (BallerinaOpenApiException e) {
+            return Optional.empty();
+        }
+        if (example.isEmpty() || !GeneratorUtils.getBallerinaMediaType(example.get().getKey(), false)
+                .equals(SyntaxKind.JSON_KEYWORD.stringValue())) {
+            return Optional.empty();
+        }
+        String responseName = BENCHMARK_RESPONSE + index;
+        String functionName = BIND_RESPONSE_FUNCTION + index;
+        String operationDescription = sampleRequestGenerator.getMethodDescription(clientMethod);
+        return Optional.of(new PayloadBenchmark(functionName, false, List.of(
+                String.format("# Canned `%s` payload of the `%s` response\nfinal readonly & json %s = " +
+                                "(check %s.fromJsonString()).cloneReadOnly();", example.get().getKey(),
+                        operationDescription, responseName, GeneratorUtils.toStringLiteral(example.get().getValue())),
+                String.format("# Binds the canned payload of the `%s` response\n" +
+                                "isolated function %s() returns boolean {\n" +
+                                "    %s|error response = %s.cloneWithType();\n" +
+                                "    return response !is error;\n" +
+                                "}", operationDescription, functionName, targetType, responseName))));
+    }
+
+    /**
+     * Returns the given example with its JSON text.
+     */
+    private static Optional<Map.Entry<String, String>> getJsonExample(Optional<Map.Entry<String, JsonNode>> example) {
+
+        if (example.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Map.entry(example.get().getKey(),
+                    Json.mapper().writeValueAsString(example.get().getValue())));
+        } catch (JsonProcessingException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String getTestFunction(List<String> benchmarks) {
+
+        return "# The benchmarks are disabled by default. Check the URL of the benchmarked service, set `enable` to " +
+                "`true` and\n# run them with `bal test --groups benchmark`.\n" +
+                "@test:Config {groups: [\"benchmark\"], enable: false}\n" +
+                "function testBenchmarks() returns error? {\n" +
+                "    json[] results = [" + String.join(", ", benchmarks) + "];\n" +
+                "    check io:fileWriteJson(benchmarkResultsFile, results);\n" +
+                "}";
+    }
+
+    /**
+     * Returns the function which warms up and measures a request, or the serialization or the binding of a payload,
+     * and returns the summary of the latencies in milliseconds.
+     */
+    private static String getBenchmarkFunction() {
+
+        return "function runBenchmark(string operation, isolated function () returns boolean request, " +
+                "string stage = \"call\") returns json {\n" +
+                "    foreach int _ in 0 ..< benchmarkWarmupIterations {\n" +
+                "        _ = request();\n" +
+                "    }\n" +
+                "    decimal[] latencies = [];\n" +
+                "    int errors = 0;\n" +
+                "    decimal startTime = time:monotonicNow();\n" +
+                "    foreach int _ in 0 ..< benchmarkIterations {\n" +
+                "        decimal requestStartTime = time:monotonicNow();\n" +
+                "        if !request() {\n" +
+                "            errors += 1;\n" +
+                "        }\n" +
+                "        latencies.push(time:monotonicNow() - requestStartTime);\n" +
+                "    }\n" +
+                "    decimal totalTime = time:monotonicNow() - startTime;\n" +
+                "    int iterations = latencies.length();\n" +
+                "    if iterations == 0 {\n" +
+                "        return {operation, stage, iterations, errors};\n" +
+                "    }\n" +
+                "    decimal[] sortedLatencies = latencies.sort();\n" +
+                "    return {\n" +
+                "        operation,\n" +
+                "        stage,\n" +
+                "        iterations,\n" +
+                "        errors,\n" +
+                "        warmupIterations: benchmarkWarmupIterations,\n" +
+                "        meanMs: decimal:sum(...latencies) / <decimal>iterations * 1000,\n" +
+                "        minMs: getBenchmarkPercentile(sortedLatencies, 0),\n" +
+                "        p50Ms: getBenchmarkPercentile(sortedLatencies, 50),\n" +
+                "        p90Ms: getBenchmarkPercentile(sortedLatencies, 90),\n" +
+                "        p99Ms: getBenchmarkPercentile(sortedLatencies, 99),\n" +
+                "        maxMs: getBenchmarkPercentile(sortedLatencies, 100),\n" +
+                "        throughput: totalTime > 0d ? <decimal>iterations / totalTime : 0d\n" +
+                "    };\n" +
+                "}";
+    }
+
+    /**
+     * Benchmark function of a payload with the module members it needs.
+     */
+    private record PayloadBenchmark(String functionName, boolean xml, List<String> members) {
+    }
+}
@@ -54,6 +54,8 @@ import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.schema.InlineSchemaRegistry;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.ballerina.openapi.core.model.Filter;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
@@ -63,14 +65,23 @@ import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
 import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.oas.models.servers.ServerVariables;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
@@ -137,9 +148,14 @@ public class BallerinaClientGenerator {
     private final BallerinaTypesGenerator ballerinaSchemaGenerator;
     private final BallerinaUtilGenerator ballerinaUtilGenerator;
     private final List<String> remoteFunctionNameList;
+    private final List<FunctionDefinitionNode> clientMethods;
+    private final List<Operation> clientMethodOperations;
+    private List<Node> classHeaderMembers = new ArrayList<>();
     private String serverURL;
     private final BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator;
     private final boolean resourceMode;
+    private final List<String> validationSkippedOperations;
+    private final List<String> batchOperations;
 
     /**
      * Returns a list of type definition nodes.
@@ -171,6 +187,40 @@ public class BallerinaClientGenerator {
         return remoteFunctionNameList;
     }
 
+    /**
+     * Returns the generated client methods of the operations in the order of the operations. The batch companion
+     * methods are not included.
+     *
+     * @return list of {@link FunctionDefinitionNode}
+     */
+    public List<FunctionDefinitionNode> getClientMethods() {
+
+        return clientMethods;
+    }
+
+    /**
+     * Returns the OpenAPI definition of the client.
+     */
+    public OpenAPI getOpenAPI() {
+
+        return openAPI;
+    }
+
+    /**
+     * Returns the operations of the client methods given by {@link #getClientMethods()}, in the same order.
+     *
+     * @return list of {@link Operation}
+     */
+    public List<Operation> getClientMethodOperations() {
+
+        return clientMethodOperations;
+    }
+
+    public boolean isResourceMode() {
+
+        return resourceMode;
+    }
+
     /**
      * Returns server URL.
      *
@@ -187,13 +237,21 @@ public class BallerinaClientGenerator {
         this.imports = new ArrayList<>();
         this.typeDefinitionNodeList = new ArrayList<>();
         this.openAPI = oasClientConfig.getOpenAPI();
-        this.ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPI,
-                oasClientConfig.isNullable(), new LinkedList<>());
+        this.ballerinaSchemaGenerator = new BallerinaTypesGenerator(new GeneratorMetaData.Builder()
+                .withOpenAPI(openAPI)
+                .withNullable(oasClientConfig.isNullable())
+                .withStreamingMultipart(oasClientConfig.isStreamingMultipart())
+                .withReadonlyTypes(oasClientConfig.isReadonlyTypes())
+                .build(), new LinkedList<>());
         this.ballerinaUtilGenerator = new BallerinaUtilGenerator();
         this.remoteFunctionNameList = new ArrayList<>();
+        this.clientMethods = new ArrayList<>();
+        this.clientMethodOperations = new ArrayList<>();
         this.serverURL = "/";
         this.ballerinaAuthConfigGenerator = new BallerinaAuthConfigGenerator(false, false);
         this.resourceMode = oasClientConfig.isResourceMode();
+        this.validationSkippedOperations = oasClientConfig.getValidationSkippedOperations();
+        this.batchOperations = oasClientConfig.getBatchOperations();
     }
 
     /**
@@ -223,6 +281,119 @@ public class BallerinaClientGenerator {
         return syntaxTree.modifyWith(modulePartNode);
     }
 
+    /**
+     * Generate the client source in the low-memory mode and write it to the given writer. The client methods are
+     * generated and formatted in chunks of the given size, and each formatted chunk is written to a temporary file
+     * before the next chunk is generated. Only the documentation and the function bodies of the client methods of one
+     * chunk, and the formatted syntax tree of that chunk, are kept in memory at once. The signatures of all the client
+     * methods, given by {@link #getClientMethods()}, are kept for the generators which refer to them, together with
+     * the OpenAPI definition and the generated type definitions, hence the memory used still grows with the number of
+     * operations. The imports and the class header are written last, as the imports depend on all the client methods.
+     *
+     * @param writer    writer of the client source
+     * @param chunkSize number of operations of which the client methods are generated at once
+     * @throws BallerinaOpenApiException When function fail in process
+     * @throws FormatterException        When the formatting of the generated source fails
+     * @throws IOException               When the temporary file operations or the writing fails
+     */
+    public void generateClientSource(Writer writer, int chunkSize)
+            throws BallerinaOpenApiException, FormatterException, IOException {
+
+        imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, HTTP));
+        ballerinaAuthConfigGenerator.addAuthRelatedRecords(openAPI);
+        classHeaderMembers = new ArrayList<>(createClassInstanceVariables());
+        classHeaderMembers.add(createInitFunction());
+
+        Path methodsFile = Files.createTempFile("client-methods", ".bal");
+        try {
+            List<Map.Entry<String, Map.Entry<PathItem.HttpMethod, Operation>>> clientOperations =
+                    getClientOperations(openAPI.getPaths(), filters);
+            try (Writer methodsWriter = Files.newBufferedWriter(methodsFile, StandardCharsets.UTF_8)) {
+                for (int chunkStart = 0; chunkStart < clientOperations.size(); chunkStart += chunkSize) {
+                    int clientMethodStart = clientMethods.size();
+                    List<FunctionDefinitionNode> chunk = new ArrayList<>();
+                    for (Map.Entry<String, Map.Entry<PathItem.HttpMethod, Operation>> operation :
+                            clientOperations.subList(chunkStart,
+                                    Math.min(chunkStart + chunkSize, clientOperations.size()))) {
+                        addClientMethod(chunk, operation.getKey(), operation.getValue());
+                    }
+                    // Only the members of the class are written, without the class declaration and its closing brace
+                    for (Node member : getClassNode(formatModule(createEmptyNodeList(),
+                            createClientClassNode(null, new ArrayList<>(chunk)))).members()) {
+                        methodsWriter.write(member.toSourceCode());
+                    }
+                    for (int i = clientMethodStart; i < clientMethods.size(); i++) {
+                        clientMethods.set(i, getMethodSignature(clientMethods.get(i)));
+                    }
+                }
+            }
+            SyntaxTree classHeaderTree = formatModule(createNodeList(imports),
+                    createClientClassNode(getClassMetadataNode(), classHeaderMembers));
+            String classHeader = classHeaderTree.toSourceCode();
+            int classEnd = getClassNode(classHeaderTree).closeBrace().textRangeWithMinutiae().startOffset();
+            writer.write(classHeader, 0, classEnd);
+            try (Reader methodsReader = Files.newBufferedReader(methodsFile, StandardCharsets.UTF_8)) {
+                methodsReader.transferTo(writer);
+            }
+            writer.write(classHeader.substring(classEnd));
+        } finally {
+            Files.deleteIfExists(methodsFile);
+        }
+    }
+
+    private static SyntaxTree formatModule(NodeList<ImportDeclarationNode> imports, ClassDefinitionNode classNode)
+            throws FormatterException {
+
+        ModulePartNode modulePartNode = createModulePartNode(imports, createNodeList(classNode),
+                createToken(EOF_TOKEN));
+        return Formatter.format(SyntaxTree.from(TextDocuments.from("")).modifyWith(modulePartNode));
+    }
+
+    private static ClassDefinitionNode getClassNode(SyntaxTree syntaxTree) {
+
+        return (ClassDefinitionNode) ((ModulePartNode) syntaxTree.rootNode()).members().get(0);
+    }
+
+    /**
+     * Returns the client source with the signatures of the client methods, without their documentation and function
+     * bodies. This refers to the same types as the client source, hence the unused types can be found with it without
+     * reading the client source written in the low-memory mode. This is available after
+     * {@link #generateClientSource(Writer, int)}.
+     *
+     * @return client source with the signatures of the client methods
+     * @throws FormatterException When the formatting of the source fails
+     */
+    public String generateClientSignatureSource() throws FormatterException {
+
+        List<Node> classMembers = new ArrayList<>(classHeaderMembers);
+        classMembers.addAll(clientMethods);
+        return formatModule(createNodeList(imports), createClientClassNode(null, classMembers)).toSourceCode();
+    }
+
+    /**
+     * Returns the given client method without its documentation and its function body, which is enough for the
+     * generators which refer to the client methods by their signatures.
+     */
+    private static FunctionDefinitionNode getMethodSignature(FunctionDefinitionNode clientMethod) {
+
+        return clientMethod.modify()
+                .withMetadata(null)
+                .withFunctionBody(createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN), null,
+                        createEmptyNodeList(), createToken(CLOSE_BRACE_TOKEN), null))
+                .apply();
+    }
+
+    /**
+     * Returns the registry of the inline request and response schemas. This is available after the syntax tree is
+     * generated.
+     *
+     * @return {@link InlineSchemaRegistry}
+     */
+    public InlineSchemaRegistry getInlineSchemaRegistry() {
+
+        return ballerinaSchemaGenerator.getInlineSchemaRegistry();
+    }
+
     public BallerinaUtilGenerator getBallerinaUtilGenerator() {
 
         return ballerinaUtilGenerator;
@@ -257,7 +428,11 @@ public class BallerinaClientGenerator {
         // Generate remote function Nodes
         memberNodeList.addAll(createRemoteFunctions(openAPI.getPaths(), filters));
         // Generate the class combining members
-        MetadataNode metadataNode = getClassMetadataNode();
+        return createClientClassNode(getClassMetadataNode(), memberNodeList);
+    }
+
+    private static ClassDefinitionNode createClientClassNode(MetadataNode metadataNode, List<Node> memberNodeList) {
+
         IdentifierToken className = createIdentifierToken(GeneratorConstants.CLIENT_CLASS);
         NodeList<Token> classTypeQualifiers = createNodeList(
                 createToken(ISOLATED_KEYWORD), createToken(CLIENT_KEYWORD));
@@ -471,43 +646,93 @@ public class BallerinaClientGenerator {
     private List<FunctionDefinitionNode> createRemoteFunctions(Paths paths, Filter filter)
             throws BallerinaOpenApiException {
 
+        List<FunctionDefinitionNode> functionDefinitionNodeList = new ArrayList<>();
+        for (Map.Entry<String, Map.Entry<PathItem.HttpMethod, Operation>> operation :
+                getClientOperations(paths, filter)) {
+            addClientMethod(functionDefinitionNodeList, operation.getKey(), operation.getValue());
+        }
+        return functionDefinitionNodeList;
+    }
+
+    /**
+     * Returns the operations for which the client methods are generated, with their paths, in the order of the
+     * OpenAPI definition.
+     *
+     * @param paths  openAPI Paths
+     * @param filter user given tags and operations
+     * @return paths mapped to the operations
+     */
+    private static List<Map.Entry<String, Map.Entry<PathItem.HttpMethod, Operation>>> getClientOperations(
+            Paths paths, Filter filter) {
+
         List<String> filterTags = filter.getTags();
         List<String> filterOperations = filter.getOperations();
-        List<FunctionDefinitionNode> functionDefinitionNodeList = new ArrayList<>();
+        List<Map.Entry<String, Map.Entry<PathItem.HttpMethod, Operation>>> clientOperations = new ArrayList<>();
         Set<Map.Entry<String, PathItem>> pathsItems = paths.entrySet();
         for (Map.Entry<String, PathItem> path : pathsItems) {
             if (!path.getValue().readOperationsMap().isEmpty()) {
                 for (Map.Entry<PathItem.HttpMethod, Operation> operation :
                         path.getValue().readOperationsMap().entrySet()) {
-                    // create display annotation of the operation
-                    List<AnnotationNode> functionLevelAnnotationNodes = new ArrayList<>();
-                    if (operation.getValue().getExtensions() != null) {
-                        Map<String, Object> extensions = operation.getValue().getExtensions();
-                        DocCommentsGenerator.extractDisplayAnnotation(extensions, functionLevelAnnotationNodes);
-                    }
                     List<String> operationTags = operation.getValue().getTags();
                     String operationId = operation.getValue().getOperationId();
                     if (!filterTags.isEmpty() || !filterOperations.isEmpty()) {
                         // Generate remote function only if it is available in tag filter or operation filter or both
                         if (operationTags != null || ((!filterOperations.isEmpty()) && (operationId != null))) {
                             if (isaFilteredOperation(filterTags, filterOperations, operationTags, operationId)) {
-                                // Generate remote function
-                                FunctionDefinitionNode functionDefinitionNode =
-                                        getClientMethodFunctionDefinitionNode(
-                                                functionLevelAnnotationNodes, path.getKey(), operation);
-                                functionDefinitionNodeList.add(functionDefinitionNode);
+                                clientOperations.add(Map.entry(path.getKey(), operation));
                             }
                         }
                     } else {
-                        // Generate remote function
-                        FunctionDefinitionNode functionDefinitionNode = getClientMethodFunctionDefinitionNode(
-                                functionLevelAnnotationNodes, path.getKey(), operation);
-                        functionDefinitionNodeList.add(functionDefinitionNode);
+                        clientOperations.add(Map.entry(path.getKey(), operation));
                     }
                 }
             }
         }
-        return functionDefinitionNodeList;
+        return clientOperations;
+    }
+
+    /**
+     * Generate the client method of the given operation, together with its batch companion method when it is
+     * selected for the batch generation.
+     */
+    private void addClientMethod(List<FunctionDefinitionNode> functionDefinitionNodeList, String path,
+                                 Map.Entry<PathItem.HttpMethod, Operation> operation)
+            throws BallerinaOpenApiException {
+
+        // create display annotation of the operation
+        List<AnnotationNode> functionLevelAnnotationNodes = new ArrayList<>();
+        if (operation.getValue().getExtensions() != null) {
+            Map<String, Object> extensions = operation.getValue().getExtensions();
+            DocCommentsGenerator.extractDisplayAnnotation(extensions, functionLevelAnnotationNodes);
+        }
+        FunctionDefinitionNode functionDefinitionNode = getClientMethodFunctionDefinitionNode(
+                functionLevelAnnotationNodes, path, operation);
+        functionDefinitionNodeList.add(functionDefinitionNode);
+        clientMethods.add(functionDefinitionNode);
+        clientMethodOperations.add(operation.getValue());
+        addBatchFunction(functionDefinitionNodeList, functionDefinitionNode, operation);
+    }
+
+    /**
+     * Add the batch companion method of the given client method when the operation is a GET operation selected for
+     * the batch generation.
+     */
+    private void addBatchFunction(List<FunctionDefinitionNode> functionDefinitionNodeList,
+                                  FunctionDefinitionNode clientMethod,
+                                  Map.Entry<PathItem.HttpMethod, Operation> operation) {
+
+        String operationId = operation.getValue().getOperationId();
+        if (operation.getKey() != PathItem.HttpMethod.GET || operationId == null ||
+                operation.getValue().getRequestBody() != null || !batchOperations.contains(operationId.trim())) {
+            return;
+        }
+        BatchFunctionGenerator batchFunctionGenerator = new BatchFunctionGenerator(resourceMode);
+        Optional<FunctionDefinitionNode> batchFunction =
+                batchFunctionGenerator.getBatchFunctionDefinitionNode(clientMethod, operationId.trim());
+        if (batchFunction.isPresent()) {
+            functionDefinitionNodeList.add(batchFunction.get());
+            remoteFunctionNameList.add(operationId.trim() + "Batch");
+        }
     }
 
     private static boolean isaFilteredOperation(List<String> filterTags, List<String> filterOperations,
@@ -583,6 +808,10 @@ public class BallerinaClientGenerator {
         // Create Function Body
         FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator(imports, typeDefinitionNodeList,
                 openAPI, ballerinaSchemaGenerator, ballerinaAuthConfigGenerator, ballerinaUtilGenerator, resourceMode);
+        // Operations given to skip the validation are handled as they are marked with `x-ballerina-validation: false`
+        String operationId = operation.getValue().getOperationId();
+        functionBodyGenerator.setValidationSkipped(operationId != null &&
+                validationSkippedOperations.contains(operationId.trim()));
         FunctionBodyNode functionBodyNode = functionBodyGenerator.getFunctionBodyNode(path, operation);
         imports = functionBodyGenerator.getImports();
 
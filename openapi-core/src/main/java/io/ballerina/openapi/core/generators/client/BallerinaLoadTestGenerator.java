@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client;
+
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.GeneratorConstants;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createModulePartNode;
+
+/**
+ * This class generates a load test for the generated client. The load test runs in the `tests` folder of the package
+ * and sends the requests of the client against the mock service of the same package, so that it runs fully offline.
+ * The requests are sent by a configurable number of workers for a configurable duration, and the throughput and the
+ * latency percentiles are printed at the end of the test. The test is disabled by default, so that `bal test` does not
+ * run it.
+ * <pre>
+ *     configurable int loadTestConcurrency = 10;
+ *     configurable decimal loadTestDuration = 10;
+ *
+ *     final Client loadTestClient = check new (serviceUrl = string `http://localhost:${mockServicePort}/v1`);
+ *
+ *     isolated function sendLoadTestRequest0() returns boolean {
+ *         var response = loadTestClient->/pets.get(1);
+ *         return response !is error;
+ *     }
+ * </pre>
+ *
+ * @since 1.9.0
+ */
+public class BallerinaLoadTestGenerator {
+
+    private static final String LOAD_TEST_CLIENT = "loadTestClient";
+    private static final String SEND_REQUEST_FUNCTION = "sendLoadTestRequest";
+
+    private final BallerinaClientGenerator ballerinaClientGenerator;
+    private final SampleRequestGenerator sampleRequestGenerator;
+    private final String mockServiceUrl;
+
+    /**
+     * Create the load test generator.
+     *
+     * @param ballerinaClientGenerator client generator, after the client syntax tree is generated
+     * @param mockServicePortName      name of the configurable port of the mock service
+     * @param basePath                 base path of the mock service
+     */
+    public BallerinaLoadTestGenerator(BallerinaClientGenerator ballerinaClientGenerator, String mockServicePortName,
+                                      String basePath) {
+
+        this.ballerinaClientGenerator = ballerinaClientGenerator;
+        this.sampleRequestGenerator = new SampleRequestGenerator(ballerinaClientGenerator);
+        this.mockServiceUrl = getMockServiceUrl(mockServicePortName, basePath);
+    }
+
+    /**
+     * Returns the Ballerina expression of the URL of the mock service which runs on the local machine.
+     *
+     * @param mockServicePortName name of the configurable port of the mock service
+     * @param basePath            base path of the mock service
+     * @return string template expression of the URL
+     */
+    public static String getMockServiceUrl(String mockServicePortName, String basePath) {
+
+        String servicePath = basePath == null || basePath.equals(GeneratorConstants.OAS_PATH_SEPARATOR) ?
+                "" : basePath;
+        return "string `http://localhost:${" + mockServicePortName + "}" + servicePath + "`";
+    }
+
+    /**
+     * Generate the load test syntax tree.
+     *
+     * @return load test syntax tree, or empty when the client can not be initialized for the mock service
+     */
+    public Optional<SyntaxTree> generateSyntaxTree() {
+
+        Optional<String> clientInitializer = sampleRequestGenerator.getClientInitializer(mockServiceUrl);
+        if (clientInitializer.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> requestFunctions = new ArrayList<>();
+        List<ModuleMemberDeclarationNode> members = new ArrayList<>();
+        members.add(NodeParser.parseModuleMemberDeclaration(
+                "# Number of workers which send requests concurrently\nconfigurable int loadTestConcurrency = 10;"));
+        members.add(NodeParser.parseModuleMemberDeclaration(
+                "# Duration of the load test in seconds\nconfigurable decimal loadTestDuration = 10;"));
+        members.add(NodeParser.parseModuleMemberDeclaration("final Client " + LOAD_TEST_CLIENT + " = check new (" +
+                clientInitializer.get() + ");"));
+        for (FunctionDefinitionNode clientMethod : ballerinaClientGenerator.getClientMethods()) {
+            Optional<String> methodCall = sampleRequestGenerator.getMethodCall(clientMethod, LOAD_TEST_CLIENT);
+            if (methodCall.isPresent()) {
+                String functionName = SEND_REQUEST_FUNCTION + requestFunctions.size();
+                members.add(NodeParser.parseModuleMemberDeclaration(sampleRequestGenerator.getSendRequestFunction(
+                        functionName, clientMethod, methodCall.get())));
+                requestFunctions.add(functionName);
+            }
+        }
+        members.add(NodeParser.parseModuleMemberDeclaration(getTestFunction()));
+        members.add(NodeParser.parseModuleMemberDeclaration(getWorkerFunction(requestFunctions)));
+        members.add(NodeParser.parseModuleMemberDeclaration(getReportFunction()));
+        members.add(NodeParser.parseModuleMemberDeclaration(
+                SampleRequestGenerator.getPercentileFunction("getLatencyPercentile")));
+
+        NodeList<ImportDeclarationNode> imports = createNodeList(
+                GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, GeneratorConstants.IO),
+                GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, GeneratorConstants.MODULE_TEST),
+                GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, "time"));
+        ModulePartNode modulePartNode = createModulePartNode(imports, createNodeList(members),
+                createIdentifierToken(""));
+        TextDocument textDocument = TextDocuments.from("");
+        SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
+        return Optional.of(syntaxTree.modifyWith(modulePartNode));
+    }
+
+    private static String getTestFunction() {
+
+        return "# The load test is disabled by default, as it runs for `loadTestDuration` seconds. Set `enable` to " +
+                "`true` and\n# run it with `bal test --groups load_test`.\n" +
+                "@test:Config {groups: [\"load_test\"], enable: false}\n" +
+                "function testLoad() {\n" +
+                "    decimal endTime = time:monotonicNow() + loadTestDuration;\n" +
+                "    future<[decimal[], int]>[] workers = [];\n" +
+                "    foreach int _ in 0 ..< loadTestConcurrency {\n" +
+                "        future<[decimal[], int]> worker = start runLoadTestWorker(endTime);\n" +
+                "        workers.push(worker);\n" +
+                "    }\n" +
+                "    decimal[] latencies = [];\n" +
+                "    int errorCount = 0;\n" +
+                "    foreach future<[decimal[], int]> worker in workers {\n" +
+                "        [decimal[], int] [workerLatencies, workerErrorCount] = wait worker;\n" +
+                "        latencies.push(...workerLatencies);\n" +
+                "        errorCount += workerErrorCount;\n" +
+                "    }\n" +
+                "    reportLoadTestResults(latencies, errorCount);\n" +
+                "}";
+    }
+
+    /**
+     * Returns the worker function which sends the requests one after the other until the end time, and returns the
+     * latency of each request and the number of failed requests.
+     */
+    private static String getWorkerFunction(List<String> requestFunctions) {
+
+        StringBuilder requests = new StringBuilder();
+        for (String requestFunction : requestFunctions) {
+            requests.append("        startTime = time:monotonicNow();\n")
+                    .append("        if !").append(requestFunction).append("() {\n")
+                    .append("            errorCount += 1;\n")
+                    .append("        }\n")
+                    .append("        latencies.push(time:monotonicNow() - startTime);\n");
+        }
+        if (requestFunctions.isEmpty()) {
+            requests.append("        break;\n");
+        }
+        return "isolated function runLoadTestWorker(decimal endTime) returns [decimal[], int] {\n" +
+                "    decimal[] latencies = [];\n" +
+                "    int errorCount = 0;\n" +
+                "    decimal startTime;\n" +
+                "    while time:monotonicNow() < endTime {\n" +
+                requests +
+                "    }\n" +
+                "    return [latencies, errorCount];\n" +
+                "}";
+    }
+
+    private static String getReportFunction() {
+
+        return "function reportLoadTestResults(decimal[] latencies, int errorCount) {\n" +
+                "    decimal[] sortedLatencies = latencies.sort();\n" +
+                "    int requestCount = sortedLatencies.length();\n" +
+                "    io:println(string `Load test: ${requestCount} requests, ${errorCount} errors, " +
+                "${loadTestConcurrency} workers, ${loadTestDuration} seconds`);\n" +
+                "    if requestCount == 0 {\n" +
+                "        return;\n" +
+                "    }\n" +
+                "    io:println(string `Throughput: ${<decimal>requestCount / loadTestDuration} requests/s`);\n" +
+                "    io:println(string `Latency (ms): p50 ${getLatencyPercentile(sortedLatencies, 50)}, " +
+                "p90 ${getLatencyPercentile(sortedLatencies, 90)}, p99 ${getLatencyPercentile(sortedLatencies, 99)}, " +
+                "max ${getLatencyPercentile(sortedLatencies, 100)}`);\n" +
+                "}";
+    }
+}
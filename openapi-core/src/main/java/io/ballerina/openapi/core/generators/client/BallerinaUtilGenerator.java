@@ -18,7 +18,6 @@
 package io.ballerina.openapi.core.generators.client;
 
 import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
-import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
 import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
 import io.ballerina.compiler.syntax.tree.EnumMemberNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
@@ -34,30 +33,16 @@ import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.RecordFieldNode;
 import io.ballerina.compiler.syntax.tree.RecordFieldWithDefaultValueNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
-import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
@@ -107,6 +92,8 @@ import static io.ballerina.openapi.core.GeneratorConstants.ENCODING;
 import static io.ballerina.openapi.core.GeneratorConstants.ENCODING_STYLE;
 import static io.ballerina.openapi.core.GeneratorConstants.EXPLODE;
 import static io.ballerina.openapi.core.GeneratorConstants.FORM;
+import static io.ballerina.openapi.core.GeneratorConstants.HTTP;
+import static io.ballerina.openapi.core.GeneratorConstants.IO;
 import static io.ballerina.openapi.core.GeneratorConstants.MIME;
 import static io.ballerina.openapi.core.GeneratorConstants.PIPE_DELIMITED;
 import static io.ballerina.openapi.core.GeneratorConstants.SPACE_DELIMITED;
@@ -125,7 +112,9 @@ public class BallerinaUtilGenerator {
     private boolean queryParamsFound = false;
     private boolean requestBodyEncodingFound = false;
     private boolean requestBodyMultipartFormDatafound = false;
-    private static final Logger LOGGER = LoggerFactory.getLogger(BallerinaUtilGenerator.class);
+    private boolean sseEventStreamFound = false;
+    private boolean ndjsonStreamFound = false;
+    private boolean streamingMultipartFound = false;
 
     private static final String CREATE_FORM_URLENCODED_REQUEST_BODY = "createFormURLEncodedRequestBody";
     private static final String GET_DEEP_OBJECT_STYLE_REQUEST = "getDeepObjectStyleRequest";
@@ -137,6 +126,10 @@ public class BallerinaUtilGenerator {
     private static final String GET_MAP_FOR_HEADERS = "getMapForHeaders";
     private static final String GET_SERIALIZED_RECORD_ARRAY = "getSerializedRecordArray";
     private static final String CREATE_MULTIPART_BODY_PARTS = "createBodyParts";
+    private static final String GET_SSE_EVENT_STREAM = "getSseEventStream";
+    private static final String GET_NDJSON_LINE_STREAM = "getNdjsonLineStream";
+    private static final String ADD_BODY_PART = "addBodyPart";
+    private static final String SIMPLE_BASIC_TYPE = "SimpleBasicType";
 
     /**
      * Set `queryParamsFound` flag to `true` when at least one query parameter found.
@@ -185,6 +178,34 @@ public class BallerinaUtilGenerator {
         this.requestBodyMultipartFormDatafound = flag;
     }
 
+    /**
+     * Set `sseEventStreamFound` flag to `true` when at least one function found with `text/event-stream` response.
+     *
+     * @param flag Function will be called only in the occasions where value needs to be set to `true`.
+     */
+    public void setSseEventStreamFound(boolean flag) {
+        this.sseEventStreamFound = flag;
+    }
+
+    /**
+     * Set `ndjsonStreamFound` flag to `true` when at least one function found with `application/x-ndjson` response.
+     *
+     * @param flag Function will be called only in the occasions where value needs to be set to `true`.
+     */
+    public void setNdjsonStreamFound(boolean flag) {
+        this.ndjsonStreamFound = flag;
+    }
+
+    /**
+     * Set `streamingMultipartFound` flag to `true` when at least one function found with multipart form-data request
+     * body whose binary parts are streamed.
+     *
+     * @param flag Function will be called only in the occasions where value needs to be set to `true`.
+     */
+    public void setStreamingMultipartFound(boolean flag) {
+        this.streamingMultipartFound = flag;
+    }
+
     /**
      * Generates util file syntax tree.
      *
@@ -214,40 +235,41 @@ public class BallerinaUtilGenerator {
         if (requestBodyMultipartFormDatafound) {
             functionNameList.add(CREATE_MULTIPART_BODY_PARTS);
         }
+        // Dependencies of the streaming helpers, such as the stream implementor classes, are resolved by the registry
+        if (streamingMultipartFound) {
+            functionNameList.add(ADD_BODY_PART);
+        }
+        if (ndjsonStreamFound) {
+            functionNameList.add(GET_NDJSON_LINE_STREAM);
+        }
+        if (sseEventStreamFound) {
+            functionNameList.add(GET_SSE_EVENT_STREAM);
+        }
 
         List<ModuleMemberDeclarationNode> memberDeclarationNodes = new ArrayList<>();
         getUtilTypeDeclarationNodes(memberDeclarationNodes);
 
-        Path path = getResourceFilePath();
-
-        Project project = ProjectLoader.loadProject(path);
-        Package currentPackage = project.currentPackage();
-        DocumentId docId = currentPackage.getDefaultModule().documentIds().iterator().next();
-        SyntaxTree syntaxTree = currentPackage.getDefaultModule().document(docId).syntaxTree();
-
-        ModulePartNode modulePartNode = syntaxTree.rootNode();
-        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
-        for (ModuleMemberDeclarationNode node : members) {
-            if (node.kind().equals(SyntaxKind.FUNCTION_DEFINITION)) {
-                for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                    if (childNodeEntry.name().equals("functionName")) {
-                        if (functionNameList.contains(childNodeEntry.node().get().toString())) {
-                            memberDeclarationNodes.add(node);
-                        }
-                    }
-                }
-            }
-        }
+        // Types generated by `getUtilTypeDeclarationNodes` are not taken from the template
+        UtilTemplateRegistry templateRegistry = UtilTemplateRegistry.getInstance();
+        memberDeclarationNodes.addAll(templateRegistry.getMembers(functionNameList,
+                Set.of(ENCODING, SIMPLE_BASIC_TYPE)));
 
         List<ImportDeclarationNode> imports = new ArrayList<>();
-        if (functionNameList.contains(GET_ENCODED_URI)) {
+        if (functionNameList.contains(GET_ENCODED_URI) || functionNameList.stream()
+                .anyMatch(functionName -> templateRegistry.getDependencies(functionName).contains(GET_ENCODED_URI))) {
             ImportDeclarationNode importForUrl = GeneratorUtils.getImportDeclarationNode(BALLERINA, URL);
             imports.add(importForUrl);
         }
-        if (requestBodyMultipartFormDatafound) {
+        if (requestBodyMultipartFormDatafound || streamingMultipartFound) {
             ImportDeclarationNode importMime = GeneratorUtils.getImportDeclarationNode(BALLERINA, MIME);
             imports.add(importMime);
         }
+        if (sseEventStreamFound || ndjsonStreamFound) {
+            imports.add(GeneratorUtils.getImportDeclarationNode(BALLERINA, HTTP));
+        }
+        if (sseEventStreamFound || ndjsonStreamFound || streamingMultipartFound) {
+            imports.add(GeneratorUtils.getImportDeclarationNode(BALLERINA, IO));
+        }
 
         NodeList<ImportDeclarationNode> importsList = createNodeList(imports);
         ModulePartNode utilModulePartNode =
@@ -263,7 +285,8 @@ public class BallerinaUtilGenerator {
      * @param memberDeclarationNodes {@link ModuleMemberDeclarationNode}
      */
     private void getUtilTypeDeclarationNodes(List<ModuleMemberDeclarationNode> memberDeclarationNodes) {
-        if (requestBodyEncodingFound || queryParamsFound || headersFound || requestBodyMultipartFormDatafound) {
+        if (requestBodyEncodingFound || queryParamsFound || headersFound || requestBodyMultipartFormDatafound ||
+                streamingMultipartFound) {
             memberDeclarationNodes.add(getSimpleBasicTypeDefinitionNode());
         }
         if (requestBodyEncodingFound || queryParamsFound || requestBodyMultipartFormDatafound) {
@@ -385,7 +408,7 @@ public class BallerinaUtilGenerator {
         TypeDescriptorNode typeDescriptorNode = createSingletonTypeDescriptorNode(
                 createSimpleNameReferenceNode(createIdentifierToken("string|boolean|int|float|decimal")));
         return createTypeDefinitionNode(null, null,
-                createToken(TYPE_KEYWORD), createIdentifierToken("SimpleBasicType"), typeDescriptorNode,
+                createToken(TYPE_KEYWORD), createIdentifierToken(SIMPLE_BASIC_TYPE), typeDescriptorNode,
                 createToken(SEMICOLON_TOKEN));
     }
 
@@ -411,32 +434,4 @@ public class BallerinaUtilGenerator {
                 null, createNodeList(createToken(FINAL_KEYWORD)), bindingPatternNode,
                 createToken(EQUAL_TOKEN), expressionNode, createToken(SEMICOLON_TOKEN));
     }
-
-    /**
-     * Gets the path of the utils_openapi.bal template at the time of execution.
-     *
-     * @return Path to utils_openapi.bal file in the temporary directory created
-     * @throws IOException When failed to get the templates/utils_openapi.bal file from resources
-     */
-    private Path getResourceFilePath() throws IOException {
-        Path path = null;
-        ClassLoader classLoader = getClass().getClassLoader();
-        InputStream inputStream = classLoader.getResourceAsStream("templates/utils_openapi.bal");
-        if (inputStream != null) {
-            String clientSyntaxTreeString = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
-            Path tmpDir = Files.createTempDirectory(".util-tmp" + System.nanoTime());
-            path = tmpDir.resolve("utils.bal");
-            try (PrintWriter writer = new PrintWriter(path.toString(), StandardCharsets.UTF_8)) {
-                writer.print(clientSyntaxTreeString);
-            }
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                try {
-                    FileUtils.deleteDirectory(tmpDir.toFile());
-                } catch (IOException ex) {
-                    LOGGER.error("Unable to delete the temporary directory : " + tmpDir, ex);
-                }
-            }));
-        }
-        return path;
-    }
 }
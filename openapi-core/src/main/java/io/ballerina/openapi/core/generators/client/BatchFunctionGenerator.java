@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client;
+
+import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
+import io.ballerina.compiler.syntax.tree.FunctionBodyNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
+import io.ballerina.compiler.syntax.tree.IncludedRecordParameterNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
+import io.ballerina.compiler.syntax.tree.ResourcePathParameterNode;
+import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBasicLiteralNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createDefaultableParameterNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionBodyBlockNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionDefinitionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionSignatureNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMarkdownDocumentationNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMetadataNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRequiredParameterNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.FUNCTION_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.ISOLATED_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.NUMERIC_LITERAL;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OBJECT_METHOD_DEFINITION;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.REMOTE_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.RETURNS_KEYWORD;
+
+/**
+ * This class is used to generate the batch companion method of a client method. The batch method sends one request per
+ * given argument tuple with a bounded number of concurrent requests and returns the results in the input order.
+ * <pre>
+ *     remote isolated function getPetBatch([int][] arguments, int maxConcurrency = 10) returns (Pet|error)[] {
+ *         (Pet|error)[] results = [];
+ *         int batchSize = maxConcurrency < 1 ? 1 : maxConcurrency;
+ *         int startIndex = 0;
+ *         while startIndex < arguments.length() {
+ *             int endIndex = int:min(startIndex + batchSize, arguments.length());
+ *             future<Pet|error>[] futures = [];
+ *             foreach int index in startIndex ..< endIndex {
+ *                 final readonly & [int] argument = arguments[index].cloneReadOnly();
+ *                 future<Pet|error> result = start self->getPet(argument[0]);
+ *                 futures.push(result);
+ *             }
+ *             foreach future<Pet|error> result in futures {
+ *                 results.push(wait result);
+ *             }
+ *             startIndex = endIndex;
+ *         }
+ *         return results;
+ *     }
+ * </pre>
+ *
+ * @since 1.9.0
+ */
+public class BatchFunctionGenerator {
+
+    private static final String BATCH = "Batch";
+    private static final String ARGUMENTS = "arguments";
+    private static final String MAX_CONCURRENCY = "maxConcurrency";
+    private static final String DEFAULT_MAX_CONCURRENCY = "10";
+
+    private final boolean resourceMode;
+
+    public BatchFunctionGenerator(boolean resourceMode) {
+
+        this.resourceMode = resourceMode;
+    }
+
+    /**
+     * Generate the batch companion method for the given client method.
+     *
+     * @param clientMethod generated client method
+     * @param operationId  operation id of the client method, used as the prefix of the batch method name
+     * @return batch method, or empty when the client method does not take any argument or takes rest arguments
+     */
+    public Optional<FunctionDefinitionNode> getBatchFunctionDefinitionNode(FunctionDefinitionNode clientMethod,
+                                                                          String operationId) {
+
+        List<String> argumentTypes = new ArrayList<>();
+        // Path parameters of the resource methods are passed through the resource access path
+        List<String> pathSegments = new ArrayList<>();
+        if (resourceMode) {
+            for (Node pathNode : clientMethod.relativeResourcePath()) {
+                if (pathNode.kind() == SyntaxKind.RESOURCE_PATH_REST_PARAM) {
+                    return Optional.empty();
+                } else if (pathNode.kind() == SyntaxKind.RESOURCE_PATH_SEGMENT_PARAM) {
+                    argumentTypes.add(((ResourcePathParameterNode) pathNode).typeDescriptor().toSourceCode().trim());
+                    pathSegments.add("[argument[" + (argumentTypes.size() - 1) + "]]");
+                } else if (pathNode.kind() != SyntaxKind.SLASH_TOKEN) {
+                    pathSegments.add(pathNode.toSourceCode().trim());
+                }
+            }
+        }
+        int pathArgumentCount = argumentTypes.size();
+        for (ParameterNode parameterNode : clientMethod.functionSignature().parameters()) {
+            if (parameterNode instanceof RequiredParameterNode) {
+                argumentTypes.add(((RequiredParameterNode) parameterNode).typeName().toSourceCode().trim());
+            } else if (parameterNode instanceof DefaultableParameterNode) {
+                argumentTypes.add(((DefaultableParameterNode) parameterNode).typeName().toSourceCode().trim());
+            } else if (parameterNode instanceof IncludedRecordParameterNode) {
+                argumentTypes.add(((IncludedRecordParameterNode) parameterNode).typeName().toSourceCode().trim());
+            } else {
+                return Optional.empty();
+            }
+        }
+        Optional<ReturnTypeDescriptorNode> returnTypeDesc = clientMethod.functionSignature().returnTypeDesc();
+        if (argumentTypes.isEmpty() || returnTypeDesc.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String tupleType = "[" + String.join(", ", argumentTypes) + "]";
+        String resultType = returnTypeDesc.get().type().toSourceCode().trim();
+        List<String> callArguments = new ArrayList<>();
+        for (int i = pathArgumentCount; i < argumentTypes.size(); i++) {
+            callArguments.add("argument[" + i + "]");
+        }
+        String methodCall;
+        if (resourceMode) {
+            String resourcePath = pathSegments.isEmpty() || pathSegments.get(0).equals(".") ?
+                    "/" : "/" + String.join("/", pathSegments);
+            methodCall = "self->" + resourcePath + "." + clientMethod.functionName().text().trim() + "(" +
+                    String.join(", ", callArguments) + ")";
+        } else {
+            methodCall = "self->" + clientMethod.functionName().text().trim() + "(" +
+                    String.join(", ", callArguments) + ")";
+        }
+
+        String batchFunctionName = operationId + BATCH;
+        FunctionSignatureNode functionSignatureNode = getBatchFunctionSignatureNode(tupleType, resultType);
+        FunctionBodyNode functionBodyNode = getBatchFunctionBodyNode(tupleType, resultType, methodCall);
+        NodeList<Token> qualifierList = createNodeList(createToken(REMOTE_KEYWORD), createToken(ISOLATED_KEYWORD));
+        return Optional.of(createFunctionDefinitionNode(OBJECT_METHOD_DEFINITION,
+                getBatchFunctionDocs(operationId), qualifierList, createToken(FUNCTION_KEYWORD),
+                createIdentifierToken(batchFunctionName), createEmptyNodeList(), functionSignatureNode,
+                functionBodyNode));
+    }
+
+    /**
+     * Generate the signature of the batch method.
+     * <pre>
+     *     ([int][] arguments, int maxConcurrency = 10) returns (Pet|error)[]
+     * </pre>
+     */
+    private FunctionSignatureNode getBatchFunctionSignatureNode(String tupleType, String resultType) {
+
+        List<Node> parameterList = new ArrayList<>();
+        parameterList.add(createRequiredParameterNode(createEmptyNodeList(),
+                NodeParser.parseTypeDescriptor(tupleType + "[]"), createIdentifierToken(ARGUMENTS)));
+        parameterList.add(createToken(COMMA_TOKEN));
+        parameterList.add(createDefaultableParameterNode(createEmptyNodeList(),
+                NodeParser.parseTypeDescriptor("int"), createIdentifierToken(MAX_CONCURRENCY),
+                createToken(EQUAL_TOKEN),
+                createBasicLiteralNode(NUMERIC_LITERAL, createIdentifierToken(DEFAULT_MAX_CONCURRENCY))));
+        TypeDescriptorNode returnType = NodeParser.parseTypeDescriptor("(" + resultType + ")[]");
+        ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
+                createToken(RETURNS_KEYWORD), createEmptyNodeList(), returnType);
+        return createFunctionSignatureNode(createToken(OPEN_PAREN_TOKEN), createSeparatedNodeList(parameterList),
+                createToken(CLOSE_PAREN_TOKEN), returnTypeDescriptorNode);
+    }
+
+    /**
+     * Generate the body of the batch method. The requests are sent in windows of `maxConcurrency` requests and each
+     * window is awaited before the next one starts, so that the results keep the order of the arguments.
+     */
+    private FunctionBodyNode getBatchFunctionBodyNode(String tupleType, String resultType, String methodCall) {
+
+        List<StatementNode> statements = new ArrayList<>();
+        statements.add(NodeParser.parseStatement("(" + resultType + ")[] results = [];"));
+        statements.add(NodeParser.parseStatement("int batchSize = " + MAX_CONCURRENCY + " < 1 ? 1 : " +
+                MAX_CONCURRENCY + ";"));
+        statements.add(NodeParser.parseStatement("int startIndex = 0;"));
+        statements.add(NodeParser.parseStatement("while startIndex < " + ARGUMENTS + ".length() { " +
+                "int endIndex = int:min(startIndex + batchSize, " + ARGUMENTS + ".length()); " +
+                "future<" + resultType + ">[] futures = []; " +
+                "foreach int index in startIndex ..< endIndex { " +
+                "final readonly & " + tupleType + " argument = " + ARGUMENTS + "[index].cloneReadOnly(); " +
+                "future<" + resultType + "> result = start " + methodCall + "; " +
+                "futures.push(result); } " +
+                "foreach future<" + resultType + "> result in futures { results.push(wait result); } " +
+                "startIndex = endIndex; }"));
+        statements.add(NodeParser.parseStatement("return results;"));
+        return createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN), null, createNodeList(statements),
+                createToken(CLOSE_BRACE_TOKEN), null);
+    }
+
+    private MetadataNode getBatchFunctionDocs(String operationId) {
+
+        List<Node> docs = new ArrayList<>(DocCommentsGenerator.createAPIDescriptionDoc(
+                "Sends the `" + operationId + "` requests concurrently for the given arguments", true));
+        docs.add(DocCommentsGenerator.createAPIParamDoc(ARGUMENTS,
+                "Arguments of each request in the order of the parameters of `" + operationId + "`"));
+        docs.add(DocCommentsGenerator.createAPIParamDoc(MAX_CONCURRENCY,
+                "Maximum number of requests sent concurrently"));
+        docs.add(DocCommentsGenerator.createAPIParamDoc("return",
+                "Results in the order of the arguments. A failed request is returned as an `error` member"));
+        return createMetadataNode(createMarkdownDocumentationNode(createNodeList(docs)), createEmptyNodeList());
+    }
+}
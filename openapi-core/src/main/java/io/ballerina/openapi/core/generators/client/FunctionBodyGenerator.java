@@ -44,6 +44,7 @@ import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.mime.MimeType;
+import io.ballerina.openapi.core.generators.client.mime.StreamingMimeType;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -53,6 +54,7 @@ import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 
 import java.util.ArrayList;
@@ -61,6 +63,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -105,14 +108,18 @@ import static io.ballerina.openapi.core.GeneratorConstants.DELETE;
 import static io.ballerina.openapi.core.GeneratorConstants.ENCODING;
 import static io.ballerina.openapi.core.GeneratorConstants.OPTIONAL_ERROR;
 import static io.ballerina.openapi.core.GeneratorConstants.EXECUTE;
+import static io.ballerina.openapi.core.GeneratorConstants.GET;
 import static io.ballerina.openapi.core.GeneratorConstants.HEAD;
 import static io.ballerina.openapi.core.GeneratorConstants.HEADER;
 import static io.ballerina.openapi.core.GeneratorConstants.HEADER_VALUES;
 import static io.ballerina.openapi.core.GeneratorConstants.HTTP_HEADERS;
 import static io.ballerina.openapi.core.GeneratorConstants.HTTP_REQUEST;
+import static io.ballerina.openapi.core.GeneratorConstants.HTTP_RESPONSE;
+import static io.ballerina.openapi.core.GeneratorConstants.JSON;
 import static io.ballerina.openapi.core.GeneratorConstants.NEW;
 import static io.ballerina.openapi.core.GeneratorConstants.NILLABLE;
 import static io.ballerina.openapi.core.GeneratorConstants.PATCH;
+import static io.ballerina.openapi.core.GeneratorConstants.PAYLOAD;
 import static io.ballerina.openapi.core.GeneratorConstants.POST;
 import static io.ballerina.openapi.core.GeneratorConstants.PUT;
 import static io.ballerina.openapi.core.GeneratorConstants.QUERY;
@@ -122,6 +129,7 @@ import static io.ballerina.openapi.core.GeneratorConstants.RESOURCE_PATH;
 import static io.ballerina.openapi.core.GeneratorConstants.RESPONSE;
 import static io.ballerina.openapi.core.GeneratorConstants.RETURN;
 import static io.ballerina.openapi.core.GeneratorConstants.SELF;
+import static io.ballerina.openapi.core.GeneratorConstants.X_BALLERINA_VALIDATION;
 import static io.ballerina.openapi.core.GeneratorUtils.generateBodyStatementForComplexUrl;
 import static io.ballerina.openapi.core.GeneratorUtils.getOpenAPIType;
 import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
@@ -144,6 +152,9 @@ public class FunctionBodyGenerator {
     private final BallerinaUtilGenerator ballerinaUtilGenerator;
     private final BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator;
     private final boolean resourceMode;
+    private StreamingMimeType streamingMimeType;
+    private boolean skipValidation;
+    private boolean validationSkipped;
 
     public List<ImportDeclarationNode> getImports() {
         return imports;
@@ -153,6 +164,16 @@ public class FunctionBodyGenerator {
         this.imports = imports;
     }
 
+    /**
+     * Skip the constraint validation of the operation as it is marked with `x-ballerina-validation: false`, without
+     * adding the extension to the OpenAPI definition shared by the other generators.
+     *
+     * @param validationSkipped - whether the validation is skipped for the operation
+     */
+    public void setValidationSkipped(boolean validationSkipped) {
+        this.validationSkipped = validationSkipped;
+    }
+
     public FunctionBodyGenerator(List<ImportDeclarationNode> imports, List<TypeDefinitionNode> typeDefinitionNodeList,
                                  OpenAPI openAPI, BallerinaTypesGenerator ballerinaSchemaGenerator,
                                  BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator,
@@ -200,7 +221,13 @@ public class FunctionBodyGenerator {
         String method = operation.getKey().name().trim().toLowerCase(Locale.ENGLISH);
         // This return type for target data type binding.
         String rType = functionReturnType.getReturnType(operation.getValue(), true);
-        String returnType = returnTypeForTargetTypeField(rType);
+        // Streamed responses are read as `http:Response` and converted to a stream instead of data binding.
+        streamingMimeType = getStreamingMimeType(operation.getValue());
+        String returnType = streamingMimeType != null ? HTTP_RESPONSE : returnTypeForTargetTypeField(rType);
+        // Read operations marked with `x-ballerina-validation: false` bind the payload without constraint validation.
+        skipValidation = method.equals(GET) && streamingMimeType == null &&
+                (validationSkipped || isValidationSkipped(operation.getValue())) &&
+                isJsonDataBinding(operation.getValue(), returnType);
         // Statement Generator for requestBody
         if (operation.getValue().getRequestBody() != null) {
             RequestBody requestBody = operation.getValue().getRequestBody();
@@ -215,6 +242,55 @@ public class FunctionBodyGenerator {
                 createToken(CLOSE_BRACE_TOKEN), null);
     }
 
+    /**
+     * Provides the streaming mime type when the success response of the operation is delivered as a stream of
+     * events or lines.
+     *
+     * @param operation Current operation
+     * @return {@link StreamingMimeType} or null when the response is not streamed
+     */
+    private StreamingMimeType getStreamingMimeType(Operation operation) throws BallerinaOpenApiException {
+
+        Optional<Map.Entry<String, MediaType>> media = GeneratorUtils.getStreamingResponse(operation)
+                .flatMap(GeneratorUtils::getStreamingMediaType);
+        if (media.isEmpty()) {
+            return null;
+        }
+        return new MimeFactory().getStreamingMimeType(media.get().getKey(), ballerinaUtilGenerator);
+    }
+
+    /**
+     * Check whether the constraint validation is disabled for the operation using `x-ballerina-validation: false`.
+     */
+    private static boolean isValidationSkipped(Operation operation) {
+
+        Map<String, Object> extensions = operation.getExtensions();
+        if (extensions == null || !extensions.containsKey(X_BALLERINA_VALIDATION)) {
+            return false;
+        }
+        return String.valueOf(extensions.get(X_BALLERINA_VALIDATION)).trim().equalsIgnoreCase("false");
+    }
+
+    /**
+     * Check whether the success response of the operation is a JSON payload bound to a generated type.
+     */
+    private static boolean isJsonDataBinding(Operation operation, String returnType) {
+
+        if (returnType.equals(OPTIONAL_ERROR) || returnType.endsWith(NILLABLE) || returnType.equals(JSON) ||
+                returnType.equals(HTTP_RESPONSE) || operation.getResponses() == null) {
+            return false;
+        }
+        for (Map.Entry<String, ApiResponse> response : operation.getResponses().entrySet()) {
+            Content content = response.getValue().getContent();
+            if (response.getKey().startsWith("2") && content != null && !content.isEmpty()) {
+                // Currently support for first media type
+                String mediaType = content.keySet().iterator().next().trim();
+                return mediaType.matches(".*/json") || mediaType.matches("application/.*\\+json");
+            }
+        }
+        return false;
+    }
+
     /**
      * Generate statements for query parameters and headers.
      */
@@ -679,18 +755,26 @@ public class FunctionBodyGenerator {
      * @param returnType      - Return type
      * @param returnStatement - Request statement
      */
-    private static void generateReturnStatement(List<StatementNode> statementsList, String returnType,
-                                                String returnStatement) {
+    private void generateReturnStatement(List<StatementNode> statementsList, String returnType,
+                                         String returnStatement) {
         Token returnKeyWord = createIdentifierToken(RETURN);
         SimpleNameReferenceNode returns;
         if (returnType.equals(OPTIONAL_ERROR)) {
             //to ignore the check keyword
             returnStatement = returnStatement.substring(6);
             returns = createSimpleNameReferenceNode(createIdentifierToken(returnStatement));
+        } else if (skipValidation) {
+            // The payload is bound to `json` which has no constraints and converted to the return type afterwards.
+            statementsList.add(GeneratorUtils.getSimpleStatement(JSON, PAYLOAD, returnStatement));
+            returns = createSimpleNameReferenceNode(createIdentifierToken(PAYLOAD + ".fromJsonWithType()"));
         } else {
             VariableDeclarationNode requestStatementNode =
                     GeneratorUtils.getSimpleStatement(returnType, RESPONSE, returnStatement);
             statementsList.add(requestStatementNode);
+            if (streamingMimeType != null) {
+                streamingMimeType.setStreamingResponse(statementsList, RESPONSE);
+                return;
+            }
             returns = createSimpleNameReferenceNode(createIdentifierToken(RESPONSE));
         }
         ReturnStatementNode returnStatementNode = createReturnStatementNode(returnKeyWord, returns,
@@ -24,6 +24,7 @@ import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.Content;
@@ -38,6 +39,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
@@ -48,8 +50,14 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.PIPE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.openapi.core.GeneratorConstants.DEFAULT_RETURN;
 import static io.ballerina.openapi.core.GeneratorConstants.ERROR;
+import static io.ballerina.openapi.core.GeneratorConstants.HTTP_RESPONSE;
+import static io.ballerina.openapi.core.GeneratorConstants.JSON;
 import static io.ballerina.openapi.core.GeneratorConstants.OPTIONAL_ERROR;
 import static io.ballerina.openapi.core.GeneratorConstants.NILLABLE;
+import static io.ballerina.openapi.core.GeneratorConstants.READONLY;
+import static io.ballerina.openapi.core.GeneratorConstants.SQUARE_BRACKETS;
+import static io.ballerina.openapi.core.GeneratorConstants.SSE_EVENT;
+import static io.ballerina.openapi.core.GeneratorConstants.TEXT_EVENT_STREAM;
 import static io.ballerina.openapi.core.GeneratorUtils.convertOpenAPITypeToBallerina;
 import static io.ballerina.openapi.core.GeneratorUtils.extractReferenceType;
 import static io.ballerina.openapi.core.GeneratorUtils.getOpenAPIType;
@@ -93,6 +101,14 @@ public class FunctionReturnTypeGenerator {
         //TODO: Handle multiple media-type
         Set<String> returnTypes = new HashSet<>();
         boolean noContentResponseFound = false;
+        // The payload is streamed by the function body when any success media type is streamed
+        Optional<ApiResponse> streamingResponse = GeneratorUtils.getStreamingResponse(operation);
+        if (streamingResponse.isPresent()) {
+            Map.Entry<String, MediaType> media = GeneratorUtils.getStreamingMediaType(streamingResponse.get())
+                    .orElseThrow();
+            return getStreamDataType(operation, isSignature, streamingResponse.get(), media) +
+                    PIPE_TOKEN.stringValue() + ERROR;
+        }
         if (operation.getResponses() != null) {
             ApiResponses responses = operation.getResponses();
             for (Map.Entry<String, ApiResponse> entry : responses.entrySet()) {
@@ -111,7 +127,7 @@ public class FunctionReturnTypeGenerator {
                             } else {
                                 type = GeneratorUtils.getBallerinaMediaType(media.getKey().trim(), false);
                             }
-                            returnTypes.add(type);
+                            returnTypes.add(getReadonlyType(type));
                             // Currently support for first media type
                             break;
                         }
@@ -141,6 +157,18 @@ public class FunctionReturnTypeGenerator {
         }
     }
 
+    /**
+     * Make the array return types immutable when the records are generated as readonly types, so that the data
+     * binding of the client produces a value which can be shared without copying.
+     * -- ex: {@code readonly & Pet[]}
+     */
+    private String getReadonlyType(String type) {
+        if (GeneratorMetaData.getInstance().isReadonlyTypes() && type.endsWith(SQUARE_BRACKETS)) {
+            return READONLY + " & " + type;
+        }
+        return type;
+    }
+
     /**
      * Get return data type by traversing OAS schemas.
      */
@@ -183,6 +211,31 @@ public class FunctionReturnTypeGenerator {
         return type;
     }
 
+    /**
+     * Get the return data type for the media types that are consumed as a stream. Server-Sent Events are returned as
+     * `SseEvent` records while each line of a NDJSON payload is bound to the item schema.
+     * -- ex: {@code stream<Pet, error?>}
+     */
+    private String getStreamDataType(Operation operation, boolean isSignature, ApiResponse response,
+                                     Map.Entry<String, MediaType> media) throws BallerinaOpenApiException {
+
+        String itemType = JSON;
+        Schema<?> itemSchema = media.getValue().getSchema();
+        if (media.getKey().trim().equals(TEXT_EVENT_STREAM)) {
+            itemType = SSE_EVENT;
+        } else if (itemSchema != null) {
+            // Some definitions describe the whole payload as an array, but each line carries a single item.
+            if (isArraySchema(itemSchema) && itemSchema.getItems() != null) {
+                itemSchema = itemSchema.getItems();
+            }
+            String schemaType = getDataType(operation, isSignature, response, media, "", itemSchema);
+            if (!schemaType.isBlank() && !schemaType.equals(HTTP_RESPONSE)) {
+                itemType = schemaType;
+            }
+        }
+        return String.format("stream<%s, error?>", itemType);
+    }
+
     /**
      * Get the return data type according to the OAS ArraySchema.
      */
@@ -280,15 +333,21 @@ public class FunctionReturnTypeGenerator {
             if (properties.isEmpty()) {
                 type = GeneratorUtils.getBallerinaMediaType(media.getKey().trim(), false);
             } else {
-                List<Node> returnTypeDocs = new ArrayList<>();
-                String description = operation.getResponses().entrySet().iterator().next().getValue().getDescription();
-                if (description != null) {
-                    returnTypeDocs.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
-                            description, false));
+                // Structurally identical inline schemas of other operations are bound to the same type
+                String sharedType = ballerinaSchemaGenerator.getInlineSchemaRegistry().getTypeName(objectSchema, type);
+                if (sharedType.equals(type)) {
+                    List<Node> returnTypeDocs = new ArrayList<>();
+                    String description =
+                            operation.getResponses().entrySet().iterator().next().getValue().getDescription();
+                    if (description != null) {
+                        returnTypeDocs.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
+                                description, false));
+                    }
+                    TypeDefinitionNode recordNode = ballerinaSchemaGenerator.getTypeDefinitionNode
+                            (objectSchema, type, returnTypeDocs);
+                    GeneratorUtils.updateTypeDefNodeList(type, recordNode, typeDefinitionNodeList);
                 }
-                TypeDefinitionNode recordNode = ballerinaSchemaGenerator.getTypeDefinitionNode
-                        (objectSchema, type, returnTypeDocs);
-                GeneratorUtils.updateTypeDefNodeList(type, recordNode, typeDefinitionNodeList);
+                type = sharedType;
             }
         } else {
             type = GeneratorUtils.getBallerinaMediaType(media.getKey().trim(), false);
@@ -312,15 +371,21 @@ public class FunctionReturnTypeGenerator {
             if (properties.isEmpty()) {
                 type = GeneratorUtils.getBallerinaMediaType(media.getKey().trim(), false);
             } else {
-                List<Node> schemaDocs = new ArrayList<>();
-                String description = operation.getResponses().entrySet().iterator().next().getValue().getDescription();
-                if (description != null) {
-                    schemaDocs.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
-                            description, false));
+                // Structurally identical inline schemas of other operations are bound to the same type
+                String sharedType = ballerinaSchemaGenerator.getInlineSchemaRegistry().getTypeName(mapSchema, type);
+                if (sharedType.equals(type)) {
+                    List<Node> schemaDocs = new ArrayList<>();
+                    String description =
+                            operation.getResponses().entrySet().iterator().next().getValue().getDescription();
+                    if (description != null) {
+                        schemaDocs.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
+                                description, false));
+                    }
+                    TypeDefinitionNode recordNode = ballerinaSchemaGenerator.getTypeDefinitionNode
+                            (mapSchema, type, schemaDocs);
+                    GeneratorUtils.updateTypeDefNodeList(type, recordNode, typeDefinitionNodeList);
                 }
-                TypeDefinitionNode recordNode = ballerinaSchemaGenerator.getTypeDefinitionNode
-                        (mapSchema, type, schemaDocs);
-                GeneratorUtils.updateTypeDefNodeList(type, recordNode, typeDefinitionNodeList);
+                type = sharedType;
             }
         } else {
             type = GeneratorUtils.getBallerinaMediaType(media.getKey().trim(), false);
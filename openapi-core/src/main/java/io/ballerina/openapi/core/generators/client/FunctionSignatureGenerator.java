@@ -33,7 +33,6 @@ import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
 import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
-import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
@@ -379,7 +378,7 @@ public class FunctionSignatureGenerator {
             Schema schema = openAPI.getComponents().getSchemas().get(type.trim());
             TypeDefinitionNode typeDefinitionNode = ballerinaSchemaGenerator.getTypeDefinitionNode
                     (schema, type, new ArrayList<>());
-            if (typeDefinitionNode.typeDescriptor().kind().equals(SyntaxKind.RECORD_TYPE_DESC)) {
+            if (GeneratorUtils.getRecordTypeDescriptor(typeDefinitionNode).isPresent()) {
                 throw new BallerinaOpenApiException(String.format(
                         "Path parameter: '%s' is invalid. Ballerina does not support object type path parameters.",
                         parameter.getName()));
@@ -597,10 +596,15 @@ public class FunctionSignatureGenerator {
         if (objectSchema.getProperties() == null || objectSchema.getProperties().isEmpty()) {
             return EMPTY_RECORD;
         }
-        TypeDefinitionNode record =
-                ballerinaSchemaGenerator.getTypeDefinitionNode(objectSchema, recordName, new ArrayList<>());
-        GeneratorUtils.updateTypeDefNodeList(recordName, record, typeDefinitionNodeList);
-        return recordName;
+        // Structurally identical inline schemas of other operations are bound to the same type
+        String sharedRecordName = ballerinaSchemaGenerator.getInlineSchemaRegistry().getTypeName(objectSchema,
+                recordName);
+        if (sharedRecordName.equals(recordName)) {
+            TypeDefinitionNode record =
+                    ballerinaSchemaGenerator.getTypeDefinitionNode(objectSchema, recordName, new ArrayList<>());
+            GeneratorUtils.updateTypeDefNodeList(recordName, record, typeDefinitionNodeList);
+        }
+        return sharedRecordName;
     }
 
     /**
@@ -22,10 +22,13 @@ import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.mime.CustomType;
+import io.ballerina.openapi.core.generators.client.mime.EventStreamType;
 import io.ballerina.openapi.core.generators.client.mime.JsonType;
 import io.ballerina.openapi.core.generators.client.mime.MimeType;
 import io.ballerina.openapi.core.generators.client.mime.MultipartFormData;
+import io.ballerina.openapi.core.generators.client.mime.NdjsonType;
 import io.ballerina.openapi.core.generators.client.mime.OctetStreamType;
+import io.ballerina.openapi.core.generators.client.mime.StreamingMimeType;
 import io.ballerina.openapi.core.generators.client.mime.UrlEncodedType;
 import io.ballerina.openapi.core.generators.client.mime.XmlType;
 import io.swagger.v3.oas.models.media.MediaType;
@@ -34,8 +37,10 @@ import io.swagger.v3.oas.models.media.Schema;
 import java.util.List;
 import java.util.Map;
 
+import static io.ballerina.openapi.core.GeneratorConstants.APPLICATION_NDJSON;
 import static io.ballerina.openapi.core.GeneratorConstants.IMAGE;
 import static io.ballerina.openapi.core.GeneratorConstants.PDF;
+import static io.ballerina.openapi.core.GeneratorConstants.TEXT_EVENT_STREAM;
 import static io.ballerina.openapi.core.GeneratorConstants.TEXT_PREFIX;
 import static io.ballerina.openapi.core.GeneratorConstants.UNSUPPORTED_MEDIA_ERROR;
 import static io.ballerina.openapi.core.GeneratorConstants.VENDOR_SPECIFIC_TYPE;
@@ -90,4 +95,24 @@ public class MimeFactory {
             return new CustomType();
         }
     }
+
+    /**
+     * Get the relevant streaming mime object for a response media type.
+     *
+     * @param mediaType              - Response media type
+     * @param ballerinaUtilGenerator - Ballerina util generator
+     * @return streaming mimetype
+     * @throws BallerinaOpenApiException throws an exception when the media type can not be streamed.
+     */
+    public StreamingMimeType getStreamingMimeType(String mediaType, BallerinaUtilGenerator ballerinaUtilGenerator)
+            throws BallerinaOpenApiException {
+
+        String trimmedMediaType = mediaType.trim();
+        if (trimmedMediaType.equals(TEXT_EVENT_STREAM)) {
+            return new EventStreamType(ballerinaUtilGenerator);
+        } else if (trimmedMediaType.equals(APPLICATION_NDJSON)) {
+            return new NdjsonType(ballerinaUtilGenerator);
+        }
+        throw new BallerinaOpenApiException(String.format(UNSUPPORTED_MEDIA_ERROR, mediaType));
+    }
 }
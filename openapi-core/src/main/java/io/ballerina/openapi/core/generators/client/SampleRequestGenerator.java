@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client;
+
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
+import io.ballerina.compiler.syntax.tree.ResourcePathParameterNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.openapi.core.GeneratorConstants;
+import io.ballerina.openapi.core.GeneratorUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.ballerina.openapi.core.GeneratorConstants.API_KEY;
+import static io.ballerina.openapi.core.GeneratorConstants.BASIC;
+import static io.ballerina.openapi.core.GeneratorConstants.BEARER;
+
+/**
+ * This class builds the sample requests of the generated client which are sent by the generated load tests and
+ * benchmarks. The requests use placeholder values for the arguments of a simple type, and the methods with a
+ * required argument of any other type are not supported.
+ *
+ * @since 1.9.0
+ */
+class SampleRequestGenerator {
+
+    private static final String MOCK_VALUE = "\"mock\"";
+
+    private final BallerinaClientGenerator ballerinaClientGenerator;
+
+    SampleRequestGenerator(BallerinaClientGenerator ballerinaClientGenerator) {
+
+        this.ballerinaClientGenerator = ballerinaClientGenerator;
+    }
+
+    /**
+     * Returns the arguments of the client initialization with the given service URL expression. Placeholder
+     * credentials are given for the basic, bearer and API key authentication. Empty is returned when the client can
+     * not be initialized without reaching an external service, ex: the OAuth2 grant types need to reach the token
+     * endpoint.
+     */
+    Optional<String> getClientInitializer(String serviceUrlExpression) {
+
+        Set<String> authTypes = ballerinaClientGenerator.getAuthType();
+        String serviceUrl = GeneratorConstants.SERVICE_URL + " = " + serviceUrlExpression;
+        if (authTypes.isEmpty()) {
+            return Optional.of(serviceUrl);
+        }
+        BallerinaAuthConfigGenerator authConfigGenerator = ballerinaClientGenerator.getBallerinaAuthConfigGenerator();
+        switch (authTypes.iterator().next()) {
+            case BASIC:
+                return Optional.of("{auth: {username: " + MOCK_VALUE + ", password: " + MOCK_VALUE + "}}, " +
+                        serviceUrl);
+            case BEARER:
+                return Optional.of("{auth: {token: " + MOCK_VALUE + "}}, " + serviceUrl);
+            case API_KEY:
+                if (authConfigGenerator.isHttpOROAuth()) {
+                    return Optional.empty();
+                }
+                List<String> apiKeys = new ArrayList<>();
+                for (String apiKey : ballerinaClientGenerator.getApiKeyNameList()) {
+                    apiKeys.add(GeneratorUtils.getValidName(apiKey, false) + ": " + MOCK_VALUE);
+                }
+                return Optional.of("{" + String.join(", ", apiKeys) + "}, " + serviceUrl);
+            default:
+                return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the call of the given client method with placeholder arguments, or empty when a required argument is
+     * not of a simple type.
+     */
+    Optional<String> getMethodCall(FunctionDefinitionNode clientMethod, String clientName) {
+
+        List<String> pathSegments = new ArrayList<>();
+        if (ballerinaClientGenerator.isResourceMode()) {
+            for (Node pathNode : clientMethod.relativeResourcePath()) {
+                if (pathNode.kind() == SyntaxKind.RESOURCE_PATH_SEGMENT_PARAM) {
+                    Optional<String> argument = getArgument(
+                            ((ResourcePathParameterNode) pathNode).typeDescriptor().toSourceCode().trim());
+                    if (argument.isEmpty()) {
+                        return Optional.empty();
+                    }
+                    pathSegments.add("[" + argument.get() + "]");
+                } else if (pathNode.kind() == SyntaxKind.RESOURCE_PATH_REST_PARAM) {
+                    return Optional.empty();
+                } else if (pathNode.kind() != SyntaxKind.SLASH_TOKEN) {
+                    pathSegments.add(pathNode.toSourceCode().trim());
+                }
+            }
+        }
+        List<String> arguments = new ArrayList<>();
+        for (ParameterNode parameterNode : clientMethod.functionSignature().parameters()) {
+            if (parameterNode.kind() == SyntaxKind.REQUIRED_PARAM) {
+                Optional<String> argument = getArgument(
+                        ((RequiredParameterNode) parameterNode).typeName().toSourceCode().trim());
+                if (argument.isEmpty()) {
+                    return Optional.empty();
+                }
+                arguments.add(argument.get());
+            } else if (parameterNode.kind() != SyntaxKind.DEFAULTABLE_PARAM) {
+                return Optional.empty();
+            }
+        }
+        String methodName = clientMethod.functionName().text().trim();
+        if (ballerinaClientGenerator.isResourceMode()) {
+            String resourcePath = pathSegments.isEmpty() || pathSegments.get(0).equals(".") ?
+                    "/" : "/" + String.join("/", pathSegments);
+            return Optional.of(clientName + "->" + resourcePath + "." + methodName + "(" +
+                    String.join(", ", arguments) + ")");
+        }
+        return Optional.of(clientName + "->" + methodName + "(" + String.join(", ", arguments) + ")");
+    }
+
+    /**
+     * Returns the function which sends the request of the given client method call, and returns whether the request
+     * succeeded.
+     */
+    String getSendRequestFunction(String functionName, FunctionDefinitionNode clientMethod, String methodCall) {
+
+        return String.format("# Sends the `%s` request\nisolated function %s() returns boolean { " +
+                "var response = %s; return response !is error; }", getMethodDescription(clientMethod), functionName,
+                methodCall);
+    }
+
+    /**
+     * Returns the function with the given name which gives the latency of a percentile of the sorted latencies in
+     * milliseconds.
+     */
+    static String getPercentileFunction(String functionName) {
+
+        return "function " + functionName + "(decimal[] sortedLatencies, int percentile) returns decimal {\n" +
+                "    int index = int:min(sortedLatencies.length() * percentile / 100, " +
+                "sortedLatencies.length() - 1);\n" +
+                "    return sortedLatencies[index] * 1000;\n" +
+                "}";
+    }
+
+    /**
+     * Returns a placeholder argument for the given parameter type.
+     */
+    private static Optional<String> getArgument(String type) {
+
+        String argumentType = type.endsWith("?") ? type.substring(0, type.length() - 1) : type;
+        boolean isArray = argumentType.endsWith("[]");
+        if (isArray) {
+            argumentType = argumentType.substring(0, argumentType.length() - 2);
+        }
+        String argument;
+        switch (argumentType) {
+            case "int":
+                argument = "1";
+                break;
+            case "string":
+                argument = MOCK_VALUE;
+                break;
+            case "boolean":
+                argument = "true";
+                break;
+            case "decimal":
+            case "float":
+                argument = "1.0";
+                break;
+            default:
+                return Optional.empty();
+        }
+        return Optional.of(isArray ? "[" + argument + "]" : argument);
+    }
+
+    /**
+     * Returns the name of the given client method together with its resource path in the resource mode.
+     */
+    String getMethodDescription(FunctionDefinitionNode clientMethod) {
+
+        if (!ballerinaClientGenerator.isResourceMode()) {
+            return clientMethod.functionName().text().trim();
+        }
+        StringBuilder resourcePath = new StringBuilder();
+        for (Node pathNode : clientMethod.relativeResourcePath()) {
+            resourcePath.append(pathNode.toSourceCode().trim());
+        }
+        return clientMethod.functionName().text().trim() + " " + resourcePath;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client;
+
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.tools.text.TextDocuments;
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class holds the parsed `templates/utils_openapi.bal` template. The template is parsed once per JVM from the
+ * classpath and its functions, classes and type definitions are indexed by name together with the template members
+ * they depend on.
+ *
+ * @since 1.9.0
+ */
+public final class UtilTemplateRegistry {
+
+    private static final String UTIL_TEMPLATE = "templates/utils_openapi.bal";
+    private static UtilTemplateRegistry instance;
+
+    // Members are kept in the template order so that the generated util file follows the same order
+    private final Map<String, ModuleMemberDeclarationNode> members;
+    private final Map<String, Set<String>> dependencies;
+
+    private UtilTemplateRegistry(SyntaxTree templateSyntaxTree) {
+
+        this.members = new LinkedHashMap<>();
+        ModulePartNode modulePartNode = templateSyntaxTree.rootNode();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            String name = getMemberName(member);
+            if (name != null) {
+                members.put(name, member);
+            }
+        }
+        Map<String, Set<String>> directDependencies = new HashMap<>();
+        for (Map.Entry<String, ModuleMemberDeclarationNode> member : members.entrySet()) {
+            ReferenceVisitor referenceVisitor = new ReferenceVisitor();
+            member.getValue().accept(referenceVisitor);
+            Set<String> references = referenceVisitor.getReferences();
+            references.retainAll(members.keySet());
+            references.remove(member.getKey());
+            directDependencies.put(member.getKey(), references);
+        }
+        this.dependencies = new HashMap<>();
+        for (String name : members.keySet()) {
+            dependencies.put(name, Collections.unmodifiableSet(getTransitiveDependencies(name, directDependencies)));
+        }
+    }
+
+    /**
+     * Returns the registry of the bundled util template. The template is read and parsed on the first call only.
+     *
+     * @return {@link UtilTemplateRegistry}
+     * @throws IOException When failed to read the templates/utils_openapi.bal file from resources
+     */
+    public static synchronized UtilTemplateRegistry getInstance() throws IOException {
+
+        if (instance == null) {
+            try (InputStream inputStream =
+                         UtilTemplateRegistry.class.getClassLoader().getResourceAsStream(UTIL_TEMPLATE)) {
+                if (inputStream == null) {
+                    throw new IOException("Unable to find the util template: " + UTIL_TEMPLATE);
+                }
+                String template = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+                instance = new UtilTemplateRegistry(SyntaxTree.from(TextDocuments.from(template)));
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the template members with the given names together with the members they depend on.
+     *
+     * @param names    names of the required functions, classes and types
+     * @param excluded names of the members which are generated separately and must not be taken from the template
+     * @return template members in the template order
+     */
+    public List<ModuleMemberDeclarationNode> getMembers(Collection<String> names, Set<String> excluded) {
+
+        Set<String> requiredNames = new HashSet<>();
+        for (String name : names) {
+            if (members.containsKey(name)) {
+                requiredNames.add(name);
+                requiredNames.addAll(dependencies.get(name));
+            }
+        }
+        requiredNames.removeAll(excluded);
+        List<ModuleMemberDeclarationNode> requiredMembers = new ArrayList<>();
+        for (Map.Entry<String, ModuleMemberDeclarationNode> member : members.entrySet()) {
+            if (requiredNames.contains(member.getKey())) {
+                requiredMembers.add(member.getValue());
+            }
+        }
+        return requiredMembers;
+    }
+
+    /**
+     * Returns the names of the template members that the given member depends on, directly or transitively.
+     *
+     * @param name name of the template member
+     * @return names of the dependencies, or an empty set when the template does not have the member
+     */
+    public Set<String> getDependencies(String name) {
+
+        return dependencies.getOrDefault(name, Collections.emptySet());
+    }
+
+    private static Set<String> getTransitiveDependencies(String name, Map<String, Set<String>> directDependencies) {
+
+        Set<String> visited = new LinkedHashSet<>();
+        Deque<String> pending = new ArrayDeque<>(directDependencies.get(name));
+        while (!pending.isEmpty()) {
+            String dependency = pending.pop();
+            if (!dependency.equals(name) && visited.add(dependency)) {
+                pending.addAll(directDependencies.get(dependency));
+            }
+        }
+        return visited;
+    }
+
+    private static String getMemberName(ModuleMemberDeclarationNode member) {
+
+        switch (member.kind()) {
+            case FUNCTION_DEFINITION:
+                return ((FunctionDefinitionNode) member).functionName().text().trim();
+            case CLASS_DEFINITION:
+                return ((ClassDefinitionNode) member).className().text().trim();
+            case TYPE_DEFINITION:
+                return ((TypeDefinitionNode) member).typeName().text().trim();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Collects the unqualified names referred in a template member. Method names are skipped as they are resolved
+     * against the receiver and not against the module members.
+     */
+    private static class ReferenceVisitor extends NodeVisitor {
+
+        private final Set<String> references = new HashSet<>();
+
+        @Override
+        public void visit(SimpleNameReferenceNode simpleNameReferenceNode) {
+
+            references.add(simpleNameReferenceNode.name().text().trim());
+        }
+
+        @Override
+        public void visit(MethodCallExpressionNode methodCallExpressionNode) {
+
+            methodCallExpressionNode.expression().accept(this);
+            methodCallExpressionNode.arguments().forEach(argument -> argument.accept(this));
+        }
+
+        Set<String> getReferences() {
+
+            return references;
+        }
+    }
+}
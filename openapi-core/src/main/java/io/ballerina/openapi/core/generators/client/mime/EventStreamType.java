@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client.mime;
+
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.generators.client.BallerinaUtilGenerator;
+
+import java.util.List;
+
+/**
+ * Defines the response structure of "text/event-stream" (Server-Sent Events) mime type.
+ * <pre>
+ *     http:Response response = check self.clientEp->get(resourcePath);
+ *     return getSseEventStream(response);
+ * </pre>
+ *
+ * @since 1.9.0
+ */
+public class EventStreamType extends StreamingMimeType {
+
+    public EventStreamType(BallerinaUtilGenerator ballerinaUtilGenerator) {
+        super(ballerinaUtilGenerator);
+    }
+
+    @Override
+    public void setStreamingResponse(List<StatementNode> statementsList, String responseName) {
+        ballerinaUtilGenerator.setSseEventStreamFound(true);
+        statementsList.add(GeneratorUtils.getSimpleExpressionStatementNode(
+                String.format("return getSseEventStream(%s)", responseName)));
+    }
+}
@@ -34,10 +34,14 @@ import io.ballerina.compiler.syntax.tree.StatementNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.BallerinaUtilGenerator;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
+import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.Encoding;
 import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.ArrayList;
 import java.util.LinkedList;
@@ -86,8 +90,13 @@ public class MultipartFormData extends MimeType {
 
     @Override
     public void setPayload(List<StatementNode> statementsList, Map.Entry<String, MediaType> mediaTypeEntry) {
-        ballerinaUtilGenerator.setRequestBodyMultipartFormDatafound(true);
         addImport(imports, MIME);
+        Map<String, Schema> properties = getPayloadProperties(mediaTypeEntry.getValue().getSchema());
+        if (GeneratorMetaData.getInstance().isStreamingMultipart() && properties != null) {
+            setStreamingPayload(statementsList, mediaTypeEntry, properties);
+            return;
+        }
+        ballerinaUtilGenerator.setRequestBodyMultipartFormDatafound(true);
         VariableDeclarationNode encodingMap = getMultipartMap(mediaTypeEntry);
 
         VariableDeclarationNode bodyPartsVariable;
@@ -106,6 +115,66 @@ public class MultipartFormData extends MimeType {
         statementsList.add(setPayloadExpression);
     }
 
+    /**
+     * Generates one `addBodyPart` call per payload field so that binary parts are written to the wire as streamed
+     * entity bodies. The encoding of each part is resolved here instead of through a runtime map lookup.
+     * <pre>
+     *     mime:Entity[] bodyParts = [];
+     *     check addBodyPart(bodyParts, "id", payload?.id);
+     *     check addBodyPart(bodyParts, "profileImage", payload?.profileImage, "image/png",
+     *          {"X-Custom-Header": xCustomHeader});
+     *     request.setBodyParts(bodyParts);
+     * </pre>
+     */
+    private void setStreamingPayload(List<StatementNode> statementsList, Map.Entry<String, MediaType> mediaTypeEntry,
+                                     Map<String, Schema> properties) {
+        ballerinaUtilGenerator.setStreamingMultipartFound(true);
+        statementsList.add(GeneratorUtils.getSimpleStatement("mime:Entity[]", "bodyParts", "[]"));
+        Map<String, Encoding> encodings = mediaTypeEntry.getValue().getEncoding();
+        for (String key : properties.keySet()) {
+            String partName = key.trim();
+            StringBuilder arguments = new StringBuilder(String.format("bodyParts, \"%s\", payload?.%s", partName,
+                    escapeIdentifier(partName)));
+            Encoding encoding = encodings != null ? encodings.get(key) : null;
+            if (encoding != null) {
+                String contentType = encoding.getContentType() != null ?
+                        '"' + encoding.getContentType().split(",")[0].trim() + '"' : "()";
+                arguments.append(", ").append(contentType);
+                if (encoding.getHeaders() != null) {
+                    getHeaderEncoding(Map.entry(key, encoding)).valueExpr().ifPresent(headers ->
+                            arguments.append(", ").append(headers.toSourceCode()));
+                }
+            }
+            statementsList.add(GeneratorUtils.getSimpleExpressionStatementNode(
+                    String.format("check addBodyPart(%s)", arguments)));
+        }
+        statementsList.add(GeneratorUtils.getSimpleExpressionStatementNode("request.setBodyParts(bodyParts)"));
+    }
+
+    /**
+     * Resolves the fields of the multipart payload at generation time. Returns null when the fields can not be
+     * determined statically, ex: composed schemas.
+     */
+    private Map<String, Schema> getPayloadProperties(Schema<?> schema) {
+        if (schema == null) {
+            return null;
+        }
+        if (schema.get$ref() != null) {
+            OpenAPI openAPI = GeneratorMetaData.getInstance().getOpenAPI();
+            if (openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
+                return null;
+            }
+            String schemaName;
+            try {
+                schemaName = GeneratorUtils.extractReferenceType(schema.get$ref());
+            } catch (BallerinaOpenApiException e) {
+                return null;
+            }
+            return getPayloadProperties(openAPI.getComponents().getSchemas().get(schemaName));
+        }
+        return schema.getProperties();
+    }
+
     private VariableDeclarationNode getMultipartMap(Map.Entry<String, MediaType> mediaTypeEntry) {
         if (mediaTypeEntry.getValue().getEncoding() != null) {
             List<Node> mapFields = new LinkedList<>();
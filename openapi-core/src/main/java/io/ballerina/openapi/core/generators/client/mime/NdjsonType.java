@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client.mime;
+
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.generators.client.BallerinaUtilGenerator;
+
+import java.util.List;
+
+/**
+ * Defines the response structure of "application/x-ndjson" mime type. Each line of the payload is bound to the
+ * stream member type when it is read from the stream.
+ * <pre>
+ *     http:Response response = check self.clientEp->get(resourcePath);
+ *     stream&lt;string, error?&gt; lines = check getNdjsonLineStream(response);
+ *     return stream from string line in lines select check line.fromJsonStringWithType();
+ * </pre>
+ *
+ * @since 1.9.0
+ */
+public class NdjsonType extends StreamingMimeType {
+
+    public NdjsonType(BallerinaUtilGenerator ballerinaUtilGenerator) {
+        super(ballerinaUtilGenerator);
+    }
+
+    @Override
+    public void setStreamingResponse(List<StatementNode> statementsList, String responseName) {
+        ballerinaUtilGenerator.setNdjsonStreamFound(true);
+        statementsList.add(GeneratorUtils.getSimpleStatement("stream<string, error?>", "lines",
+                String.format("check getNdjsonLineStream(%s)", responseName)));
+        statementsList.add(GeneratorUtils.getSimpleExpressionStatementNode(
+                "return stream from string line in lines select check line.fromJsonStringWithType()"));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client.mime;
+
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.openapi.core.GeneratorConstants;
+import io.ballerina.openapi.core.generators.client.BallerinaUtilGenerator;
+import io.swagger.v3.oas.models.media.MediaType;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Abstract class that defines the mime types whose responses are consumed incrementally as a Ballerina stream.
+ *
+ * @since 1.9.0
+ */
+public abstract class StreamingMimeType extends MimeType {
+
+    protected final BallerinaUtilGenerator ballerinaUtilGenerator;
+
+    protected StreamingMimeType(BallerinaUtilGenerator ballerinaUtilGenerator) {
+        this.ballerinaUtilGenerator = ballerinaUtilGenerator;
+    }
+
+    @Override
+    public void setPayload(List<StatementNode> statementsList, Map.Entry<String, MediaType> mediaTypeEntry) {
+        setPayload(statementsList, GeneratorConstants.PAYLOAD, mediaTypeEntry.getKey());
+    }
+
+    /**
+     * Generate statements for converting the `http:Response` into a stream and returning it. The response is not
+     * read as a whole, the returned stream parses the payload as the bytes arrive.
+     *
+     * @param statementsList - Previous statements list
+     * @param responseName   - Name of the `http:Response` variable
+     */
+    public abstract void setStreamingResponse(List<StatementNode> statementsList, String responseName);
+}
@@ -20,6 +20,9 @@ package io.ballerina.openapi.core.generators.client.model;
 import io.ballerina.openapi.core.model.Filter;
 import io.swagger.v3.oas.models.OpenAPI;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static io.ballerina.openapi.core.GeneratorConstants.DO_NOT_MODIFY_FILE_HEADER;
 
 /**
@@ -33,6 +36,10 @@ public class OASClientConfig {
     private final boolean nullable;
     private final boolean resourceMode;
     private final boolean isPlugin;
+    private final boolean streamingMultipart;
+    private final boolean readonlyTypes;
+    private final List<String> validationSkippedOperations;
+    private final List<String> batchOperations;
     private final String license;
 
 
@@ -42,6 +49,10 @@ public class OASClientConfig {
         this.nullable = clientConfigBuilder.nullable;
         this.isPlugin = clientConfigBuilder.isPlugin;
         this.resourceMode = clientConfigBuilder.resourceMode;
+        this.streamingMultipart = clientConfigBuilder.streamingMultipart;
+        this.readonlyTypes = clientConfigBuilder.readonlyTypes;
+        this.validationSkippedOperations = clientConfigBuilder.validationSkippedOperations;
+        this.batchOperations = clientConfigBuilder.batchOperations;
         this.license = clientConfigBuilder.license;
     }
 
@@ -64,6 +75,23 @@ public class OASClientConfig {
     public boolean isPlugin() {
         return isPlugin;
     }
+
+    public boolean isStreamingMultipart() {
+        return streamingMultipart;
+    }
+
+    public boolean isReadonlyTypes() {
+        return readonlyTypes;
+    }
+
+    public List<String> getValidationSkippedOperations() {
+        return validationSkippedOperations;
+    }
+
+    public List<String> getBatchOperations() {
+        return batchOperations;
+    }
+
     public String getLicense() {
         return license;
     }
@@ -77,6 +105,10 @@ public class OASClientConfig {
         private boolean nullable = false;
         private boolean resourceMode = true;
         private boolean isPlugin = false;
+        private boolean streamingMultipart = false;
+        private boolean readonlyTypes = false;
+        private List<String> validationSkippedOperations = new ArrayList<>();
+        private List<String> batchOperations = new ArrayList<>();
         private String license = DO_NOT_MODIFY_FILE_HEADER;
 
         public Builder withOpenAPI(OpenAPI openAPI) {
@@ -104,6 +136,26 @@ public class OASClientConfig {
             return this;
         }
 
+        public Builder withStreamingMultipart(boolean streamingMultipart) {
+            this.streamingMultipart = streamingMultipart;
+            return this;
+        }
+
+        public Builder withReadonlyTypes(boolean readonlyTypes) {
+            this.readonlyTypes = readonlyTypes;
+            return this;
+        }
+
+        public Builder withValidationSkippedOperations(List<String> validationSkippedOperations) {
+            this.validationSkippedOperations = validationSkippedOperations;
+            return this;
+        }
+
+        public Builder withBatchOperations(List<String> batchOperations) {
+            this.batchOperations = batchOperations;
+            return this;
+        }
+
         public Builder withLicense(String license) {
             this.license = license;
             return this;
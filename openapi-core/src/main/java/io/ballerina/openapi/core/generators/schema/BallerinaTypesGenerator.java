@@ -54,6 +54,7 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
@@ -71,6 +72,7 @@ public class BallerinaTypesGenerator {
 
     private final List<TypeDefinitionNode> typeDefinitionNodeList;
     private final Set<String> imports = new LinkedHashSet<>();
+    private final InlineSchemaRegistry inlineSchemaRegistry = new InlineSchemaRegistry();
 
     /**
      * This public constructor is used to generate record and other relevant data type when the nullable flag is
@@ -122,6 +124,28 @@ public class BallerinaTypesGenerator {
         this.typeDefinitionNodeList = typeDefinitionNodeList;
     }
 
+    /**
+     * This public constructor is used to generate record and other relevant data type with the given generation
+     * options, ex: the binary parts of multipart request bodies are streamed, the records are readonly.
+     *
+     * @param metaData               options of the types generation
+     * @param typeDefinitionNodeList list of types generated by earlier generations
+     */
+    public BallerinaTypesGenerator(GeneratorMetaData metaData, List<TypeDefinitionNode> typeDefinitionNodeList) {
+        GeneratorMetaData.setInstance(metaData);
+        this.typeDefinitionNodeList = typeDefinitionNodeList;
+    }
+
+    /**
+     * Returns the registry of the inline request and response schemas for which a named type is generated.
+     *
+     * @return {@link InlineSchemaRegistry}
+     */
+    public InlineSchemaRegistry getInlineSchemaRegistry() {
+
+        return inlineSchemaRegistry;
+    }
+
     /**
      * Generate syntaxTree for component schema.
      */
@@ -179,7 +203,8 @@ public class BallerinaTypesGenerator {
 
     private void importsForTypeDefinitions(Set<ImportDeclarationNode> imports) {
         for (TypeDefinitionNode node : typeDefinitionNodeList) {
-            if (!(node.typeDescriptor() instanceof RecordTypeDescriptorNode)) {
+            Optional<RecordTypeDescriptorNode> recordTypeDescriptor = GeneratorUtils.getRecordTypeDescriptor(node);
+            if (recordTypeDescriptor.isEmpty()) {
                 continue;
             }
             if (node.typeName().text().equals(CONNECTION_CONFIG)) {
@@ -188,7 +213,7 @@ public class BallerinaTypesGenerator {
                         HTTP);
                 imports.add(importForHttp);
             }
-            RecordTypeDescriptorNode record = (RecordTypeDescriptorNode) node.typeDescriptor();
+            RecordTypeDescriptorNode record = recordTypeDescriptor.get();
             for (Node field : record.fields()) {
                 if (!(field instanceof TypeReferenceNode) ||
                         !(((TypeReferenceNode) field).typeName() instanceof QualifiedNameReferenceNode)) {
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * This class keeps the inline request and response schemas for which a named type is generated, so that the
+ * structurally identical inline schemas of different operations are generated as a single type. Two schemas are
+ * structurally identical when their canonical forms are equal. The canonical form ignores the documentation keywords,
+ * the order of the keys and the order of the required properties.
+ * <pre>
+ *     listPets:   {type: object, properties: {id: {type: integer}, name: {type: string}}}
+ *     listUsers:  {type: object, properties: {name: {type: string, description: User name}, id: {type: integer}}}
+ * </pre>
+ * The `ListUsersResponse` type is not generated for the above schemas, and `ListPetsResponse` is used instead.
+ *
+ * @since 1.9.0
+ */
+public class InlineSchemaRegistry {
+
+    private static final Set<String> DOCUMENTATION_KEYWORDS = Set.of("title", "description", "example", "examples",
+            "externalDocs");
+    private static final Set<String> SUB_SCHEMA_KEYWORDS = Set.of("items", "not", "additionalProperties");
+    private static final Set<String> SUB_SCHEMA_LIST_KEYWORDS = Set.of("allOf", "oneOf", "anyOf");
+
+    private final Map<String, String> sharedTypeNames = new HashMap<>();
+    // Types which are not generated, mapped to the shared types used instead. Kept in the order of the generation.
+    private final Map<String, String> sharedTypeMappings = new LinkedHashMap<>();
+
+    /**
+     * Returns the name of the type to use for the given inline schema. The given type name is registered for the
+     * schema when no structurally identical schema is registered before, and it is returned as it is. Otherwise, the
+     * name of the type registered first is returned and the type with the given name must not be generated.
+     *
+     * @param schema   inline schema
+     * @param typeName name of the type which is generated for the schema when it is not shared
+     * @return name of the type of the schema
+     */
+    public String getTypeName(Schema<?> schema, String typeName) {
+
+        String sharedTypeName = sharedTypeNames.putIfAbsent(getCanonicalForm(schema), typeName);
+        if (sharedTypeName == null || sharedTypeName.equals(typeName)) {
+            return typeName;
+        }
+        sharedTypeMappings.put(typeName, sharedTypeName);
+        return sharedTypeName;
+    }
+
+    /**
+     * Returns the types which are not generated as structurally identical types are generated before, mapped to the
+     * types which are used instead.
+     *
+     * @return type names mapped to the shared type names
+     */
+    public Map<String, String> getSharedTypeMappings() {
+
+        return Collections.unmodifiableMap(sharedTypeMappings);
+    }
+
+    /**
+     * Returns the canonical form of the given schema.
+     *
+     * @param schema OpenAPI schema
+     * @return canonical JSON of the schema
+     */
+    public static String getCanonicalForm(Schema<?> schema) {
+
+        return canonicalizeSchema(Json.mapper().valueToTree(schema)).toString();
+    }
+
+    private static JsonNode canonicalizeSchema(JsonNode schema) {
+
+        if (!schema.isObject()) {
+            return schema;
+        }
+        ObjectNode canonicalSchema = JsonNodeFactory.instance.objectNode();
+        for (String keyword : getSortedFieldNames(schema)) {
+            JsonNode value = schema.get(keyword);
+            if (DOCUMENTATION_KEYWORDS.contains(keyword)) {
+                continue;
+            }
+            if (keyword.equals("properties") && value.isObject()) {
+                ObjectNode properties = canonicalSchema.putObject(keyword);
+                for (String property : getSortedFieldNames(value)) {
+                    properties.set(property, canonicalizeSchema(value.get(property)));
+                }
+            } else if (SUB_SCHEMA_KEYWORDS.contains(keyword)) {
+                canonicalSchema.set(keyword, canonicalizeSchema(value));
+            } else if (SUB_SCHEMA_LIST_KEYWORDS.contains(keyword) && value.isArray()) {
+                ArrayNode subSchemas = canonicalSchema.putArray(keyword);
+                value.forEach(subSchema -> subSchemas.add(canonicalizeSchema(subSchema)));
+            } else if (keyword.equals("required") && value.isArray()) {
+                Set<String> required = new TreeSet<>();
+                value.forEach(property -> required.add(property.asText()));
+                ArrayNode requiredProperties = canonicalSchema.putArray(keyword);
+                required.forEach(requiredProperties::add);
+            } else {
+                canonicalSchema.set(keyword, canonicalizeValue(value));
+            }
+        }
+        return canonicalSchema;
+    }
+
+    private static JsonNode canonicalizeValue(JsonNode value) {
+
+        if (value.isObject()) {
+            ObjectNode canonicalValue = JsonNodeFactory.instance.objectNode();
+            for (String field : getSortedFieldNames(value)) {
+                canonicalValue.set(field, canonicalizeValue(value.get(field)));
+            }
+            return canonicalValue;
+        } else if (value.isArray()) {
+            ArrayNode canonicalValue = JsonNodeFactory.instance.arrayNode();
+            value.forEach(item -> canonicalValue.add(canonicalizeValue(item)));
+            return canonicalValue;
+        }
+        return value;
+    }
+
+    private static List<String> getSortedFieldNames(JsonNode node) {
+
+        List<String> fieldNames = new ArrayList<>();
+        for (Iterator<String> iterator = node.fieldNames(); iterator.hasNext(); ) {
+            fieldNames.add(iterator.next());
+        }
+        Collections.sort(fieldNames);
+        return fieldNames;
+    }
+}
@@ -23,6 +23,7 @@ import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.TypeGeneratorUtils;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.swagger.v3.oas.models.media.Schema;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
@@ -67,7 +68,8 @@ public class PrimitiveTypeGenerator extends TypeGenerator {
         } else if (GeneratorUtils.getOpenAPIType(schema).equals(GeneratorConstants.STRING) &&
                 schema.getFormat() != null &&
                 schema.getFormat().equals(GeneratorConstants.BINARY)) {
-            typeDescriptorName = "record {byte[] fileContent; string fileName;}";
+            typeDescriptorName = GeneratorMetaData.getInstance().isStreamingMultipart() ?
+                    GeneratorConstants.FILE_CONTENT : "record {byte[] fileContent; string fileName;}";
         }
         TypeDescriptorNode typeDescriptorNode = createSimpleNameReferenceNode(
                 createIdentifierToken(typeDescriptorName));
@@ -30,6 +30,7 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.TypeGeneratorUtils;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.ballerina.openapi.core.generators.schema.model.RecordMetadata;
 import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -130,7 +131,8 @@ public class RecordTypeGenerator extends TypeGenerator {
      * @throws BallerinaOpenApiException throws when process has some failure.
      */
     public RecordMetadata getRecordMetadata() throws BallerinaOpenApiException {
-        boolean isOpenRecord = true;
+        // Immutable records are generated as closed records, so the data binding does not need to handle rest fields.
+        boolean isOpenRecord = !GeneratorMetaData.getInstance().isReadonlyTypes();
         RecordRestDescriptorNode recordRestDescNode = null;
 
         if (schema.getAdditionalProperties() != null) {
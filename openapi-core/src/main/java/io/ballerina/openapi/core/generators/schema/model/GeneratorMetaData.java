@@ -20,6 +20,8 @@ package io.ballerina.openapi.core.generators.schema.model;
 
 import io.swagger.v3.oas.models.OpenAPI;
 
+import java.util.function.Supplier;
+
 /**
  * Stores metadata related to Ballerina types generation.
  *
@@ -27,23 +29,65 @@ import io.swagger.v3.oas.models.OpenAPI;
  */
 public class GeneratorMetaData {
 
+    public static final String READONLY_STREAMING_MULTIPART_ERROR = "The readonly types can not be generated " +
+            "with the streamed multipart parts, as the streamed file contents are not readonly.";
+
     private final OpenAPI openAPI;
     private final boolean nullable;
     private final boolean generateServiceType;
+    private final boolean streamingMultipart;
+    private final boolean readonlyTypes;
     private static GeneratorMetaData generatorMetaData = null;
+    // Metadata of a generation which runs on the current thread, together with other generations on other threads
+    private static final ThreadLocal<GeneratorMetaData> scopedMetaData = new ThreadLocal<>();
 
-    private GeneratorMetaData(OpenAPI openAPI, boolean nullable, boolean generateServiceType) {
-        this.openAPI = openAPI;
-        this.nullable = nullable;
-        this.generateServiceType = generateServiceType;
+    private GeneratorMetaData(Builder builder) {
+        this.openAPI = builder.openAPI;
+        this.nullable = builder.nullable;
+        this.generateServiceType = builder.generateServiceType;
+        this.streamingMultipart = builder.streamingMultipart;
+        this.readonlyTypes = builder.readonlyTypes;
     }
 
     public static void createInstance(OpenAPI openAPI, boolean nullable, boolean generateServiceType) {
-        generatorMetaData = new GeneratorMetaData(openAPI, nullable, generateServiceType);
+        setInstance(new Builder().withOpenAPI(openAPI).withNullable(nullable)
+                .withGenerateServiceType(generateServiceType).build());
+    }
+
+    /**
+     * Sets the metadata used by the generations which do not run with their own metadata.
+     *
+     * @param metaData metadata of the generation
+     */
+    public static void setInstance(GeneratorMetaData metaData) {
+        generatorMetaData = metaData;
     }
 
     public static GeneratorMetaData getInstance() {
-        return generatorMetaData;
+        GeneratorMetaData metaData = scopedMetaData.get();
+        return metaData != null ? metaData : generatorMetaData;
+    }
+
+    /**
+     * Run the given task with the given metadata on the current thread. The generators which run concurrently use
+     * this to keep the metadata they are created with, instead of the metadata of the generator created last.
+     *
+     * @param metaData metadata to be used by the task
+     * @param task     generation task
+     * @return result of the task
+     */
+    public static <T> T callWith(GeneratorMetaData metaData, Supplier<T> task) {
+        GeneratorMetaData previousMetaData = scopedMetaData.get();
+        scopedMetaData.set(metaData);
+        try {
+            return task.get();
+        } finally {
+            if (previousMetaData == null) {
+                scopedMetaData.remove();
+            } else {
+                scopedMetaData.set(previousMetaData);
+            }
+        }
     }
 
     public OpenAPI getOpenAPI() {
@@ -57,4 +101,62 @@ public class GeneratorMetaData {
     public boolean isServiceTypeRequired() {
         return generateServiceType;
     }
+
+    public boolean isStreamingMultipart() {
+        return streamingMultipart;
+    }
+
+    public boolean isReadonlyTypes() {
+        return readonlyTypes;
+    }
+
+    /**
+     * Types generation metadata builder class.
+     */
+    public static class Builder {
+        private OpenAPI openAPI;
+        private boolean nullable = false;
+        private boolean generateServiceType = false;
+        private boolean streamingMultipart = false;
+        private boolean readonlyTypes = false;
+
+        public Builder withOpenAPI(OpenAPI openAPI) {
+            this.openAPI = openAPI;
+            return this;
+        }
+
+        public Builder withNullable(boolean nullable) {
+            this.nullable = nullable;
+            return this;
+        }
+
+        public Builder withGenerateServiceType(boolean generateServiceType) {
+            this.generateServiceType = generateServiceType;
+            return this;
+        }
+
+        public Builder withStreamingMultipart(boolean streamingMultipart) {
+            this.streamingMultipart = streamingMultipart;
+            return this;
+        }
+
+        public Builder withReadonlyTypes(boolean readonlyTypes) {
+            this.readonlyTypes = readonlyTypes;
+            return this;
+        }
+
+        /**
+         * Builds the metadata. The readonly types can not be combined with the streamed multipart parts, as the
+         * `FileContent` record of a streamed part holds a stream, which is not a readonly value.
+         *
+         * @return metadata of the generation
+         * @throws IllegalArgumentException if both the readonly types and the streamed multipart parts are enabled
+         */
+        public GeneratorMetaData build() {
+            if (readonlyTypes && streamingMultipart) {
+                throw new IllegalArgumentException(READONLY_STREAMING_MULTIPART_ERROR);
+            }
+            return new GeneratorMetaData(this);
+        }
+    }
 }
@@ -33,6 +33,7 @@ import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.ParameterNode;
 import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
 import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
@@ -43,6 +44,7 @@ import io.ballerina.compiler.syntax.tree.StatementNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.compiler.syntax.tree.TreeModifier;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.core.GeneratorConstants;
@@ -50,6 +52,7 @@ import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.schema.InlineSchemaRegistry;
 import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
 import io.ballerina.openapi.core.model.Filter;
@@ -59,12 +62,15 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
@@ -72,6 +78,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
@@ -96,10 +103,13 @@ import static io.ballerina.openapi.core.GeneratorConstants.DEFAULT_FUNC_COMMENT;
 import static io.ballerina.openapi.core.GeneratorConstants.DEFAULT_PARAM_COMMENT;
 import static io.ballerina.openapi.core.GeneratorConstants.HTTP_CALLER;
 import static io.ballerina.openapi.core.GeneratorConstants.HTTP_REQUEST;
+import static io.ballerina.openapi.core.GeneratorConstants.HTTP_RESPONSE;
 import static io.ballerina.openapi.core.GeneratorConstants.REQUEST;
 import static io.ballerina.openapi.core.GeneratorConstants.SERVICE_TYPE_NAME;
 import static io.ballerina.openapi.core.GeneratorConstants.SLASH;
 import static io.ballerina.openapi.core.GeneratorUtils.escapeIdentifier;
+import static io.ballerina.openapi.core.generators.service.MockResponseGenerator.MOCK_LATENCY;
+import static io.ballerina.openapi.core.generators.service.MockResponseGenerator.MOCK_SERVICE_PORT;
 import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.createImportDeclarationNodes;
 import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.generateServiceConfigAnnotation;
 
@@ -115,10 +125,13 @@ public class BallerinaServiceGenerator {
     private final Filter filter;
     private final boolean isServiceTypeRequired;
     private final boolean generateWithoutDataBinding;
+    private final boolean mock;
+    private final MockResponseGenerator mockResponseGenerator;
+    private final GeneratorMetaData generatorMetaData;
     private final BallerinaTypesGenerator ballerinaSchemaGenerator;
     private List<Node> functionList = new ArrayList<>();
-    private final Map<String, TypeDefinitionNode> typeInclusionRecords = new HashMap<>();
-    private final Set<String> paths = new LinkedHashSet<>();
+    private final Map<String, TypeDefinitionNode> typeInclusionRecords = new LinkedHashMap<>();
+    private String basePath;
 
     public BallerinaServiceGenerator(OASServiceMetadata oasServiceMetadata) {
         this.openAPI = oasServiceMetadata.getOpenAPI();
@@ -126,10 +139,13 @@ public class BallerinaServiceGenerator {
         this.isNullableRequired = false;
         this.isServiceTypeRequired = oasServiceMetadata.isServiceTypeRequired();
         this.generateWithoutDataBinding = oasServiceMetadata.generateWithoutDataBinding();
+        this.mock = oasServiceMetadata.isMock();
+        this.mockResponseGenerator = new MockResponseGenerator(openAPI);
         this.ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPI, oasServiceMetadata.isNullable(),
                 new LinkedList<>());
         GeneratorMetaData.createInstance(openAPI, oasServiceMetadata.isNullable(),
                 oasServiceMetadata.isServiceTypeRequired());
+        this.generatorMetaData = GeneratorMetaData.getInstance();
     }
 
     public List<Node> getFunctionList() {
@@ -148,6 +164,24 @@ public class BallerinaServiceGenerator {
         return typeRecords;
     }
 
+    /**
+     * Returns the registry of the inline response schemas. This is available after the syntax tree is generated.
+     *
+     * @return {@link InlineSchemaRegistry}
+     */
+    public InlineSchemaRegistry getInlineSchemaRegistry() {
+        return ballerinaSchemaGenerator.getInlineSchemaRegistry();
+    }
+
+    /**
+     * Returns the base path of the generated service. This is available after the syntax tree is generated.
+     *
+     * @return base path of the service
+     */
+    public String getBasePath() {
+        return basePath;
+    }
+
     public SyntaxTree generateSyntaxTree() throws BallerinaOpenApiException {
         // Create imports http and openapi
         NodeList<ImportDeclarationNode> imports = createImportDeclarationNodes();
@@ -155,12 +189,26 @@ public class BallerinaServiceGenerator {
         ListenerGenerator listener = new ListenerGenerator();
         ListenerDeclarationNode listenerDeclarationNode = listener.getListenerDeclarationNodes(openAPI.getServers());
         NodeList<Node> absoluteResourcePath = createBasePathNodeList(listener);
+        this.basePath = listener.getBasePath();
+        List<ModuleMemberDeclarationNode> mockMembers = new ArrayList<>();
+        if (mock) {
+            // The mock service listens on a configurable local port, so that it can be run on the same machine as
+            // the client which is tested against it
+            imports = imports.add(NodeParser.parseImportDeclaration("import ballerina/lang.runtime;"));
+            mockMembers.add(NodeParser.parseModuleMemberDeclaration(String.format(
+                    "# Port of the mock service\nconfigurable int %s = 9090;", MOCK_SERVICE_PORT)));
+            mockMembers.add(NodeParser.parseModuleMemberDeclaration(String.format(
+                    "# Delay added to each mock response in seconds\nconfigurable decimal %s = 0;", MOCK_LATENCY)));
+            listenerDeclarationNode = (ListenerDeclarationNode) NodeParser.parseModuleMemberDeclaration(
+                    String.format("listener http:Listener %s = new (%s);",
+                            listenerDeclarationNode.variableName().text().trim(), MOCK_SERVICE_PORT));
+        }
 
         SimpleNameReferenceNode listenerName = createSimpleNameReferenceNode(listenerDeclarationNode.variableName());
         SeparatedNodeList<ExpressionNode> expressions = createSeparatedNodeList(listenerName);
 
         // Fill the members with function
-        List<Node> functions = createResourceFunctions(openAPI, filter);
+        List<Node> functions = createResourceFunctions(openAPI, filter, mockMembers);
         this.setFunctionList(functions);
 
         NodeList<Node> members = createNodeList(functions);
@@ -184,8 +232,9 @@ public class BallerinaServiceGenerator {
                 createToken(SyntaxKind.OPEN_BRACE_TOKEN), members, createToken(SyntaxKind.CLOSE_BRACE_TOKEN), null);
 
         // Create module member declaration
-        NodeList<ModuleMemberDeclarationNode> moduleMembers = createNodeList(
-                listenerDeclarationNode, serviceDeclarationNode);
+        mockMembers.add(listenerDeclarationNode);
+        mockMembers.add(serviceDeclarationNode);
+        NodeList<ModuleMemberDeclarationNode> moduleMembers = createNodeList(mockMembers);
 
         Token eofToken = createIdentifierToken("");
         ModulePartNode modulePartNode = createModulePartNode(imports, moduleMembers, eofToken);
@@ -195,22 +244,139 @@ public class BallerinaServiceGenerator {
         return syntaxTree.modifyWith(modulePartNode);
     }
 
-    private List<Node> createResourceFunctions(OpenAPI openApi, Filter filter) throws BallerinaOpenApiException {
+    /**
+     * Generate the resource functions for the operations which pass the given filter. The resource functions are
+     * generated in parallel, and the results are merged in the order of the operations in the contract so that the
+     * generated service does not depend on the order in which the resources complete. The serialized payloads of
+     * the mock resources are added to the given module members.
+     */
+    private List<Node> createResourceFunctions(OpenAPI openApi, Filter filter,
+                                               List<ModuleMemberDeclarationNode> moduleMembers)
+            throws BallerinaOpenApiException {
 
-        List<Node> functions = new ArrayList<>();
+        List<Map.Entry<String, Map.Entry<PathItem.HttpMethod, Operation>>> operations = new ArrayList<>();
         if (!openApi.getPaths().isEmpty()) {
             Paths paths = openApi.getPaths();
             Set<Map.Entry<String, PathItem>> pathsItems = paths.entrySet();
             for (Map.Entry<String, PathItem> path : pathsItems) {
                 if (!path.getValue().readOperationsMap().isEmpty()) {
                     Map<PathItem.HttpMethod, Operation> operationMap = path.getValue().readOperationsMap();
-                    functions.addAll(applyFiltersForOperations(filter, path.getKey(), operationMap));
+                    for (Map.Entry<PathItem.HttpMethod, Operation> operation :
+                            applyFiltersForOperations(filter, operationMap)) {
+                        operations.add(new AbstractMap.SimpleImmutableEntry<>(path.getKey(), operation));
+                    }
                 }
             }
         }
+        // The payload names are given before the parallel generation so that they are unique and do not depend on
+        // the order in which the resources complete
+        List<String> payloadNames = new ArrayList<>();
+        Set<String> usedPayloadNames = new HashSet<>();
+        for (Map.Entry<String, Map.Entry<PathItem.HttpMethod, Operation>> operation : operations) {
+            payloadNames.add(getMockPayloadName(operation.getKey(), operation.getValue(), usedPayloadNames));
+        }
+        List<ResourceFunction> resourceFunctions = IntStream.range(0, operations.size()).parallel()
+                .mapToObj(index -> GeneratorMetaData.callWith(generatorMetaData, () -> generateResourceFunction(
+                        operations.get(index).getKey(), operations.get(index).getValue(), payloadNames.get(index))))
+                .collect(Collectors.toList());
+
+        List<Node> functions = new ArrayList<>();
+        InlineSchemaRegistry inlineSchemaRegistry = ballerinaSchemaGenerator.getInlineSchemaRegistry();
+        for (ResourceFunction resourceFunction : resourceFunctions) {
+            if (resourceFunction.error != null) {
+                throw resourceFunction.error;
+            }
+            // The inline response records which are structurally identical to a record of an earlier resource are
+            // not kept, and the references to them are renamed to the earlier record. The records which have the
+            // name of a different record of an earlier resource, ex: `PetsPostResponse` for `post /pets` and
+            // `get /pets-post`, are renamed with a suffix. This is done while merging, so that the shared and the
+            // unchanged records are the ones of the first operation in the contract.
+            Map<String, String> sharedRecordNames = new HashMap<>();
+            Map<String, String> renamedRecordNames = new HashMap<>();
+            Set<String> resourceRecordNames = new HashSet<>(resourceFunction.typeInclusionRecords.keySet());
+            for (Map.Entry<String, Schema<?>> inlineRecord : resourceFunction.inlineRecordSchemas.entrySet()) {
+                String recordName = typeInclusionRecords.containsKey(inlineRecord.getKey()) ?
+                        getUniqueRecordName(inlineRecord.getKey(), resourceRecordNames) : inlineRecord.getKey();
+                String sharedRecordName = inlineSchemaRegistry.getTypeName(inlineRecord.getValue(), recordName);
+                if (!sharedRecordName.equals(recordName)) {
+                    sharedRecordNames.put(inlineRecord.getKey(), sharedRecordName);
+                } else if (!recordName.equals(inlineRecord.getKey())) {
+                    renamedRecordNames.put(inlineRecord.getKey(), recordName);
+                    resourceRecordNames.add(recordName);
+                }
+            }
+            Map<String, String> recordNames = new HashMap<>(sharedRecordNames);
+            recordNames.putAll(renamedRecordNames);
+            TypeReferenceRenamer typeReferenceRenamer = new TypeReferenceRenamer(recordNames);
+            // The inline records are ahead of the status code records referring to them
+            for (Map.Entry<String, TypeDefinitionNode> record : resourceFunction.typeInclusionRecords.entrySet()) {
+                if (sharedRecordNames.containsKey(record.getKey())) {
+                    continue;
+                }
+                TypeDefinitionNode recordNode = recordNames.isEmpty() ? record.getValue() :
+                        (TypeDefinitionNode) record.getValue().apply(typeReferenceRenamer);
+                String recordName = renamedRecordNames.getOrDefault(record.getKey(), record.getKey());
+                TypeDefinitionNode existingRecord = typeInclusionRecords.get(recordName);
+                if (existingRecord != null && existingRecord.toSourceCode().equals(recordNode.toSourceCode())) {
+                    // The status code records of the same status code and the same type are generated once
+                    continue;
+                }
+                if (existingRecord != null) {
+                    recordName = getUniqueRecordName(recordName, resourceRecordNames);
+                    resourceRecordNames.add(recordName);
+                    recordNames.put(record.getKey(), recordName);
+                }
+                if (!recordName.equals(record.getKey())) {
+                    Token typeName = recordNode.typeName();
+                    recordNode = recordNode.modify().withTypeName(createIdentifierToken(recordName,
+                            typeName.leadingMinutiae(), typeName.trailingMinutiae())).apply();
+                }
+                typeInclusionRecords.put(recordName, recordNode);
+            }
+            functions.add(recordNames.isEmpty() ? resourceFunction.functionDefinitionNode :
+                    resourceFunction.functionDefinitionNode.apply(typeReferenceRenamer));
+            moduleMembers.addAll(resourceFunction.payloadDeclarations);
+            isNullableRequired = isNullableRequired || resourceFunction.nullableRequired;
+        }
         return functions;
     }
 
+    /**
+     * Returns the given record name with the first suffix which is not used by the generated records or by the
+     * records of the resource being merged, ex: `PetsPostResponse_1`.
+     */
+    private String getUniqueRecordName(String recordName, Set<String> resourceRecordNames) {
+
+        int suffix = 1;
+        while (typeInclusionRecords.containsKey(recordName + "_" + suffix) ||
+                resourceRecordNames.contains(recordName + "_" + suffix)) {
+            suffix++;
+        }
+        return recordName + "_" + suffix;
+    }
+
+    /**
+     * Returns the name of the module level variable which keeps the serialized payload of the mock resource. The
+     * name is taken from the operation id, or from the method and the path when the operation does not have an id.
+     */
+    private static String getMockPayloadName(String path, Map.Entry<PathItem.HttpMethod, Operation> operation,
+                                             Set<String> usedPayloadNames) {
+
+        String operationName = operation.getValue().getOperationId() != null ?
+                operation.getValue().getOperationId() :
+                operation.getKey().name().toLowerCase(Locale.ENGLISH) + " " + path;
+        String payloadName = GeneratorUtils.getValidName(operationName, false);
+        if (payloadName.startsWith("'")) {
+            payloadName = payloadName.substring(1);
+        }
+        payloadName = payloadName + "MockPayload";
+        String uniquePayloadName = payloadName;
+        for (int index = 1; !usedPayloadNames.add(uniquePayloadName); index++) {
+            uniquePayloadName = payloadName + index;
+        }
+        return uniquePayloadName;
+    }
+
     private NodeList<Node> createBasePathNodeList(ListenerGenerator listener) {
 
         if (GeneratorConstants.OAS_PATH_SEPARATOR.equals(listener.getBasePath())) {
@@ -224,14 +390,11 @@ public class BallerinaServiceGenerator {
         }
     }
 
-    private List<Node> applyFiltersForOperations(Filter filter, String path,
-                                                 Map<PathItem.HttpMethod, Operation> operationMap)
-            throws BallerinaOpenApiException {
+    private List<Map.Entry<PathItem.HttpMethod, Operation>> applyFiltersForOperations(
+            Filter filter, Map<PathItem.HttpMethod, Operation> operationMap) {
 
-        List<Node> functions = new ArrayList<>();
+        List<Map.Entry<PathItem.HttpMethod, Operation>> operations = new ArrayList<>();
         for (Map.Entry<PathItem.HttpMethod, Operation> operation : operationMap.entrySet()) {
-            List<Node> resourceFunctionDocs = new ArrayList<>();
-            addFunctionDescToAPIDocs(operation, resourceFunctionDocs);
             //Add filter availability
             //1.Tag filter
             //2.Operation filter
@@ -245,38 +408,50 @@ public class BallerinaServiceGenerator {
                     if ((operationTags != null && GeneratorUtils.hasTags(operationTags, filterTags)) ||
                             ((operation.getValue().getOperationId() != null) &&
                                     filterOperations.contains(operation.getValue().getOperationId().trim()))) {
-                        // getRelative resource path
-                        List<Node> functionRelativeResourcePath = GeneratorUtils.getRelativeResourcePath(path,
-                                operation.getValue(), resourceFunctionDocs, openAPI.getComponents(),
-                                generateWithoutDataBinding);
-                        // function call
-
-                        FunctionDefinitionNode functionDefinitionNode = generateWithoutDataBinding ?
-                                generateGenericResourceFunctions(operation,
-                                        functionRelativeResourcePath, path, resourceFunctionDocs) :
-                                getResourceFunction(operation, functionRelativeResourcePath, path,
-                                        resourceFunctionDocs);
-                        functions.add(functionDefinitionNode);
+                        operations.add(operation);
                     }
                 }
             } else {
-                // getRelative resource path
-                List<Node> relativeResourcePath = GeneratorUtils.getRelativeResourcePath(path, operation.getValue(),
-                        resourceFunctionDocs, openAPI.getComponents(), generateWithoutDataBinding);
-                // function call
-                FunctionDefinitionNode resourceFunction = generateWithoutDataBinding ?
-                        generateGenericResourceFunctions(operation,
-                                relativeResourcePath, path, resourceFunctionDocs) : getResourceFunction(operation,
-                        relativeResourcePath, path, resourceFunctionDocs);
-                functions.add(resourceFunction);
+                operations.add(operation);
             }
         }
-        return functions;
+        return operations;
+    }
+
+    /**
+     * Generate the resource function for the given operation. This only reads the shared generator state, so it is
+     * safe to call for several operations at the same time.
+     */
+    private ResourceFunction generateResourceFunction(String path,
+                                                      Map.Entry<PathItem.HttpMethod, Operation> operation,
+                                                      String payloadName) {
+
+        try {
+            List<Node> resourceFunctionDocs = new ArrayList<>();
+            addFunctionDescToAPIDocs(operation, resourceFunctionDocs);
+            // getRelative resource path
+            List<Node> relativeResourcePath = GeneratorUtils.getRelativeResourcePath(path, operation.getValue(),
+                    resourceFunctionDocs, openAPI.getComponents(), generateWithoutDataBinding);
+            // function call
+            List<ModuleMemberDeclarationNode> payloadDeclarations = new ArrayList<>();
+            return generateWithoutDataBinding ?
+                    new ResourceFunction(generateGenericResourceFunctions(operation, relativeResourcePath, path,
+                            resourceFunctionDocs, payloadName, payloadDeclarations), new LinkedHashMap<>(),
+                            new LinkedHashMap<>(), false, payloadDeclarations) :
+                    getResourceFunction(operation, relativeResourcePath, path, resourceFunctionDocs, payloadName,
+                            payloadDeclarations);
+        } catch (BallerinaOpenApiException e) {
+            return new ResourceFunction(e);
+        }
     }
 
     private FunctionDefinitionNode generateGenericResourceFunctions(Map.Entry<PathItem.HttpMethod, Operation> operation,
                                                                     List<Node> pathNodes, String path,
-                                                                    List<Node> resourceFunctionDocs) {
+                                                                    List<Node> resourceFunctionDocs,
+                                                                    String payloadName,
+                                                                    List<ModuleMemberDeclarationNode>
+                                                                            payloadDeclarations)
+            throws BallerinaOpenApiException {
         NodeList<Token> qualifiersList = createNodeList(createIdentifierToken(GeneratorConstants.RESOURCE,
                 GeneratorUtils.SINGLE_WS_MINUTIAE, GeneratorUtils.SINGLE_WS_MINUTIAE));
         Token functionKeyWord = createIdentifierToken(GeneratorConstants.FUNCTION, GeneratorUtils.SINGLE_WS_MINUTIAE,
@@ -305,6 +480,9 @@ public class BallerinaServiceGenerator {
         ReturnTypeDescriptorNode returnTypeDescriptorNode =
                 createReturnTypeDescriptorNode(createToken(SyntaxKind.RETURNS_KEYWORD), createEmptyNodeList(),
                         createSimpleNameReferenceNode(createIdentifierToken("error?")));
+        List<StatementNode> bodyStatements = mock ?
+                mockResponseGenerator.getMockResourceStatements(operation.getValue(), payloadName, true,
+                        payloadDeclarations) : new ArrayList<>();
 
         // create function signature
         FunctionSignatureNode functionSignatureNode = createFunctionSignatureNode(createToken(
@@ -313,7 +491,7 @@ public class BallerinaServiceGenerator {
         // create function body
         FunctionBodyBlockNode functionBodyBlockNode = createFunctionBodyBlockNode(
                 createToken(SyntaxKind.OPEN_BRACE_TOKEN),
-                null, createEmptyNodeList(),
+                null, createNodeList(bodyStatements),
                 createToken(SyntaxKind.CLOSE_BRACE_TOKEN), null);
 
         return createFunctionDefinitionNode(SyntaxKind.RESOURCE_ACCESSOR_DEFINITION, null,
@@ -327,12 +505,15 @@ public class BallerinaServiceGenerator {
      *
      * @param operation -  OAS operation
      * @param pathNodes -  Relative path nodes
-     * @return - {@link FunctionDefinitionNode} relevant resource
+     * @param payloadName - Name of the serialized payload of the mock resource
+     * @param payloadDeclarations - List to which the serialized payload of the mock resource is added
+     * @return - {@link ResourceFunction} relevant resource with the records generated for it
      * @throws BallerinaOpenApiException when the process failure occur
      */
-    private FunctionDefinitionNode getResourceFunction(Map.Entry<PathItem.HttpMethod, Operation> operation,
-                                                       List<Node> pathNodes, String path,
-                                                       List<Node> resourceFunctionDocs)
+    private ResourceFunction getResourceFunction(Map.Entry<PathItem.HttpMethod, Operation> operation,
+                                                 List<Node> pathNodes, String path,
+                                                 List<Node> resourceFunctionDocs, String payloadName,
+                                                 List<ModuleMemberDeclarationNode> payloadDeclarations)
             throws BallerinaOpenApiException {
 
         NodeList<Token> qualifiersList = createNodeList(createIdentifierToken(GeneratorConstants.RESOURCE,
@@ -377,29 +558,34 @@ public class BallerinaServiceGenerator {
             params.remove(params.size() - 1);
         }
 
-        if (!isNullableRequired) {
-            isNullableRequired = parametersGenerator.isNullableRequired();
-        }
         SeparatedNodeList<ParameterNode> parameters = createSeparatedNodeList(params);
         String pathForRecord = Objects.equals(path, SLASH) || Objects.equals(path, CATCH_ALL_PATH) ? "" :
                 GeneratorUtils.getValidName(path, true);
         ReturnTypeGenerator returnTypeGenerator = new ReturnTypeGenerator(ballerinaSchemaGenerator, pathForRecord,
                 openAPI);
-        if (!paths.contains(path)) {
-            returnTypeGenerator.setCountForRecord(0);
-            paths.add(path);
+        ReturnTypeDescriptorNode returnNode;
+        List<StatementNode> bodyStatements;
+        if (mock) {
+            // The mock resource sends the example response of the operation which is computed at the generation time
+            returnNode = createReturnTypeDescriptorNode(createToken(SyntaxKind.RETURNS_KEYWORD), createEmptyNodeList(),
+                    createSimpleNameReferenceNode(createIdentifierToken(HTTP_RESPONSE)));
+            resourceFunctionDocs.add(DocCommentsGenerator.createAPIParamDoc(SyntaxKind.RETURN_KEYWORD.stringValue(),
+                    "Mock response of the operation"));
+            bodyStatements = mockResponseGenerator.getMockResourceStatements(operation.getValue(), payloadName, false,
+                    payloadDeclarations);
+        } else {
+            returnNode = returnTypeGenerator.getReturnTypeDescriptorNode(operation, createEmptyNodeList(), path,
+                    resourceFunctionDocs);
+            // If path parameter has some special characters, extra body statements are added to handle the
+            // complexity.
+            bodyStatements = GeneratorUtils.generateBodyStatementForComplexUrl(path);
         }
-        ReturnTypeDescriptorNode returnNode = returnTypeGenerator.getReturnTypeDescriptorNode(operation,
-                createEmptyNodeList(), path, resourceFunctionDocs);
-        typeInclusionRecords.putAll(returnTypeGenerator.getTypeInclusionRecords());
 
         FunctionSignatureNode functionSignatureNode = createFunctionSignatureNode(
                 createToken(SyntaxKind.OPEN_PAREN_TOKEN),
                 parameters, createToken(SyntaxKind.CLOSE_PAREN_TOKEN), returnNode);
 
         // Function Body Node
-        // If path parameter has some special characters, extra body statements are added to handle the complexity.
-        List<StatementNode> bodyStatements = GeneratorUtils.generateBodyStatementForComplexUrl(path);
         FunctionBodyBlockNode functionBodyBlockNode = createFunctionBodyBlockNode(
                 createToken(SyntaxKind.OPEN_BRACE_TOKEN),
                 null,
@@ -412,9 +598,12 @@ public class BallerinaServiceGenerator {
         MetadataNode metadataNode = createMetadataNode(createMarkdownDocumentationNode(
                 createNodeList(resourceFunctionDocs)), createNodeList(annotationNodes));
 
-        return createFunctionDefinitionNode(SyntaxKind.RESOURCE_ACCESSOR_DEFINITION, metadataNode,
-                qualifiersList, functionKeyWord, functionName, relativeResourcePath, functionSignatureNode,
-                functionBodyBlockNode);
+        FunctionDefinitionNode functionDefinitionNode = createFunctionDefinitionNode(
+                SyntaxKind.RESOURCE_ACCESSOR_DEFINITION, metadataNode, qualifiersList, functionKeyWord, functionName,
+                relativeResourcePath, functionSignatureNode, functionBodyBlockNode);
+        return new ResourceFunction(functionDefinitionNode, returnTypeGenerator.getTypeInclusionRecords(),
+                returnTypeGenerator.getInlineRecordSchemas(), parametersGenerator.isNullableRequired(),
+                payloadDeclarations);
     }
 
     private static void addFunctionDescToAPIDocs(Map.Entry<PathItem.HttpMethod, Operation> operation,
@@ -444,4 +633,67 @@ public class BallerinaServiceGenerator {
         }
         return requestBody;
     }
+
+    /**
+     * Renames the references to the inline records which are not kept to the structurally identical records used
+     * instead, and the references to the records which are renamed to avoid a clash with an earlier record.
+     */
+    private static class TypeReferenceRenamer extends TreeModifier {
+
+        private final Map<String, String> sharedRecordNames;
+
+        TypeReferenceRenamer(Map<String, String> sharedRecordNames) {
+
+            this.sharedRecordNames = sharedRecordNames;
+        }
+
+        @Override
+        public SimpleNameReferenceNode transform(SimpleNameReferenceNode simpleNameReferenceNode) {
+
+            Token name = simpleNameReferenceNode.name();
+            String sharedRecordName = sharedRecordNames.get(name.text().trim());
+            if (sharedRecordName == null) {
+                return simpleNameReferenceNode;
+            }
+            return simpleNameReferenceNode.modify().withName(createIdentifierToken(sharedRecordName,
+                    name.leadingMinutiae(), name.trailingMinutiae())).apply();
+        }
+    }
+
+    /**
+     * Holds the resource function generated for an operation together with the records generated for it, until the
+     * results of all the operations are merged.
+     */
+    private static class ResourceFunction {
+
+        private final FunctionDefinitionNode functionDefinitionNode;
+        private final Map<String, TypeDefinitionNode> typeInclusionRecords;
+        private final Map<String, Schema<?>> inlineRecordSchemas;
+        private final boolean nullableRequired;
+        private final List<ModuleMemberDeclarationNode> payloadDeclarations;
+        private final BallerinaOpenApiException error;
+
+        ResourceFunction(FunctionDefinitionNode functionDefinitionNode,
+                         Map<String, TypeDefinitionNode> typeInclusionRecords,
+                         Map<String, Schema<?>> inlineRecordSchemas, boolean nullableRequired,
+                         List<ModuleMemberDeclarationNode> payloadDeclarations) {
+
+            this.functionDefinitionNode = functionDefinitionNode;
+            this.typeInclusionRecords = typeInclusionRecords;
+            this.inlineRecordSchemas = inlineRecordSchemas;
+            this.nullableRequired = nullableRequired;
+            this.payloadDeclarations = payloadDeclarations;
+            this.error = null;
+        }
+
+        ResourceFunction(BallerinaOpenApiException error) {
+
+            this.functionDefinitionNode = null;
+            this.typeInclusionRecords = null;
+            this.inlineRecordSchemas = null;
+            this.nullableRequired = false;
+            this.payloadDeclarations = null;
+            this.error = error;
+        }
+    }
 }
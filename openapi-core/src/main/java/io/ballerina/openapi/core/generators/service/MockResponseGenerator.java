@@ -0,0 +1,466 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.openapi.core.GeneratorConstants;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static io.ballerina.openapi.core.GeneratorConstants.APPLICATION_JSON;
+import static io.ballerina.openapi.core.GeneratorConstants.TEXT;
+
+/**
+ * This class generates the body of a mock resource function. The response of the mock resource is computed at the
+ * generation time from the first success response of the operation. The payload is taken from the `example` or the
+ * `examples` of the response media type, and when the contract does not have an example it is built from the
+ * response schema. The payload is serialized at the generation time and kept in a module level `readonly` byte
+ * array, so that the mock resource does not build or serialize the payload for each request.
+ * <pre>
+ *     # Pre-serialized `application/json` payload of the `showPetById` mock response
+ *     final readonly &amp; byte[] showPetByIdMockPayload = base64 `eyJpZCI6MSwibmFtZSI6InN0cmluZyJ9`;
+ *
+ *     resource function get pets/[string petId]() returns http:Response {
+ *         if mockLatency > 0d {
+ *             runtime:sleep(mockLatency);
+ *         }
+ *         http:Response response = new;
+ *         response.statusCode = 200;
+ *         response.setBinaryPayload(showPetByIdMockPayload, "application/json");
+ *         return response;
+ *     }
+ * </pre>
+ *
+ * @since 1.9.0
+ */
+public class MockResponseGenerator {
+
+    public static final String MOCK_LATENCY = "mockLatency";
+    public static final String MOCK_SERVICE_PORT = "mockServicePort";
+    private static final int MAX_SCHEMA_DEPTH = 8;
+    private static final List<String> PATTERN_CANDIDATES = List.of("string", "a", "A", "0", "1", "abc", "ABC", "123",
+            "a1", "A1", "a-1", "a_1", "a.b");
+
+    private final OpenAPI openAPI;
+
+    public MockResponseGenerator(OpenAPI openAPI) {
+
+        this.openAPI = openAPI;
+    }
+
+    /**
+     * Generate the statements of the mock resource function for the given operation.
+     *
+     * @param operation           OAS operation
+     * @param payloadName         name of the module level variable which keeps the serialized payload
+     * @param respondCaller       whether the response is sent through the `http:Caller` instead of returning it
+     * @param payloadDeclarations list to which the declaration of the serialized payload is added
+     * @return statements of the resource function body
+     * @throws BallerinaOpenApiException when the response reference can not be resolved
+     */
+    public List<StatementNode> getMockResourceStatements(Operation operation, String payloadName,
+                                                         boolean respondCaller,
+                                                         List<ModuleMemberDeclarationNode> payloadDeclarations)
+            throws BallerinaOpenApiException {
+
+        List<StatementNode> statements = new ArrayList<>();
+        statements.add(NodeParser.parseStatement(String.format("if %s > 0d { runtime:sleep(%s); }",
+                MOCK_LATENCY, MOCK_LATENCY)));
+        statements.add(NodeParser.parseStatement("http:Response response = new;"));
+        Map.Entry<String, ApiResponse> response = getMockResponse(operation);
+        String statusCode = response == null || response.getKey().trim().equals(GeneratorConstants.DEFAULT) ?
+                GeneratorConstants.HTTP_200 : response.getKey().trim();
+        statements.add(NodeParser.parseStatement("response.statusCode = " + statusCode + ";"));
+        if (response != null && response.getValue().getContent() != null &&
+                !response.getValue().getContent().isEmpty()) {
+            Map.Entry<String, MediaType> mediaType = response.getValue().getContent().entrySet().iterator().next();
+            String mediaTypeName = mediaType.getKey().trim();
+            byte[] payload = getSerializedPayload(mediaTypeName, mediaType.getValue());
+            if (payload != null) {
+                payloadDeclarations.add(NodeParser.parseModuleMemberDeclaration(String.format(
+                        "# Pre-serialized `%s` payload of the `%s` mock response\n" +
+                                "final readonly & byte[] %s = base64 `%s`;", mediaTypeName, payloadName,
+                        payloadName, Base64.getEncoder().encodeToString(payload))));
+                statements.add(NodeParser.parseStatement(String.format("response.setBinaryPayload(%s, %s);",
+                        payloadName, GeneratorUtils.toStringLiteral(mediaTypeName))));
+            }
+        }
+        statements.add(NodeParser.parseStatement(respondCaller ? "check caller->respond(response);" :
+                "return response;"));
+        return statements;
+    }
+
+    /**
+     * Returns the media type and the example payload of the success response of the given operation, which is the
+     * payload sent by its mock resource. Empty is returned when the operation does not have a success response with
+     * a payload.
+     *
+     * @param operation OAS operation
+     * @return media type of the response mapped to the example payload
+     * @throws BallerinaOpenApiException when the response reference can not be resolved
+     */
+    public Optional<Map.Entry<String, JsonNode>> getSuccessResponseExample(Operation operation)
+            throws BallerinaOpenApiException {
+
+        Map.Entry<String, ApiResponse> response = getMockResponse(operation);
+        if (response == null || !response.getKey().trim().startsWith("2")) {
+            return Optional.empty();
+        }
+        return getContentExample(response.getValue().getContent());
+    }
+
+    /**
+     * Returns the media type and the example payload of the request body of the given operation. Empty is returned
+     * when the operation does not have a request body.
+     *
+     * @param operation OAS operation
+     * @return media type of the request body mapped to the example payload
+     * @throws BallerinaOpenApiException when the request body reference can not be resolved
+     */
+    public Optional<Map.Entry<String, JsonNode>> getRequestExample(Operation operation)
+            throws BallerinaOpenApiException {
+
+        RequestBody requestBody = operation.getRequestBody();
+        if (requestBody != null && requestBody.get$ref() != null) {
+            String requestBodyName = GeneratorUtils.extractReferenceType(requestBody.get$ref());
+            requestBody = openAPI.getComponents() == null || openAPI.getComponents().getRequestBodies() == null ?
+                    null : openAPI.getComponents().getRequestBodies().get(requestBodyName);
+            if (requestBody == null) {
+                throw new BallerinaOpenApiException(String.format("Undefined request body reference: %s",
+                        operation.getRequestBody().get$ref()));
+            }
+        }
+        return requestBody == null ? Optional.empty() : getContentExample(requestBody.getContent());
+    }
+
+    /**
+     * Returns the first media type of the given content together with its example.
+     */
+    private Optional<Map.Entry<String, JsonNode>> getContentExample(Content content)
+            throws BallerinaOpenApiException {
+
+        if (content == null || content.isEmpty()) {
+            return Optional.empty();
+        }
+        Map.Entry<String, MediaType> mediaType = content.entrySet().iterator().next();
+        JsonNode example = getExample(mediaType.getValue());
+        return example == null ? Optional.empty() : Optional.of(Map.entry(mediaType.getKey().trim(), example));
+    }
+
+    /**
+     * Returns the response which is sent by the mock resource. The first success response is preferred, then the
+     * `default` response and then the first response of the operation.
+     */
+    private Map.Entry<String, ApiResponse> getMockResponse(Operation operation) throws BallerinaOpenApiException {
+
+        if (operation.getResponses() == null || operation.getResponses().isEmpty()) {
+            return null;
+        }
+        Map.Entry<String, ApiResponse> mockResponse = null;
+        for (Map.Entry<String, ApiResponse> response : operation.getResponses().entrySet()) {
+            String code = response.getKey().trim();
+            if (code.startsWith("2")) {
+                mockResponse = response;
+                break;
+            } else if (code.equals(GeneratorConstants.DEFAULT) ||
+                    (mockResponse == null && GeneratorConstants.HTTP_CODES_DES.containsKey(code))) {
+                mockResponse = response;
+            }
+        }
+        if (mockResponse != null && mockResponse.getValue().get$ref() != null) {
+            String responseName = GeneratorUtils.extractReferenceType(mockResponse.getValue().get$ref());
+            ApiResponse resolvedResponse = openAPI.getComponents() == null ||
+                    openAPI.getComponents().getResponses() == null ? null :
+                    openAPI.getComponents().getResponses().get(responseName);
+            if (resolvedResponse == null) {
+                throw new BallerinaOpenApiException(String.format("Undefined response reference: %s",
+                        mockResponse.getValue().get$ref()));
+            }
+            mockResponse = Map.entry(mockResponse.getKey(), resolvedResponse);
+        }
+        return mockResponse;
+    }
+
+    /**
+     * Returns the example payload of the mock response serialized for the media type, or null when an example can
+     * not be given for the media type.
+     */
+    private byte[] getSerializedPayload(String mediaTypeName, MediaType mediaType)
+            throws BallerinaOpenApiException {
+
+        JsonNode example = getExample(mediaType);
+        String mediaTypeContent = ServiceGenerationUtils.selectMediaType(mediaTypeName);
+        if (mediaTypeContent.equals(APPLICATION_JSON)) {
+            try {
+                return Json.mapper().writeValueAsBytes(example == null ? NullNode.getInstance() : example);
+            } catch (JsonProcessingException e) {
+                throw new BallerinaOpenApiException("Failed to serialize the mock payload", e);
+            }
+        } else if (example != null && (mediaTypeContent.equals(TEXT) || example.isTextual())) {
+            String text = example.isTextual() ? example.asText() : example.toString();
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the example of the media type. The `example` of the media type is used first, then the first of the
+     * `examples` and then an example built from the schema.
+     */
+    private JsonNode getExample(MediaType mediaType) throws BallerinaOpenApiException {
+
+        if (mediaType.getExample() != null) {
+            return Json.mapper().valueToTree(mediaType.getExample());
+        }
+        if (mediaType.getExamples() != null && !mediaType.getExamples().isEmpty()) {
+            Example example = mediaType.getExamples().values().iterator().next();
+            if (example.get$ref() != null && openAPI.getComponents() != null &&
+                    openAPI.getComponents().getExamples() != null) {
+                example = openAPI.getComponents().getExamples().get(
+                        GeneratorUtils.extractReferenceType(example.get$ref()));
+            }
+            if (example != null && example.getValue() != null) {
+                return Json.mapper().valueToTree(example.getValue());
+            }
+        }
+        if (mediaType.getSchema() == null) {
+            return null;
+        }
+        return getSchemaExample(mediaType.getSchema(), new HashSet<>(), 0);
+    }
+
+    /**
+     * Build an example value for the given schema, which satisfies the constraints of the schema. Recursive
+     * references and deeply nested schemas are given as `null`.
+     */
+    private JsonNode getSchemaExample(Schema<?> schema, Set<String> visitedReferences, int depth)
+            throws BallerinaOpenApiException {
+
+        JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+        if (schema == null || depth > MAX_SCHEMA_DEPTH) {
+            return nodeFactory.nullNode();
+        }
+        if (schema.get$ref() != null) {
+            String schemaName = GeneratorUtils.extractReferenceType(schema.get$ref());
+            if (visitedReferences.contains(schemaName) || openAPI.getComponents() == null ||
+                    openAPI.getComponents().getSchemas() == null) {
+                return nodeFactory.nullNode();
+            }
+            visitedReferences.add(schemaName);
+            JsonNode example = getSchemaExample(openAPI.getComponents().getSchemas().get(schemaName),
+                    visitedReferences, depth + 1);
+            visitedReferences.remove(schemaName);
+            return example;
+        }
+        if (schema.getExample() != null) {
+            return Json.mapper().valueToTree(schema.getExample());
+        }
+        if (schema.getEnum() != null && !schema.getEnum().isEmpty()) {
+            return Json.mapper().valueToTree(schema.getEnum().get(0));
+        }
+        if (schema.getDefault() != null) {
+            return Json.mapper().valueToTree(schema.getDefault());
+        }
+        if (schema instanceof ComposedSchema) {
+            ComposedSchema composedSchema = (ComposedSchema) schema;
+            if (composedSchema.getAllOf() != null) {
+                ObjectNode objectNode = nodeFactory.objectNode();
+                for (Schema<?> member : composedSchema.getAllOf()) {
+                    JsonNode memberExample = getSchemaExample(member, visitedReferences, depth + 1);
+                    if (memberExample.isObject()) {
+                        objectNode.setAll((ObjectNode) memberExample);
+                    }
+                }
+                return objectNode;
+            } else if (composedSchema.getOneOf() != null && !composedSchema.getOneOf().isEmpty()) {
+                return getSchemaExample(composedSchema.getOneOf().get(0), visitedReferences, depth + 1);
+            } else if (composedSchema.getAnyOf() != null && !composedSchema.getAnyOf().isEmpty()) {
+                return getSchemaExample(composedSchema.getAnyOf().get(0), visitedReferences, depth + 1);
+            }
+        }
+        String type = schema.getType();
+        if (schema.getProperties() != null || GeneratorConstants.OBJECT.equals(type)) {
+            ObjectNode objectNode = nodeFactory.objectNode();
+            if (schema.getProperties() != null) {
+                for (Map.Entry<String, Schema> property : schema.getProperties().entrySet()) {
+                    objectNode.set(property.getKey(), getSchemaExample(property.getValue(), visitedReferences,
+                            depth + 1));
+                }
+            }
+            return objectNode;
+        }
+        if (type == null) {
+            return nodeFactory.nullNode();
+        }
+        switch (type) {
+            case GeneratorConstants.ARRAY:
+                ArrayNode arrayNode = nodeFactory.arrayNode();
+                int itemCount = schema.getMinItems() == null ? 1 : Math.max(schema.getMinItems(), 1);
+                if (schema.getMaxItems() != null) {
+                    itemCount = Math.min(itemCount, schema.getMaxItems());
+                }
+                for (int index = 0; index < itemCount; index++) {
+                    arrayNode.add(getSchemaExample(schema.getItems(), visitedReferences, depth + 1));
+                }
+                return arrayNode;
+            case GeneratorConstants.INTEGER:
+                return nodeFactory.numberNode(getNumberExample(schema, true).longValue());
+            case GeneratorConstants.NUMBER:
+                return nodeFactory.numberNode(getNumberExample(schema, false).doubleValue());
+            case GeneratorConstants.BOOLEAN:
+                return nodeFactory.booleanNode(true);
+            case GeneratorConstants.STRING:
+                return nodeFactory.textNode(getStringExample(schema));
+            default:
+                return nodeFactory.nullNode();
+        }
+    }
+
+    /**
+     * Returns `1`, or the closest value to `1` which is within the `minimum` and the `maximum` of the schema.
+     */
+    private static BigDecimal getNumberExample(Schema<?> schema, boolean isInteger) {
+
+        BigDecimal minimum = schema.getMinimum();
+        boolean isExclusiveMinimum = Boolean.TRUE.equals(schema.getExclusiveMinimum());
+        if (minimum == null && schema.getExclusiveMinimumValue() != null) {
+            minimum = schema.getExclusiveMinimumValue();
+            isExclusiveMinimum = true;
+        }
+        BigDecimal maximum = schema.getMaximum();
+        boolean isExclusiveMaximum = Boolean.TRUE.equals(schema.getExclusiveMaximum());
+        if (maximum == null && schema.getExclusiveMaximumValue() != null) {
+            maximum = schema.getExclusiveMaximumValue();
+            isExclusiveMaximum = true;
+        }
+        BigDecimal example = BigDecimal.ONE;
+        if (minimum != null && (example.compareTo(minimum) < 0 ||
+                isExclusiveMinimum && example.compareTo(minimum) == 0)) {
+            example = isInteger ? minimum.setScale(0, RoundingMode.CEILING) : minimum;
+            if (isExclusiveMinimum && example.compareTo(minimum) == 0) {
+                example = example.add(BigDecimal.ONE);
+            }
+        }
+        if (maximum != null && (example.compareTo(maximum) > 0 ||
+                isExclusiveMaximum && example.compareTo(maximum) == 0)) {
+            if (isInteger) {
+                example = maximum.setScale(0, RoundingMode.FLOOR);
+                if (isExclusiveMaximum && example.compareTo(maximum) == 0) {
+                    example = example.subtract(BigDecimal.ONE);
+                }
+            } else if (minimum != null) {
+                example = minimum.add(maximum).divide(BigDecimal.valueOf(2));
+            } else {
+                example = isExclusiveMaximum ? maximum.subtract(BigDecimal.ONE) : maximum;
+            }
+        }
+        return example;
+    }
+
+    /**
+     * Returns an example for the format of the string schema, which is fitted to the `minLength` and the `maxLength`
+     * of the schema. When the schema has a `pattern`, the first of a few common values which matches the pattern is
+     * given instead. The example of the format is given when none of them matches the pattern.
+     */
+    private static String getStringExample(Schema<?> schema) {
+
+        String formatExample = getFormatExample(schema.getFormat());
+        if (schema.getPattern() != null) {
+            try {
+                Pattern pattern = Pattern.compile(schema.getPattern());
+                List<String> candidates = new ArrayList<>(List.of(formatExample));
+                candidates.addAll(PATTERN_CANDIDATES);
+                for (String candidate : candidates) {
+                    String example = fitLength(candidate, schema.getMinLength(), schema.getMaxLength());
+                    if (pattern.matcher(example).find()) {
+                        return example;
+                    }
+                }
+            } catch (PatternSyntaxException e) {
+                // The patterns which are not supported by Java are not applied to the example
+            }
+        }
+        return fitLength(formatExample, schema.getMinLength(), schema.getMaxLength());
+    }
+
+    /**
+     * Repeats the given text up to the `minLength` and cuts it down to the `maxLength`.
+     */
+    private static String fitLength(String text, Integer minLength, Integer maxLength) {
+
+        StringBuilder example = new StringBuilder(text);
+        while (minLength != null && example.length() < minLength) {
+            example.append(text.charAt((example.length() - text.length()) % text.length()));
+        }
+        if (maxLength != null && example.length() > maxLength) {
+            example.setLength(Math.max(maxLength, 0));
+        }
+        return example.toString();
+    }
+
+    private static String getFormatExample(String format) {
+
+        if (format == null) {
+            return "string";
+        }
+        switch (format) {
+            case "date":
+                return "2023-01-01";
+            case "date-time":
+                return "2023-01-01T00:00:00Z";
+            case "uuid":
+                return "3fa85f64-5717-4562-b3fc-2c963f66afa6";
+            case "email":
+                return "user@example.com";
+            default:
+                return "string";
+        }
+    }
+}
@@ -48,13 +48,14 @@ import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
@@ -82,6 +83,7 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
 import static io.ballerina.openapi.core.GeneratorConstants.ANYDATA;
 import static io.ballerina.openapi.core.GeneratorConstants.DEFAULT_RETURN_COMMENT;
 import static io.ballerina.openapi.core.GeneratorConstants.ERROR;
+import static io.ballerina.openapi.core.GeneratorConstants.GET;
 import static io.ballerina.openapi.core.GeneratorConstants.HTTP_RESPONSE;
 import static io.ballerina.openapi.core.GeneratorConstants.PIPE;
 import static io.ballerina.openapi.core.GeneratorConstants.POST;
@@ -99,22 +101,22 @@ public class ReturnTypeGenerator {
 
     private final BallerinaTypesGenerator ballerinaSchemaGenerator;
     private final String pathRecord;
-    private static int countForRecord = 0;
     private String httpMethod;
+    private boolean hasMultipleResponses;
     private OpenAPI openAPI;
 
-    private final Map<String, TypeDefinitionNode> typeInclusionRecords = new HashMap<>();
+    private final Map<String, TypeDefinitionNode> typeInclusionRecords = new LinkedHashMap<>();
+    private final Map<String, Schema<?>> inlineRecordSchemas = new LinkedHashMap<>();
 
     public Map<String, TypeDefinitionNode> getTypeInclusionRecords() {
         return this.typeInclusionRecords;
     }
 
-    public static void setCount(int count) {
-        ReturnTypeGenerator.countForRecord = count;
-    }
-
-    public void setCountForRecord(int count) {
-        setCount(count);
+    /**
+     * Returns the inline response schemas for which a record is generated, mapped by the names of the records.
+     */
+    public Map<String, Schema<?>> getInlineRecordSchemas() {
+        return this.inlineRecordSchemas;
     }
 
     public ReturnTypeGenerator(BallerinaTypesGenerator ballerinaSchemaGenerator, String pathRecord, OpenAPI openAPI) {
@@ -142,6 +144,7 @@ public class ReturnTypeGenerator {
         httpMethod = operation.getKey().name().toLowerCase(Locale.ENGLISH);
         if (operation.getValue().getResponses() != null) {
             ApiResponses responses = operation.getValue().getResponses();
+            hasMultipleResponses = responses.size() > 1;
             if (responses.size() > 1) {
                 //handle multiple response scenarios ex: status code 200, 400, 500
                 TypeDescriptorNode type = handleMultipleResponse(responses, returnDescriptions);
@@ -230,13 +233,10 @@ public class ReturnTypeGenerator {
         } else if (responseContent != null) {
             // when the response has content values
             String responseCode = response.getKey().trim();
-            boolean isWithOutStatusCode =
-                    (httpMethod.equals(POST) && responseCode.equals(GeneratorConstants.HTTP_201)) ||
-                            (!httpMethod.equals(POST) && responseCode.equals(GeneratorConstants.HTTP_200));
-            if (isWithOutStatusCode) {
+            if (isWithOutStatusCode(responseCode)) {
                 // handle 200, 201 status code
                 Set<Map.Entry<String, MediaType>> contentEntries = responseContent.entrySet();
-                returnNode = getReturnNodeForSchemaType(contentEntries);
+                returnNode = getReturnNodeForSchemaType(contentEntries, responseCode);
             } else if (response.getKey().trim().equals(GeneratorConstants.DEFAULT)) {
                 // handle status code with `default`, this maps to `http:Response`
                 BuiltinSimpleNameReferenceNode type = createBuiltinSimpleNameReferenceNode(null,
@@ -249,18 +249,18 @@ public class ReturnTypeGenerator {
 
                 if (responseContent.entrySet().size() > 1) {
                     // handle multiple media types
-                    type = handleMultipleContents(responseContent.entrySet());
+                    type = handleMultipleContents(responseContent.entrySet(), responseCode);
                 } else {
                     // handle single media type
                     Iterator<Map.Entry<String, MediaType>> contentItr = responseContent.entrySet().iterator();
                     Map.Entry<String, MediaType> mediaTypeEntry = contentItr.next();
-                    String recordName = getNewRecordName();
+                    String recordName = getNewRecordName(responseCode, 0);
                     ImmutablePair<Optional<TypeDescriptorNode>, Optional<TypeDefinitionNode>> mediaTypeToken =
                             handleMediaType(mediaTypeEntry, recordName);
                     Optional<TypeDefinitionNode> rightNode = mediaTypeToken.right;
                     if (rightNode.isPresent()) {
                         typeInclusionRecords.put(recordName, rightNode.get());
-                        setCountForRecord(countForRecord++);
+                        inlineRecordSchemas.put(recordName, mediaTypeEntry.getValue().getSchema());
                         type = createSimpleNameReferenceNode(createIdentifierToken(recordName));
                     } else {
                         type = mediaTypeToken.left.orElseGet(
@@ -281,8 +281,10 @@ public class ReturnTypeGenerator {
      * This util function is for handling the response which has 200 status code with content types.
      *
      * @param contentEntries collection of content entries
+     * @param responseCode   status code of the response
      */
-    private ReturnTypeDescriptorNode getReturnNodeForSchemaType(Set<Map.Entry<String, MediaType>> contentEntries)
+    private ReturnTypeDescriptorNode getReturnNodeForSchemaType(Set<Map.Entry<String, MediaType>> contentEntries,
+                                                                String responseCode)
             throws BallerinaOpenApiException {
 
         Token returnKeyWord = createToken(RETURNS_KEYWORD);
@@ -290,11 +292,11 @@ public class ReturnTypeGenerator {
 
         int contentTypeNumber = contentEntries.size();
         if (contentTypeNumber > 1) {
-            TypeDescriptorNode type = handleMultipleContents(contentEntries);
+            TypeDescriptorNode type = handleMultipleContents(contentEntries, responseCode);
             returnNode = createReturnTypeDescriptorNode(returnKeyWord, createEmptyNodeList(), type);
         } else {
             for (Map.Entry<String, MediaType> next : contentEntries) {
-                String recordName = getNewRecordName();
+                String recordName = getNewRecordName(responseCode, 0);
                 ImmutablePair<Optional<TypeDescriptorNode>, Optional<TypeDefinitionNode>>
                         mediaTypeToken = handleMediaType(next, recordName);
                 // right node represents the newly generated node for if there is an inline record in the returned
@@ -303,7 +305,7 @@ public class ReturnTypeGenerator {
 
                 if (rightNode.isPresent()) {
                     typeInclusionRecords.put(recordName, rightNode.get());
-                    setCountForRecord(countForRecord++);
+                    inlineRecordSchemas.put(recordName, next.getValue().getSchema());
                     SimpleNameReferenceNode type = createSimpleNameReferenceNode(createIdentifierToken(recordName));
                     returnNode = createReturnTypeDescriptorNode(returnKeyWord, createEmptyNodeList(), type);
                 } else {
@@ -351,12 +353,9 @@ public class ReturnTypeGenerator {
                         code);
                 typeName = node.toSourceCode();
             } else if (content != null) {
-                TypeDescriptorNode bodyType = handleMultipleContents(content.entrySet());
+                TypeDescriptorNode bodyType = handleMultipleContents(content.entrySet(), responseCode);
                 //Check the default behaviour for return type according to POST method.
-                boolean isWithOutStatusCode =
-                        (httpMethod.equals(POST) && responseCode.equals(GeneratorConstants.HTTP_201)) ||
-                                (!httpMethod.equals(POST) && responseCode.equals(GeneratorConstants.HTTP_200));
-                if (isWithOutStatusCode) {
+                if (isWithOutStatusCode(responseCode)) {
                     typeName = bodyType.toSourceCode();
                 } else {
                     SimpleNameReferenceNode node = createReturnTypeInclusionRecord(code, bodyType);
@@ -381,11 +380,13 @@ public class ReturnTypeGenerator {
     /**
      * Generate union type node when response has multiple content types.
      */
-    private TypeDescriptorNode handleMultipleContents(Set<Map.Entry<String, MediaType>> contentEntries)
+    private TypeDescriptorNode handleMultipleContents(Set<Map.Entry<String, MediaType>> contentEntries,
+                                                      String responseCode)
             throws BallerinaOpenApiException {
         Set<String> qualifiedNodes = new LinkedHashSet<>();
+        int mediaTypeIndex = 0;
         for (Map.Entry<String, MediaType> contentType : contentEntries) {
-            String recordName = getNewRecordName();
+            String recordName = getNewRecordName(responseCode, mediaTypeIndex++);
             ImmutablePair<Optional<TypeDescriptorNode>, Optional<TypeDefinitionNode>> mediaTypeToken =
                     handleMediaType(contentType, recordName);
 
@@ -397,7 +398,7 @@ public class ReturnTypeGenerator {
                 qualifiedNodes.add(httpResponse.name().text());
             } else if (rightNode.isPresent()) {
                 typeInclusionRecords.put(recordName, rightNode.get());
-                setCountForRecord(countForRecord++);
+                inlineRecordSchemas.put(recordName, contentType.getValue().getSchema());
                 qualifiedNodes.add(createSimpleNameReferenceNode(createIdentifierToken(recordName)).toSourceCode());
             } else {
                 TypeDescriptorNode typeDescriptorNode = leftNode.get();
@@ -415,16 +416,51 @@ public class ReturnTypeGenerator {
         return NodeParser.parseTypeDescriptor(unionType);
     }
 
-    private String getNewRecordName() {
-        return countForRecord == 0 ? pathRecord + RESPONSE_RECORD_NAME : pathRecord + "Response_" + countForRecord;
+    /**
+     * Check whether the response is returned without a status code record, ex: `200` for `get` and `201` for `post`.
+     */
+    private boolean isWithOutStatusCode(String responseCode) {
+
+        return (httpMethod.equals(POST) && responseCode.equals(GeneratorConstants.HTTP_201)) ||
+                (!httpMethod.equals(POST) && responseCode.equals(GeneratorConstants.HTTP_200));
+    }
+
+    /**
+     * Returns the name for an inline response record. The name only depends on the resource path, the HTTP method
+     * (other than `get`), the status code (when the operation has several responses) and the position of the media
+     * type, so the same record name is generated regardless of the order in which the resources are generated.
+     * ex: `PetsResponse`, `PetsPostResponse`, `PetsBadRequestResponse`, `PetsResponse_1`
+     */
+    private String getNewRecordName(String responseCode, int mediaTypeIndex) {
+
+        StringBuilder recordName = new StringBuilder(pathRecord);
+        if (!httpMethod.equals(GET)) {
+            recordName.append(GeneratorUtils.getValidName(httpMethod, true));
+        }
+        String code = GeneratorConstants.HTTP_CODES_DES.get(responseCode);
+        if (hasMultipleResponses && code != null && !isWithOutStatusCode(responseCode)) {
+            recordName.append(code);
+        }
+        recordName.append(RESPONSE_RECORD_NAME);
+        if (mediaTypeIndex > 0) {
+            recordName.append("_").append(mediaTypeIndex);
+        }
+        return recordName.toString();
     }
 
     /**
-     * Create recordType TypeDescriptor.
+     * Create recordType TypeDescriptor. The status code is not repeated in the name of the record when the body is an
+     * inline response record named with the status code, ex: `BadRequestPetsResponse` for `PetsBadRequestResponse`.
      */
     private SimpleNameReferenceNode createReturnTypeInclusionRecord(String statusCode, TypeDescriptorNode type) {
 
-        String recordName = statusCode + GeneratorUtils.getValidName(type.toString(), true);
+        String typeName = type.toString().trim();
+        int statusCodeIndex = typeName.lastIndexOf(statusCode + RESPONSE_RECORD_NAME);
+        if (inlineRecordSchemas.containsKey(typeName) && statusCodeIndex >= 0) {
+            typeName = typeName.substring(0, statusCodeIndex) + typeName.substring(statusCodeIndex +
+                    statusCode.length());
+        }
+        String recordName = statusCode + GeneratorUtils.getValidName(typeName, true);
         Token recordKeyWord = createToken(RECORD_KEYWORD);
         Token bodyStartDelimiter = createIdentifierToken("{|");
         // Create record fields
@@ -32,6 +32,7 @@ public class OASServiceMetadata {
     private final boolean nullable;
     private final boolean generateServiceType;
     private final boolean generateWithoutDataBinding;
+    private final boolean mock;
 
     private OASServiceMetadata(Builder serviceMetadataBuilder) {
         this.openAPI = serviceMetadataBuilder.openAPI;
@@ -39,6 +40,7 @@ public class OASServiceMetadata {
         this.nullable = serviceMetadataBuilder.nullable;
         this.generateServiceType = serviceMetadataBuilder.generateServiceType;
         this.generateWithoutDataBinding = serviceMetadataBuilder.generateWithoutDataBinding;
+        this.mock = serviceMetadataBuilder.mock;
     }
 
     public OpenAPI getOpenAPI() {
@@ -61,6 +63,10 @@ public class OASServiceMetadata {
         return generateWithoutDataBinding;
     }
 
+    public boolean isMock() {
+        return mock;
+    }
+
     /**
      * Service generation meta data builder class.
      */
@@ -74,6 +80,8 @@ public class OASServiceMetadata {
 
         private boolean generateWithoutDataBinding = false;
 
+        private boolean mock = false;
+
         public Builder withOpenAPI(OpenAPI openAPI) {
             this.openAPI = openAPI;
             return this;
@@ -99,6 +107,11 @@ public class OASServiceMetadata {
             return this;
         }
 
+        public Builder withMock(boolean mock) {
+            this.mock = mock;
+            return this;
+        }
+
         public OASServiceMetadata build() {
             return new OASServiceMetadata(this);
         }
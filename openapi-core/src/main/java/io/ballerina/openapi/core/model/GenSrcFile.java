@@ -18,6 +18,13 @@
 
 package io.ballerina.openapi.core.model;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
 /**
  * Model class to hold generated source file information.
  *
@@ -25,6 +32,7 @@ package io.ballerina.openapi.core.model;
  */
 public class GenSrcFile {
     private String content;
+    private Path contentFile;
     private String fileName;
     private String pkgName;
     private GenFileType type;
@@ -53,16 +61,51 @@ public class GenSrcFile {
 
     public GenSrcFile(GenFileType type, String pkgName, String fileName, String content) {
         this.type = type;
+        this.pkgName = pkgName;
         this.fileName = fileName;
         this.content = content;
     }
 
+    /**
+     * Create a generated source file whose content is kept in the given file instead of the memory, so that large
+     * sources can be written to the destination without reading them into the memory.
+     *
+     * @param type        type of the generated source file
+     * @param pkgName     package name
+     * @param fileName    name of the generated source file
+     * @param contentFile file which has the content of the generated source file
+     */
+    public GenSrcFile(GenFileType type, String pkgName, String fileName, Path contentFile) {
+        this.type = type;
+        this.pkgName = pkgName;
+        this.fileName = fileName;
+        this.contentFile = contentFile;
+    }
+
+    /**
+     * Returns the content of the generated source file. The content is read when it is kept in a file.
+     */
     public String getContent() {
+        if (content == null && contentFile != null) {
+            try {
+                return Files.readString(contentFile, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
         return content;
     }
 
     public void setContent(String content) {
         this.content = content;
+        this.contentFile = null;
+    }
+
+    /**
+     * Returns the file which has the content of the generated source file, when the content is not kept in memory.
+     */
+    public Optional<Path> getContentFile() {
+        return Optional.ofNullable(contentFile);
     }
 
     public String getFileName() {
@@ -17,6 +17,7 @@
  */
 
 module io.ballerina.openapi.core {
+    requires com.fasterxml.jackson.databind;
     requires handlebars;
     requires info.picocli;
     requires io.ballerina.lang;
@@ -1,5 +1,7 @@
 import ballerina/url;
 import ballerina/mime;
+import ballerina/http;
+import ballerina/io;
 
 # Represents encoding mechanism details.
 type Encoding record {
@@ -284,3 +286,218 @@ isolated function createBodyParts(record {|anydata...;|} anyRecord, map<Encoding
     }
     return entities;
 }
+
+# Represents the content of a binary part in a multipart request, which is streamed to the wire when sending.
+public type FileContent record {|
+    # Path of the file to be sent or a stream of the bytes to be sent
+    string|stream<byte[], io:Error?> content;
+    # Name of the file given in the `Content-Disposition` header of the part
+    string fileName?;
+|};
+
+# Add a body part for the given payload field. Binary contents are set as streamed entity bodies without
+# reading them into memory.
+#
+# + bodyParts - Body parts of the request
+# + name - Name of the part
+# + value - Value of the payload field
+# + contentType - Content type of the part given in the encoding
+# + headers - Headers of the part given in the encoding
+# + return - Returns an error if the part can not be created
+isolated function addBodyPart(mime:Entity[] bodyParts, string name, anydata|FileContent|FileContent[] value,
+        string? contentType = (), map<any> headers = {}) returns error? {
+    if value is () {
+        return;
+    }
+    if value is FileContent[] {
+        foreach FileContent fileContent in value {
+            check addBodyPart(bodyParts, name, fileContent, contentType, headers);
+        }
+        return;
+    }
+    mime:Entity entity = new mime:Entity();
+    if value is FileContent {
+        string? fileName = value?.fileName;
+        string disposition = fileName is string ? string `form-data; name=${name}; filename=${fileName}`
+            : string `form-data; name=${name};`;
+        entity.setContentDisposition(mime:getContentDispositionObject(disposition));
+        string|stream<byte[], io:Error?> content = value.content;
+        if content is string {
+            entity.setFileAsEntityBody(content, contentType ?: mime:APPLICATION_OCTET_STREAM);
+        } else {
+            entity.setByteStream(content, contentType ?: mime:APPLICATION_OCTET_STREAM);
+        }
+    } else {
+        entity.setContentDisposition(mime:getContentDispositionObject(string `form-data; name=${name};`));
+        if value is byte[] {
+            entity.setByteArray(value);
+        } else if value is SimpleBasicType|SimpleBasicType[] {
+            entity.setText(value.toString());
+        } else {
+            entity.setJson(value.toJson());
+        }
+        if contentType is string {
+            check entity.setContentType(contentType);
+        }
+    }
+    foreach var [headerName, headerValue] in headers.entries() {
+        if headerValue is SimpleBasicType {
+            entity.setHeader(headerName, headerValue.toString());
+        }
+    }
+    bodyParts.push(entity);
+}
+
+# Represents a single event received from a `text/event-stream` response.
+public type SseEvent record {|
+    # The event type given in the `event` field
+    string event?;
+    # The event ID given in the `id` field
+    string id?;
+    # The event payload. Values of multiple `data` fields in the same event are joined with a line feed
+    string data = "";
+    # The reconnection time given in the `retry` field in milliseconds
+    int 'retry?;
+|};
+
+# Convert the given bytes of a line into a string by removing the trailing carriage return.
+#
+# + line - Bytes of the line without the line feed
+# + return - Line as a string or an error if the bytes are not valid UTF-8
+isolated function getLineFromBytes(byte[] line) returns string|error {
+    string value = check string:fromBytes(line);
+    return value.endsWith("\r") ? value.substring(0, value.length() - 1) : value;
+}
+
+# Splits a byte stream into lines as the bytes arrive, without buffering the whole payload. The lines are read from
+# an offset of the buffer, and the read bytes are dropped once per chunk.
+class LineStream {
+    private final stream<byte[], io:Error?> byteStream;
+    private byte[] buffer = [];
+    private int offset = 0;
+    private int searchIndex = 0;
+    private boolean completed = false;
+
+    isolated function init(stream<byte[], io:Error?> byteStream) {
+        self.byteStream = byteStream;
+    }
+
+    public isolated function next() returns record {|string value;|}|error? {
+        while true {
+            int? index = self.searchIndex < self.buffer.length() ? self.buffer.indexOf(10, self.searchIndex) : ();
+            if index is int {
+                byte[] line = self.buffer.slice(self.offset, index);
+                self.offset = index + 1;
+                self.searchIndex = self.offset;
+                return {value: check getLineFromBytes(line)};
+            }
+            // The bytes after the last line are not searched again when the next chunk arrives
+            self.searchIndex = self.buffer.length();
+            if self.completed {
+                if self.offset == self.buffer.length() {
+                    return ();
+                }
+                byte[] line = self.buffer.slice(self.offset);
+                self.buffer = [];
+                self.offset = 0;
+                self.searchIndex = 0;
+                return {value: check getLineFromBytes(line)};
+            }
+            record {|byte[] value;|}? chunk = check self.byteStream.next();
+            if chunk is () {
+                self.completed = true;
+            } else {
+                if self.offset > 0 {
+                    self.buffer = self.buffer.slice(self.offset);
+                    self.searchIndex -= self.offset;
+                    self.offset = 0;
+                }
+                self.buffer.push(...chunk.value);
+            }
+        }
+    }
+
+    public isolated function close() returns error? {
+        return self.byteStream.close();
+    }
+}
+
+# Parses the lines of a `text/event-stream` payload into events as they arrive.
+class SseEventStream {
+    private final LineStream lineStream;
+
+    isolated function init(LineStream lineStream) {
+        self.lineStream = lineStream;
+    }
+
+    public isolated function next() returns record {|SseEvent value;|}|error? {
+        SseEvent sseEvent = {};
+        string[] data = [];
+        while true {
+            record {|string value;|}? nextLine = check self.lineStream.next();
+            if nextLine is () {
+                if data.length() == 0 {
+                    return ();
+                }
+                sseEvent.data = string:'join("\n", ...data);
+                return {value: sseEvent};
+            }
+            string line = nextLine.value;
+            if line.length() == 0 {
+                // An empty line dispatches the event
+                if data.length() > 0 {
+                    sseEvent.data = string:'join("\n", ...data);
+                    return {value: sseEvent};
+                }
+                sseEvent = {};
+                continue;
+            }
+            if line.startsWith(":") {
+                // Comment line
+                continue;
+            }
+            int? separator = line.indexOf(":");
+            string fieldName = separator is int ? line.substring(0, separator) : line;
+            string value = separator is int ? line.substring(separator + 1) : "";
+            if value.startsWith(" ") {
+                value = value.substring(1);
+            }
+            if fieldName == "data" {
+                data.push(value);
+            } else if fieldName == "event" {
+                sseEvent.event = value;
+            } else if fieldName == "id" {
+                sseEvent.id = value;
+            } else if fieldName == "retry" {
+                int|error 'retry = int:fromString(value);
+                if 'retry is int {
+                    sseEvent.'retry = 'retry;
+                }
+            }
+        }
+    }
+
+    public isolated function close() returns error? {
+        return self.lineStream.close();
+    }
+}
+
+# Get the payload of a `text/event-stream` response as a stream of events.
+#
+# + response - Response received for the request
+# + return - Stream of events or an error if the payload can not be read
+isolated function getSseEventStream(http:Response response) returns stream<SseEvent, error?>|error {
+    stream<byte[], io:Error?> byteStream = check response.getByteStream();
+    SseEventStream eventStream = new (new LineStream(byteStream));
+    return new (eventStream);
+}
+
+# Get the non-empty lines of an `application/x-ndjson` response as a stream.
+#
+# + response - Response received for the request
+# + return - Stream of lines or an error if the payload can not be read
+isolated function getNdjsonLineStream(http:Response response) returns stream<string, error?>|error {
+    stream<byte[], io:Error?> byteStream = check response.getByteStream();
+    stream<string, error?> lines = new (new LineStream(byteStream));
+    return lines.filter(isolated function(string line) returns boolean => line.trim().length() > 0);
+}
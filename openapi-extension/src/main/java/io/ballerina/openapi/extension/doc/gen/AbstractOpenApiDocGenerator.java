@@ -29,6 +29,7 @@ import io.ballerina.openapi.extension.context.OpenApiDocContext;
 import io.ballerina.openapi.service.mapper.ServiceToOpenAPIMapper;
 import io.ballerina.openapi.service.mapper.model.OASGenerationMetaInfo;
 import io.ballerina.openapi.service.mapper.model.OASResult;
+import io.ballerina.openapi.service.mapper.utils.OpenAPIContractCache;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
@@ -37,7 +38,6 @@ import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 
@@ -86,7 +86,8 @@ public abstract class AbstractOpenApiDocGenerator implements OpenApiDocGenerator
                     if (resolverResponse.getContractPath().isEmpty()) {
                         return;
                     }
-                    String openApiDefinition = Files.readString(resolverResponse.getContractPath().get());
+                    String openApiDefinition = OpenAPIContractCache.getContent(
+                            resolverResponse.getContractPath().get());
                     updateOpenApiContext(context, serviceId, openApiDefinition, embed);
                 } else {
                     // generate open-api doc and update the context if the `contract` configuration is not available
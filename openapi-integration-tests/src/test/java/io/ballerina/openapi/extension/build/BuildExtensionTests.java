@@ -26,6 +26,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -142,6 +143,27 @@ public class BuildExtensionTests {
                 "tests_module_test_openapi.yaml")));
     }
 
+    @Test(description = "Check --export-openapi flag does not generate the unchanged services again")
+    public void buildOptionWithUnchangedServices() throws IOException, InterruptedException {
+        List<String> buildArgs = new LinkedList<>();
+        buildArgs.add("--export-openapi");
+        boolean successful = executeBuild(DISTRIBUTION_FILE_NAME,
+                TEST_RESOURCE.resolve("project_4"), buildArgs);
+        Assert.assertTrue(successful);
+        Path contractPath = RESOURCE.resolve("build/project_4/target/openapi/greeting_openapi.yaml");
+        Path fingerprintPath = RESOURCE.resolve("build/project_4/target/openapi-fingerprints/greeting_openapi.yaml");
+        Assert.assertTrue(Files.exists(fingerprintPath));
+        // The fingerprint of the service is followed by the written file and the digest of its definition
+        List<String> fingerprint = Files.readAllLines(fingerprintPath);
+        Assert.assertEquals(fingerprint.size(), 3);
+        Assert.assertEquals(fingerprint.get(1), "greeting_openapi.yaml");
+        FileTime lastModifiedTime = Files.getLastModifiedTime(contractPath);
+
+        successful = executeBuild(DISTRIBUTION_FILE_NAME, TEST_RESOURCE.resolve("project_4"), buildArgs);
+        Assert.assertTrue(successful);
+        Assert.assertEquals(Files.getLastModifiedTime(contractPath), lastModifiedTime);
+    }
+
 
     private void executeCommand(String resourcePath) throws IOException, InterruptedException {
         List<String> buildArgs = new LinkedList<>();